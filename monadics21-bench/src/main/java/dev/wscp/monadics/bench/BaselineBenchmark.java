@@ -0,0 +1,93 @@
+package dev.wscp.monadics.bench;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Plain JDK equivalents of the operations in {@link ResultBenchmark} and {@link OptionBenchmark},
+ * to compare the monadic types against {@link Optional}, try/catch and null checks.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class BaselineBenchmark {
+    private Integer value = 42;
+    private Integer nullValue = null;
+    private int zero = 0;
+    private Optional<Integer> present = Optional.of(value);
+    private Optional<Integer> empty = Optional.empty();
+
+    // Optional
+
+    @Benchmark
+    public Optional<Integer> optionalOf() {
+        return Optional.of(value);
+    }
+
+    @Benchmark
+    public Optional<Integer> optionalMapPresent() {
+        return present.map(it -> it + 1);
+    }
+
+    @Benchmark
+    public Optional<Integer> optionalMapEmpty() {
+        return empty.map(it -> it + 1);
+    }
+
+    @Benchmark
+    public Optional<Integer> optionalFlatMapPresent() {
+        return present.flatMap(it -> Optional.of(it + 1));
+    }
+
+    @Benchmark
+    public Integer optionalOrElseEmpty() {
+        return empty.orElse(value);
+    }
+
+    @Benchmark
+    public long optionalStreamPresent() {
+        return present.stream().count();
+    }
+
+    // try/catch
+
+    @Benchmark
+    public Object tryCatchOk() {
+        try {
+            return value / 2;
+        } catch (ArithmeticException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object tryCatchThrows() {
+        try {
+            return value / zero;
+        } catch (ArithmeticException e) {
+            return e;
+        }
+    }
+
+    // Null checks
+
+    @Benchmark
+    public Integer nullCheckPresent() {
+        return value != null ? value + 1 : null;
+    }
+
+    @Benchmark
+    public Integer nullCheckAbsent() {
+        return nullValue != null ? nullValue + 1 : null;
+    }
+
+    @Benchmark
+    public Integer nullCheckDefault() {
+        return nullValue != null ? nullValue : value;
+    }
+}
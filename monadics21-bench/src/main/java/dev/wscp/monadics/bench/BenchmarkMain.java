@@ -0,0 +1,47 @@
+package dev.wscp.monadics.bench;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Entry point of the benchmark jar. Hands the command line to JMH's own {@link Main}, so listing, help and error
+ * reporting work as usual, adding {@code -prof gc} when it is not there already so allocation per operation is
+ * reported next to the timings.
+ */
+public final class BenchmarkMain {
+    private BenchmarkMain() {}
+
+    public static void main(String[] args) throws IOException {
+        Main.main(profilesAllocation(args) ? args : withGcProfiler(args));
+    }
+
+    /**
+     * @return Whether the arguments already ask for the GC profiler, or cannot be parsed,
+     *         in which case they are left alone for JMH to report.
+     */
+    static boolean profilesAllocation(String[] args) {
+        try {
+            for (var profiler : new CommandLineOptions(args).getProfilers()) {
+                var name = profiler.getKlass();
+                if (name.equals("gc") || name.equals(GCProfiler.class.getName())) {
+                    return true;
+                }
+            }
+            return false;
+        } catch (CommandLineOptionException e) {
+            return true;
+        }
+    }
+
+    private static String[] withGcProfiler(String[] args) {
+        var extended = Arrays.copyOf(args, args.length + 2);
+        extended[args.length] = "-prof";
+        extended[args.length + 1] = "gc";
+        return extended;
+    }
+}
@@ -0,0 +1,58 @@
+package dev.wscp.monadics.bench;
+
+import dev.wscp.monadics.result.Result;
+import dev.wscp.monadics.util.ResultBindingException;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Compares the cost of escaping a binding block through {@link Result#bind()}, which throws a stackless exception,
+ * with the previous implementation, which threw a freshly allocated {@link ResultBindingException} with a filled in stack trace on every error.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class BindingBenchmark {
+    private final Result<Integer, String> ok = Result.okOf(1);
+    private final Result<Integer, String> err = Result.errOf("bad");
+
+    @Benchmark
+    public Result<Integer, String> bindingOk() {
+        return Result.binding(String.class, () -> ok.bind() + ok.bind());
+    }
+
+    @Benchmark
+    public Result<Integer, String> bindingErr() {
+        return Result.binding(String.class, () -> ok.bind() + err.bind());
+    }
+
+    @Benchmark
+    public Result<Integer, String> legacyBindingOk() {
+        return legacyBinding(String.class, () -> legacyBind(ok) + legacyBind(ok));
+    }
+
+    @Benchmark
+    public Result<Integer, String> legacyBindingErr() {
+        return legacyBinding(String.class, () -> legacyBind(ok) + legacyBind(err));
+    }
+
+    private static <T, E> T legacyBind(Result<T, E> result) {
+        if (result.isOk()) {
+            return result.unwrap();
+        }
+        throw new ResultBindingException("Bad result binding.", null, result.unwrapError());
+    }
+
+    private static <T, E> Result<T, E> legacyBinding(Class<E> errType, Supplier<T> action) {
+        try {
+            return Result.okOfNullable(action.get());
+        } catch (ResultBindingException r) {
+            return Result.errOf(errType.cast(r.originalErr));
+        }
+    }
+}
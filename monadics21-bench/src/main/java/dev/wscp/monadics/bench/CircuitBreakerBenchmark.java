@@ -0,0 +1,54 @@
+package dev.wscp.monadics.bench;
+
+import dev.wscp.monadics.resilience.CircuitBreaker;
+import dev.wscp.monadics.result.Result;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures what {@link CircuitBreaker#call} adds to a call while the breaker is closed, against calling the
+ * action directly, and what a rejected call costs while it is open. {@link #closedShared()} runs the closed path
+ * from several threads at once, to show what the striped window saves under contention.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class CircuitBreakerBenchmark {
+    private final Result<Integer, String> ok = Result.okOf(1);
+    private final CircuitBreaker<String> closed = CircuitBreaker.builder("open").build();
+    private final CircuitBreaker<String> open = CircuitBreaker.builder("open")
+            .minimumCalls(1)
+            .openDuration(Duration.ofDays(1))
+            .build();
+
+    @Setup
+    public void setup() {
+        open.call(() -> Result.errOf("down"));
+    }
+
+    @Benchmark
+    public Result<Integer, String> direct() {
+        return ok;
+    }
+
+    @Benchmark
+    public Result<Integer, String> closed() {
+        return closed.call(() -> ok);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Result<Integer, String> closedShared() {
+        return closed.call(() -> ok);
+    }
+
+    @Benchmark
+    public Result<Integer, String> open() {
+        return open.call(() -> ok);
+    }
+}
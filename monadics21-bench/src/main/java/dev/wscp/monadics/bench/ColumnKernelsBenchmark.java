@@ -0,0 +1,106 @@
+package dev.wscp.monadics.bench;
+
+import dev.wscp.monadics.option.ColumnKernels;
+import dev.wscp.monadics.vector.VectorColumnKernels;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the scalar {@link ColumnKernels} against {@link VectorColumnKernels} on the raw arrays of a column,
+ * small enough to stay in L2 so the loops, not memory bandwidth, set the pace.
+ * To limit the vector kernels to 256-bit registers, run with
+ * {@code -jvmArgsAppend "--add-modules=jdk.incubator.vector -XX:UseAVX=2"}: the option replaces the one set here.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Benchmark)
+public class ColumnKernelsBenchmark {
+    private static final int SIZE = 1 << 16;
+
+    @Param({"scalar", "vector"})
+    public String kernels;
+
+    @Param({"0.5", "0.95"})
+    public double density;
+
+    private ColumnKernels impl;
+    private int[] ints;
+    private long[] longs;
+    private double[] doubles;
+    private long[] present;
+    private long[] otherPresent;
+    private long[] otherLongs;
+    private long[] into;
+
+    @Setup
+    public void setup() {
+        impl = kernels.equals("vector") ? new VectorColumnKernels() : ColumnKernels.scalar();
+        var random = new SplittableRandom(42);
+        ints = new int[SIZE];
+        longs = new long[SIZE];
+        doubles = new double[SIZE];
+        otherLongs = new long[SIZE];
+        into = new long[SIZE];
+        present = new long[SIZE >>> 6];
+        otherPresent = new long[SIZE >>> 6];
+        for (int i = 0; i < SIZE; i++) {
+            if (random.nextDouble() < density) {
+                present[i >>> 6] |= 1L << i;
+                ints[i] = random.nextInt(1_000_000);
+                longs[i] = random.nextLong(1_000_000);
+                doubles[i] = random.nextDouble();
+            }
+            if (random.nextDouble() < density) {
+                otherPresent[i >>> 6] |= 1L << i;
+                otherLongs[i] = random.nextLong(1_000_000);
+            }
+        }
+    }
+
+    @Benchmark
+    public long sumInts() {
+        return impl.sum(ints);
+    }
+
+    @Benchmark
+    public long sumLongs() {
+        return impl.sum(longs);
+    }
+
+    @Benchmark
+    public int minInts() {
+        return impl.min(ints, present);
+    }
+
+    @Benchmark
+    public long maxLongs() {
+        return impl.max(longs, present);
+    }
+
+    @Benchmark
+    public double minDoubles() {
+        return impl.min(doubles, present);
+    }
+
+    @Benchmark
+    public long[] greaterThanLongs() {
+        return impl.greaterThan(longs, present, 500_000L);
+    }
+
+    @Benchmark
+    public long[] orLongs() {
+        impl.or(longs, present, otherLongs, into);
+        return into;
+    }
+
+    @Benchmark
+    public long[] xorLongs() {
+        impl.xor(longs, present, otherLongs, otherPresent, into);
+        return into;
+    }
+}
@@ -0,0 +1,66 @@
+package dev.wscp.monadics.bench;
+
+import dev.wscp.monadics.option.IntOption;
+import dev.wscp.monadics.option.Option;
+import dev.wscp.monadics.result.Result;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Compares flattening a stream through {@code flatMap(toStream)}, which builds a stream per element,
+ * with {@code mapMulti(forEach)}, which pushes the value straight downstream.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class FlattenBenchmark {
+    @Param({"10000"})
+    public int size;
+
+    private List<Option<Integer>> options;
+    private List<Result<Integer, String>> results;
+    private List<IntOption> intOptions;
+
+    @Setup
+    public void setup() {
+        options = IntStream.range(0, size).<Option<Integer>>mapToObj(it -> it % 3 == 0 ? Option.<Integer>none() : Option.someOf(it)).toList();
+        results = IntStream.range(0, size).<Result<Integer, String>>mapToObj(it -> it % 3 == 0 ? Result.<Integer, String>errOf("bad") : Result.<Integer, String>okOf(it)).toList();
+        intOptions = IntStream.range(0, size).mapToObj(it -> it % 3 == 0 ? IntOption.none() : IntOption.someOf(it)).toList();
+    }
+
+    @Benchmark
+    public long optionFlatMap() {
+        return options.stream().flatMap(Option::toStream).mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long optionMapMulti() {
+        return options.stream().<Integer>mapMulti(Option::forEach).mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long resultFlatMap() {
+        return results.stream().flatMap(Result::toStream).mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long resultMapMulti() {
+        return results.stream().<Integer>mapMulti(Result::forEach).mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long intOptionFlatMap() {
+        return intOptions.stream().flatMapToInt(IntOption::toStream).asLongStream().sum();
+    }
+
+    @Benchmark
+    public long intOptionMapMulti() {
+        return intOptions.stream().mapMultiToInt(IntOption::forEach).asLongStream().sum();
+    }
+}
@@ -0,0 +1,90 @@
+package dev.wscp.monadics.bench;
+
+import dev.wscp.monadics.result.MappedResultBatch;
+import dev.wscp.monadics.result.ResultBatch;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares writing and scanning ten million long results with int error codes in a {@link MappedResultBatch}
+ * against a {@link ResultBatch} of boxed values. The mapped batch is scanned through {@link MappedResultBatch#open(Path)},
+ * as a later step would read it. writeMapped includes flushing the file, so it is bounded by the disk.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class MappedResultBatchBenchmark {
+    private static final int SIZE = 10_000_000;
+
+    private Path file;
+    private Path scratch;
+    private MappedResultBatch mapped;
+    private ResultBatch<Long, Integer> heap;
+
+    @Setup
+    public void setup() throws IOException {
+        file = Files.createTempFile("monadics-batch", ".bin");
+        scratch = Files.createTempFile("monadics-batch", ".bin");
+        write(file);
+        mapped = MappedResultBatch.open(file);
+        heap = buildHeap();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        mapped = null;
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(scratch);
+    }
+
+    @Benchmark
+    public MappedResultBatch writeMapped() throws IOException {
+        return write(scratch);
+    }
+
+    private static MappedResultBatch write(Path file) throws IOException {
+        var builder = MappedResultBatch.create(file, SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            if (i % 20 == 0) {
+                builder.addErr(i % 7);
+            } else {
+                builder.addOk(i);
+            }
+        }
+        return builder.build();
+    }
+
+    @Benchmark
+    public ResultBatch<Long, Integer> buildHeap() {
+        var builder = ResultBatch.<Long, Integer>builder(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            if (i % 20 == 0) {
+                builder.addErr(i % 7);
+            } else {
+                builder.addOk((long) i);
+            }
+        }
+        return builder.build();
+    }
+
+    @Benchmark
+    public long sumMapped() {
+        long[] sum = new long[1];
+        mapped.forEachOk(value -> sum[0] += value);
+        return sum[0];
+    }
+
+    @Benchmark
+    public long sumHeap() {
+        long[] sum = new long[1];
+        heap.forEachOk(value -> sum[0] += value);
+        return sum[0];
+    }
+}
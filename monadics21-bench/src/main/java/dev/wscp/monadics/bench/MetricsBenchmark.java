@@ -0,0 +1,48 @@
+package dev.wscp.monadics.bench;
+
+import dev.wscp.monadics.metrics.Metrics;
+import dev.wscp.monadics.metrics.StageRegistry;
+import dev.wscp.monadics.result.Result;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures the overhead of {@link Result#timed(String, java.util.function.Supplier)} when many threads record
+ * into the same stage, against a single shared {@link AtomicLong} counter, which is what striping avoids.
+ * Run with {@code -t 64} to reproduce the contention the counters are designed for.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class MetricsBenchmark {
+    private final Result<Integer, String> ok = Result.okOf(1);
+    private final AtomicLong shared = new AtomicLong();
+
+    @Setup
+    public void setup() {
+        Metrics.setSink(new StageRegistry());
+    }
+
+    @Benchmark
+    public Result<Integer, String> untimed() {
+        return ok;
+    }
+
+    @Benchmark
+    public Result<Integer, String> timed() {
+        return Result.timed("stage", () -> ok);
+    }
+
+    @Benchmark
+    public Result<Integer, String> sharedAtomicCounter() {
+        long start = System.nanoTime();
+        var result = ok;
+        shared.addAndGet(System.nanoTime() - start);
+        return result;
+    }
+}
@@ -0,0 +1,231 @@
+package dev.wscp.monadics.bench;
+
+import dev.wscp.monadics.option.Option;
+import dev.wscp.monadics.result.Err;
+import dev.wscp.monadics.result.Result;
+import dev.wscp.monadics.util.UnwrapException;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Covers every public operation of {@link Option}, once for a Some receiver and once for a None receiver.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class OptionBenchmark {
+    private Integer value = 42;
+    private Integer nullValue = null;
+    private Optional<Integer> present = Optional.of(value);
+    private Optional<Integer> empty = Optional.empty();
+    private Option<Integer> some = Option.someOf(value);
+    private Option<Integer> none = Option.none();
+    private Err<Integer, String> missing = Result.errOf("missing");
+
+    // Factories
+
+    @Benchmark
+    public Option<Integer> noneOf() {
+        return Option.none();
+    }
+
+    @Benchmark
+    public Option<Integer> someOf() {
+        return Option.someOf(value);
+    }
+
+    @Benchmark
+    public Option<Integer> someOfNullableSome() {
+        return Option.someOfNullable(value);
+    }
+
+    @Benchmark
+    public Option<Integer> someOfNullableNone() {
+        return Option.someOfNullable(nullValue);
+    }
+
+    @Benchmark
+    public Option<Integer> fromOptionalSome() {
+        return Option.fromOptional(present);
+    }
+
+    @Benchmark
+    public Option<Integer> fromOptionalNone() {
+        return Option.fromOptional(empty);
+    }
+
+    // Queries and conversions
+
+    @Benchmark
+    public boolean isSomeSome() {
+        return some.isSome();
+    }
+
+    @Benchmark
+    public boolean isSomeNone() {
+        return none.isSome();
+    }
+
+    @Benchmark
+    public boolean isNoneSome() {
+        return some.isNone();
+    }
+
+    @Benchmark
+    public boolean isNoneNone() {
+        return none.isNone();
+    }
+
+    @Benchmark
+    public Optional<Integer> toOptionalSome() {
+        return some.toOptional();
+    }
+
+    @Benchmark
+    public Optional<Integer> toOptionalNone() {
+        return none.toOptional();
+    }
+
+    @Benchmark
+    public long toStreamSome() {
+        return some.toStream().count();
+    }
+
+    @Benchmark
+    public long toStreamNone() {
+        return none.toStream().count();
+    }
+
+    // Extraction
+
+    @Benchmark
+    public Integer unwrapSome() {
+        return some.unwrap();
+    }
+
+    @Benchmark
+    public Object unwrapNone() {
+        try {
+            return none.unwrap();
+        } catch (UnwrapException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Integer unwrapOrDefaultSome() {
+        return some.unwrapOrDefault(value);
+    }
+
+    @Benchmark
+    public Integer unwrapOrDefaultNone() {
+        return none.unwrapOrDefault(value);
+    }
+
+    @Benchmark
+    public Integer unwrapOrNullSome() {
+        return some.unwrapOrNull();
+    }
+
+    @Benchmark
+    public Integer unwrapOrNullNone() {
+        return none.unwrapOrNull();
+    }
+
+    // Combinators
+
+    @Benchmark
+    public Option<Integer> mapSome() {
+        return some.map(it -> it + 1);
+    }
+
+    @Benchmark
+    public Option<Integer> mapNone() {
+        return none.map(it -> it + 1);
+    }
+
+    @Benchmark
+    public Option<Integer> mapDefaultSome() {
+        return some.mapDefault(it -> it + 1, value);
+    }
+
+    @Benchmark
+    public Option<Integer> mapDefaultNone() {
+        return none.mapDefault(it -> it + 1, value);
+    }
+
+    @Benchmark
+    public Option<Integer> andThenSome() {
+        return some.andThen(it -> Option.someOf(it + 1));
+    }
+
+    @Benchmark
+    public Option<Integer> andThenNone() {
+        return none.andThen(it -> Option.someOf(it + 1));
+    }
+
+    @Benchmark
+    public Option<Integer> orElseSome() {
+        return some.orElse(() -> some);
+    }
+
+    @Benchmark
+    public Option<Integer> orElseNone() {
+        return none.orElse(() -> some);
+    }
+
+    @Benchmark
+    public Option<Integer> orSome() {
+        return some.or(none);
+    }
+
+    @Benchmark
+    public Option<Integer> orNone() {
+        return none.or(some);
+    }
+
+    @Benchmark
+    public Option<Integer> andSome() {
+        return some.and(some);
+    }
+
+    @Benchmark
+    public Option<Integer> andNone() {
+        return none.and(some);
+    }
+
+    @Benchmark
+    public Option<Integer> xorSome() {
+        return some.xor(none);
+    }
+
+    @Benchmark
+    public Option<Integer> xorNone() {
+        return none.xor(none);
+    }
+
+    @Benchmark
+    public Result<Integer, String> okOrSome() {
+        return some.okOr(missing);
+    }
+
+    @Benchmark
+    public Result<Integer, String> okOrNone() {
+        return none.okOr(missing);
+    }
+
+    @Benchmark
+    public Result<Integer, String> okOrElseSome() {
+        return some.okOrElse(() -> "missing");
+    }
+
+    @Benchmark
+    public Result<Integer, String> okOrElseNone() {
+        return none.okOrElse(() -> "missing");
+    }
+}
@@ -0,0 +1,83 @@
+package dev.wscp.monadics.bench;
+
+import dev.wscp.monadics.option.LongOption;
+import dev.wscp.monadics.option.LongOptionColumn;
+import dev.wscp.monadics.option.Option;
+import dev.wscp.monadics.option.Some;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares bulk operations on a sparse column held as {@code Option<Long>[]} against a {@link LongOptionColumn}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class OptionColumnBenchmark {
+    private static final int SIZE = 1_000_000;
+
+    @Param({"0.5", "0.95"})
+    public double density;
+
+    private Option<Long>[] options;
+    private LongOptionColumn column;
+    private LongOptionColumn other;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        var random = new SplittableRandom(42);
+        options = (Option<Long>[]) new Option<?>[SIZE];
+        var builder = LongOptionColumn.builder(SIZE);
+        var otherBuilder = LongOptionColumn.builder(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            long value = random.nextLong(1_000_000);
+            if (random.nextDouble() < density) {
+                options[i] = Option.someOf(value);
+                builder.add(value);
+            } else {
+                options[i] = Option.none();
+                builder.addNone();
+            }
+            otherBuilder.add(random.nextDouble() < density ? LongOption.someOf(value) : LongOption.none());
+        }
+        column = builder.build();
+        other = otherBuilder.build();
+    }
+
+    @Benchmark
+    public long sumOptionArray() {
+        long sum = 0;
+        for (var option : options) {
+            if (option instanceof Some<Long>(Long value)) {
+                sum += value;
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sumColumn() {
+        return column.sum();
+    }
+
+    @Benchmark
+    public LongOption minColumn() {
+        return column.min();
+    }
+
+    @Benchmark
+    public LongOptionColumn mapColumn() {
+        return column.map(it -> it * 3);
+    }
+
+    @Benchmark
+    public LongOptionColumn orColumn() {
+        return column.or(other);
+    }
+}
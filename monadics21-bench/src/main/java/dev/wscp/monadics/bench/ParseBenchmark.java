@@ -0,0 +1,34 @@
+package dev.wscp.monadics.bench;
+
+import dev.wscp.monadics.parse.ParseError;
+import dev.wscp.monadics.parse.Parsers;
+import dev.wscp.monadics.result.IntResult;
+import dev.wscp.monadics.result.Result;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link Parsers#parseInt(CharSequence)} against wrapping {@link Integer#parseInt(String)}
+ * in {@link Result#runCatching(java.util.function.Supplier)}, for well-formed and malformed fields.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ParseBenchmark {
+    @Param({"123456", "12x456"})
+    public String field;
+
+    @Benchmark
+    public IntResult<ParseError> parsers() {
+        return Parsers.parseInt(field);
+    }
+
+    @Benchmark
+    public Result<Integer, Throwable> runCatching() {
+        return Result.runCatching(() -> Integer.parseInt(field));
+    }
+}
@@ -0,0 +1,76 @@
+package dev.wscp.monadics.bench;
+
+import dev.wscp.monadics.result.Result;
+import dev.wscp.monadics.result.ResultBatch;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares holding a million results as a {@code List<Result>} against a {@link ResultBatch}.
+ * The values are boxed up front, so the allocation figures only count what each layout adds per element.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ResultBatchBenchmark {
+    private static final int SIZE = 1_000_000;
+
+    private final Integer[] values = new Integer[SIZE];
+    private List<Result<Integer, String>> list;
+    private ResultBatch<Integer, String> batch;
+
+    @Setup
+    public void setup() {
+        for (int i = 0; i < SIZE; i++) {
+            values[i] = i;
+        }
+        list = buildList();
+        batch = buildBatch();
+    }
+
+    @Benchmark
+    public List<Result<Integer, String>> buildList() {
+        var results = new ArrayList<Result<Integer, String>>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            results.add(i % 20 == 0 ? Result.errOf("bad") : Result.okOf(values[i]));
+        }
+        return results;
+    }
+
+    @Benchmark
+    public ResultBatch<Integer, String> buildBatch() {
+        var builder = ResultBatch.<Integer, String>builder(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            if (i % 20 == 0) {
+                builder.addErr("bad");
+            } else {
+                builder.addOk(values[i]);
+            }
+        }
+        return builder.build();
+    }
+
+    @Benchmark
+    public long sumList() {
+        long sum = 0;
+        for (var result : list) {
+            if (result.isOk()) {
+                sum += result.unwrap();
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sumBatch() {
+        long[] sum = new long[1];
+        batch.forEachOk(value -> sum[0] += value);
+        return sum[0];
+    }
+}
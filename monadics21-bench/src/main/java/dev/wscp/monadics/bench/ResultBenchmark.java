@@ -0,0 +1,331 @@
+package dev.wscp.monadics.bench;
+
+import dev.wscp.monadics.option.Option;
+import dev.wscp.monadics.result.Result;
+import dev.wscp.monadics.util.ExceptionPolicy;
+import dev.wscp.monadics.util.UnwrapException;
+import dev.wscp.monadics.util.Unit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Covers every public operation of {@link Result}, once for an Ok receiver and once for an Err receiver.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ResultBenchmark {
+    private Integer value = 42;
+    private String error = "bad";
+    private int zero = 0;
+    private boolean flag = true;
+    private TimeUnit unit = TimeUnit.SECONDS;
+    private Result<Integer, String> ok = Result.okOf(value);
+    private Result<Integer, String> err = Result.errOf(error);
+    private Result<Integer, Throwable> throwableErr = Result.errOf(new IllegalStateException("bad"));
+
+    // Factories
+
+    @Benchmark
+    public Result<Integer, String> okOf() {
+        return Result.okOf(value);
+    }
+
+    @Benchmark
+    public Result<Integer, String> okOfNullable() {
+        return Result.okOfNullable(value);
+    }
+
+    @Benchmark
+    public Result<Integer, String> errOf() {
+        return Result.errOf(error);
+    }
+
+    @Benchmark
+    public Result<Integer, String> errOfNullable() {
+        return Result.errOfNullable(error);
+    }
+
+    @Benchmark
+    public Result<Boolean, String> okOfBoolean() {
+        return Result.okOfBoolean(flag);
+    }
+
+    @Benchmark
+    public Result<Integer, String> okOfInt() {
+        return Result.okOfInt(value);
+    }
+
+    @Benchmark
+    public Result<Unit, String> okUnit() {
+        return Result.okUnit();
+    }
+
+    @Benchmark
+    public Result<Integer, TimeUnit> errOfEnum() {
+        return Result.errOfEnum(unit);
+    }
+
+    @Benchmark
+    public Result<Integer, Throwable> runCatchingOk() {
+        return Result.runCatching(() -> value / 2);
+    }
+
+    @Benchmark
+    public Result<Integer, Throwable> runCatchingErr() {
+        return Result.runCatching(() -> value / zero);
+    }
+
+    // Queries
+
+    @Benchmark
+    public boolean isOkOk() {
+        return ok.isOk();
+    }
+
+    @Benchmark
+    public boolean isOkErr() {
+        return err.isOk();
+    }
+
+    @Benchmark
+    public boolean isErrOk() {
+        return ok.isErr();
+    }
+
+    @Benchmark
+    public boolean isErrErr() {
+        return err.isErr();
+    }
+
+    @Benchmark
+    public long toStreamOk() {
+        return ok.toStream().count();
+    }
+
+    @Benchmark
+    public long toStreamErr() {
+        return err.toStream().count();
+    }
+
+    // Extraction
+
+    @Benchmark
+    public Integer unwrapOk() {
+        return ok.unwrap();
+    }
+
+    @Benchmark
+    public Object unwrapErr() {
+        try {
+            return err.unwrap();
+        } catch (UnwrapException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object unwrapErrStackless() {
+        try {
+            return err.unwrapWith(ExceptionPolicy.STACKLESS);
+        } catch (UnwrapException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object unwrapThrowableErr() {
+        try {
+            return throwableErr.unwrap();
+        } catch (UnwrapException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Integer unwrapOrDefaultOk() {
+        return ok.unwrapOrDefault(zero);
+    }
+
+    @Benchmark
+    public Integer unwrapOrDefaultErr() {
+        return err.unwrapOrDefault(zero);
+    }
+
+    @Benchmark
+    public Integer unwrapOrNullOk() {
+        return ok.unwrapOrNull();
+    }
+
+    @Benchmark
+    public Integer unwrapOrNullErr() {
+        return err.unwrapOrNull();
+    }
+
+    @Benchmark
+    public Object unwrapErrorOk() {
+        try {
+            return ok.unwrapError();
+        } catch (UnwrapException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public String unwrapErrorErr() {
+        return err.unwrapError();
+    }
+
+    @Benchmark
+    public String unwrapErrorOrNullOk() {
+        return ok.unwrapErrorOrNull();
+    }
+
+    @Benchmark
+    public String unwrapErrorOrNullErr() {
+        return err.unwrapErrorOrNull();
+    }
+
+    @Benchmark
+    public String unwrapErrorOrDefaultOk() {
+        return ok.unwrapErrorOrDefault(error);
+    }
+
+    @Benchmark
+    public String unwrapErrorOrDefaultErr() {
+        return err.unwrapErrorOrDefault(error);
+    }
+
+    // Combinators
+
+    @Benchmark
+    public Result<Integer, String> mapOk() {
+        return ok.map(it -> it + 1);
+    }
+
+    @Benchmark
+    public Result<Integer, String> mapErr() {
+        return err.map(it -> it + 1);
+    }
+
+    @Benchmark
+    public Result<Integer, Integer> mapErrorOk() {
+        return ok.mapError(String::length);
+    }
+
+    @Benchmark
+    public Result<Integer, Integer> mapErrorErr() {
+        return err.mapError(String::length);
+    }
+
+    @Benchmark
+    public Result<Integer, String> andThenOk() {
+        return ok.andThen(it -> Result.okOf(it + 1));
+    }
+
+    @Benchmark
+    public Result<Integer, String> andThenErr() {
+        return err.andThen(it -> Result.okOf(it + 1));
+    }
+
+    @Benchmark
+    public Result<Integer, ? extends Throwable> andThenRunCatchingOk() {
+        return ok.andThenRunCatching(it -> it / 2);
+    }
+
+    @Benchmark
+    public Result<Integer, ? extends Throwable> andThenRunCatchingThrows() {
+        return ok.andThenRunCatching(it -> it / zero);
+    }
+
+    @Benchmark
+    public Result<Integer, ? extends Throwable> andThenRunCatchingErr() {
+        return err.andThenRunCatching(it -> it / 2);
+    }
+
+    @Benchmark
+    public Result<Integer, ? extends Throwable> andThenRunCatchingHandlerErr() {
+        return err.andThenRunCatching(it -> it / 2, IllegalStateException::new);
+    }
+
+    @Benchmark
+    public Result<Integer, Integer> orElseOk() {
+        return ok.orElse(it -> Result.okOf(it.length()));
+    }
+
+    @Benchmark
+    public Result<Integer, Integer> orElseErr() {
+        return err.orElse(it -> Result.okOf(it.length()));
+    }
+
+    @Benchmark
+    public Result<Integer, ArithmeticException> orElseRunCatchingOk() {
+        return ok.orElseRunCatching(ArithmeticException.class, String::length);
+    }
+
+    @Benchmark
+    public Result<Integer, ArithmeticException> orElseRunCatchingErr() {
+        return err.orElseRunCatching(ArithmeticException.class, String::length);
+    }
+
+    @Benchmark
+    public Result<Integer, ArithmeticException> orElseRunCatchingThrows() {
+        return err.orElseRunCatching(ArithmeticException.class, it -> it.length() / zero);
+    }
+
+    @Benchmark
+    public Result<String, Integer> swapOk() {
+        return ok.swap();
+    }
+
+    @Benchmark
+    public Result<String, Integer> swapErr() {
+        return err.swap();
+    }
+
+    @Benchmark
+    public Option<Integer> okOk() {
+        return ok.ok();
+    }
+
+    @Benchmark
+    public Option<Integer> okErr() {
+        return err.ok();
+    }
+
+    @Benchmark
+    public Option<String> errOk() {
+        return ok.err();
+    }
+
+    @Benchmark
+    public Option<String> errErr() {
+        return err.err();
+    }
+
+    // Binding
+
+    @Benchmark
+    public Result<Integer, String> bindingOk() {
+        return Result.binding(String.class, () -> ok.bind() + 1);
+    }
+
+    @Benchmark
+    public Result<Integer, String> bindingErr() {
+        return Result.binding(String.class, () -> err.bind() + 1);
+    }
+
+    @Benchmark
+    public void bindOutsideBindingErr(Blackhole bh) {
+        try {
+            bh.consume(err.bind());
+        } catch (RuntimeException e) {
+            bh.consume(e);
+        }
+    }
+}
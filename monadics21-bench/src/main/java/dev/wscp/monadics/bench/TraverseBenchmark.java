@@ -0,0 +1,63 @@
+package dev.wscp.monadics.bench;
+
+import dev.wscp.monadics.result.Result;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Compares sequential and parallel traversal of a large input, with and without an error in the middle.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class TraverseBenchmark {
+    @Param({"1000000"})
+    public int size;
+
+    private List<Integer> items;
+    private int failAt;
+
+    @Setup
+    public void setup() {
+        items = IntStream.range(0, size).boxed().toList();
+        failAt = size / 2;
+    }
+
+    private Result<Long, String> validate(Integer item) {
+        long hash = item;
+        for (int i = 0; i < 16; i++) {
+            hash = hash * 31 + (hash >>> 7);
+        }
+        return Result.okOf(hash);
+    }
+
+    private Result<Long, String> validateFailing(Integer item) {
+        return item == failAt ? Result.errOf("bad") : validate(item);
+    }
+
+    @Benchmark
+    public Result<List<Long>, String> sequentialOk() {
+        return Result.traverse(items, this::validate);
+    }
+
+    @Benchmark
+    public Result<List<Long>, String> parallelOk() {
+        return Result.parallelTraverse(items, this::validate);
+    }
+
+    @Benchmark
+    public Result<List<Long>, String> sequentialErr() {
+        return Result.traverse(items, this::validateFailing);
+    }
+
+    @Benchmark
+    public Result<List<Long>, String> parallelErr() {
+        return Result.parallelTraverse(items, this::validateFailing);
+    }
+}
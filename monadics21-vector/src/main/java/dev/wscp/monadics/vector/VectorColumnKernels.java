@@ -0,0 +1,429 @@
+package dev.wscp.monadics.vector;
+
+import dev.wscp.monadics.option.ColumnKernels;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link ColumnKernels} built on the incubating Vector API, registered as a service so the option columns pick it up
+ * from the class path. The JVM must be started with {@code --add-modules jdk.incubator.vector}; without it this class
+ * cannot be loaded, and the columns keep their scalar loops.
+ *
+ * <p>Every loop uses the preferred species of the platform, whose lane count divides 64, so a vector never straddles
+ * two words of a presence bitmap: the mask for lanes i to i + lanes - 1 is word i / 64 shifted right by i % 64.
+ * Elements past the last whole vector are handled by a scalar tail.</p>
+ *
+ * <p>min and max blend absent lanes to the identity and then reduce every lane, rather than using the masked form of
+ * the operation: C2 in JDK 21.0.1 crashes while emitting a masked min or max that reads straight from memory.</p>
+ */
+public final class VectorColumnKernels implements ColumnKernels {
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+
+    /**
+     * Called by {@link java.util.ServiceLoader}.
+     *
+     * @throws UnsupportedOperationException If the platform has no vector registers wider than one long,
+     *                                       in which case the scalar loops are at least as fast.
+     */
+    public VectorColumnKernels() {
+        if (LONGS.length() < 2) {
+            throw new UnsupportedOperationException("No vector shape wider than 64 bits on this platform");
+        }
+    }
+
+    /**
+     * Left to the scalar loop: C2 already vectorizes it, widening included, and does so slightly faster
+     * than an explicit conversion of each vector into two vectors of longs.
+     */
+    @Override
+    public long sum(int[] values) {
+        return ColumnKernels.scalar().sum(values);
+    }
+
+    @Override
+    public long sum(long[] values) {
+        var acc = LongVector.zero(LONGS);
+        int i = 0;
+        for (int bound = LONGS.loopBound(values.length); i < bound; i += LONGS.length()) {
+            acc = acc.add(LongVector.fromArray(LONGS, values, i));
+        }
+        long sum = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public int min(int[] values, long[] present) {
+        var identity = IntVector.broadcast(INTS, Integer.MAX_VALUE);
+        var acc = identity;
+        int result = Integer.MAX_VALUE;
+        int lanes = INTS.length();
+        for (int w = 0; w < present.length; w++) {
+            long word = present[w];
+            if (word == 0) {
+                continue;
+            }
+            int base = w << 6;
+            int end = Math.min(base + 64, values.length);
+            int i = base;
+            if (word == -1L) {
+                for (; i < end; i += lanes) {
+                    acc = acc.lanewise(VectorOperators.MIN, IntVector.fromArray(INTS, values, i));
+                }
+                continue;
+            }
+            for (; i + lanes <= end; i += lanes) {
+                var mask = VectorMask.fromLong(INTS, word >>> (i - base));
+                acc = acc.lanewise(VectorOperators.MIN, identity.blend(IntVector.fromArray(INTS, values, i), mask));
+            }
+            for (; i < end; i++) {
+                if ((word & 1L << i) != 0) {
+                    result = Math.min(result, values[i]);
+                }
+            }
+        }
+        return Math.min(result, acc.reduceLanes(VectorOperators.MIN));
+    }
+
+    @Override
+    public int max(int[] values, long[] present) {
+        var identity = IntVector.broadcast(INTS, Integer.MIN_VALUE);
+        var acc = identity;
+        int result = Integer.MIN_VALUE;
+        int lanes = INTS.length();
+        for (int w = 0; w < present.length; w++) {
+            long word = present[w];
+            if (word == 0) {
+                continue;
+            }
+            int base = w << 6;
+            int end = Math.min(base + 64, values.length);
+            int i = base;
+            if (word == -1L) {
+                for (; i < end; i += lanes) {
+                    acc = acc.lanewise(VectorOperators.MAX, IntVector.fromArray(INTS, values, i));
+                }
+                continue;
+            }
+            for (; i + lanes <= end; i += lanes) {
+                var mask = VectorMask.fromLong(INTS, word >>> (i - base));
+                acc = acc.lanewise(VectorOperators.MAX, identity.blend(IntVector.fromArray(INTS, values, i), mask));
+            }
+            for (; i < end; i++) {
+                if ((word & 1L << i) != 0) {
+                    result = Math.max(result, values[i]);
+                }
+            }
+        }
+        return Math.max(result, acc.reduceLanes(VectorOperators.MAX));
+    }
+
+    @Override
+    public long min(long[] values, long[] present) {
+        var identity = LongVector.broadcast(LONGS, Long.MAX_VALUE);
+        var acc = identity;
+        long result = Long.MAX_VALUE;
+        int lanes = LONGS.length();
+        for (int w = 0; w < present.length; w++) {
+            long word = present[w];
+            if (word == 0) {
+                continue;
+            }
+            int base = w << 6;
+            int end = Math.min(base + 64, values.length);
+            int i = base;
+            if (word == -1L) {
+                for (; i < end; i += lanes) {
+                    acc = acc.lanewise(VectorOperators.MIN, LongVector.fromArray(LONGS, values, i));
+                }
+                continue;
+            }
+            for (; i + lanes <= end; i += lanes) {
+                var mask = VectorMask.fromLong(LONGS, word >>> (i - base));
+                acc = acc.lanewise(VectorOperators.MIN, identity.blend(LongVector.fromArray(LONGS, values, i), mask));
+            }
+            for (; i < end; i++) {
+                if ((word & 1L << i) != 0) {
+                    result = Math.min(result, values[i]);
+                }
+            }
+        }
+        return Math.min(result, acc.reduceLanes(VectorOperators.MIN));
+    }
+
+    @Override
+    public long max(long[] values, long[] present) {
+        var identity = LongVector.broadcast(LONGS, Long.MIN_VALUE);
+        var acc = identity;
+        long result = Long.MIN_VALUE;
+        int lanes = LONGS.length();
+        for (int w = 0; w < present.length; w++) {
+            long word = present[w];
+            if (word == 0) {
+                continue;
+            }
+            int base = w << 6;
+            int end = Math.min(base + 64, values.length);
+            int i = base;
+            if (word == -1L) {
+                for (; i < end; i += lanes) {
+                    acc = acc.lanewise(VectorOperators.MAX, LongVector.fromArray(LONGS, values, i));
+                }
+                continue;
+            }
+            for (; i + lanes <= end; i += lanes) {
+                var mask = VectorMask.fromLong(LONGS, word >>> (i - base));
+                acc = acc.lanewise(VectorOperators.MAX, identity.blend(LongVector.fromArray(LONGS, values, i), mask));
+            }
+            for (; i < end; i++) {
+                if ((word & 1L << i) != 0) {
+                    result = Math.max(result, values[i]);
+                }
+            }
+        }
+        return Math.max(result, acc.reduceLanes(VectorOperators.MAX));
+    }
+
+    @Override
+    public double min(double[] values, long[] present) {
+        var identity = DoubleVector.broadcast(DOUBLES, Double.POSITIVE_INFINITY);
+        var acc = identity;
+        double result = Double.POSITIVE_INFINITY;
+        int lanes = DOUBLES.length();
+        for (int w = 0; w < present.length; w++) {
+            long word = present[w];
+            if (word == 0) {
+                continue;
+            }
+            int base = w << 6;
+            int end = Math.min(base + 64, values.length);
+            int i = base;
+            if (word == -1L) {
+                for (; i < end; i += lanes) {
+                    acc = acc.lanewise(VectorOperators.MIN, DoubleVector.fromArray(DOUBLES, values, i));
+                }
+                continue;
+            }
+            for (; i + lanes <= end; i += lanes) {
+                var mask = VectorMask.fromLong(DOUBLES, word >>> (i - base));
+                acc = acc.lanewise(VectorOperators.MIN, identity.blend(DoubleVector.fromArray(DOUBLES, values, i), mask));
+            }
+            for (; i < end; i++) {
+                if ((word & 1L << i) != 0) {
+                    result = Math.min(result, values[i]);
+                }
+            }
+        }
+        return Math.min(result, acc.reduceLanes(VectorOperators.MIN));
+    }
+
+    @Override
+    public double max(double[] values, long[] present) {
+        var identity = DoubleVector.broadcast(DOUBLES, Double.NEGATIVE_INFINITY);
+        var acc = identity;
+        double result = Double.NEGATIVE_INFINITY;
+        int lanes = DOUBLES.length();
+        for (int w = 0; w < present.length; w++) {
+            long word = present[w];
+            if (word == 0) {
+                continue;
+            }
+            int base = w << 6;
+            int end = Math.min(base + 64, values.length);
+            int i = base;
+            if (word == -1L) {
+                for (; i < end; i += lanes) {
+                    acc = acc.lanewise(VectorOperators.MAX, DoubleVector.fromArray(DOUBLES, values, i));
+                }
+                continue;
+            }
+            for (; i + lanes <= end; i += lanes) {
+                var mask = VectorMask.fromLong(DOUBLES, word >>> (i - base));
+                acc = acc.lanewise(VectorOperators.MAX, identity.blend(DoubleVector.fromArray(DOUBLES, values, i), mask));
+            }
+            for (; i < end; i++) {
+                if ((word & 1L << i) != 0) {
+                    result = Math.max(result, values[i]);
+                }
+            }
+        }
+        return Math.max(result, acc.reduceLanes(VectorOperators.MAX));
+    }
+
+    @Override
+    public long[] greaterThan(int[] values, long[] present, int threshold) {
+        var result = new long[present.length];
+        int lanes = INTS.length();
+        for (int w = 0; w < present.length; w++) {
+            long word = present[w];
+            if (word == 0) {
+                continue;
+            }
+            int base = w << 6;
+            int end = Math.min(base + 64, values.length);
+            int i = base;
+            long bits = 0;
+            for (; i + lanes <= end; i += lanes) {
+                var greater = IntVector.fromArray(INTS, values, i).compare(VectorOperators.GT, threshold);
+                bits |= greater.toLong() << (i - base);
+            }
+            for (; i < end; i++) {
+                if (values[i] > threshold) {
+                    bits |= 1L << i;
+                }
+            }
+            result[w] = bits & word;
+        }
+        return result;
+    }
+
+    @Override
+    public long[] greaterThan(long[] values, long[] present, long threshold) {
+        var result = new long[present.length];
+        int lanes = LONGS.length();
+        for (int w = 0; w < present.length; w++) {
+            long word = present[w];
+            if (word == 0) {
+                continue;
+            }
+            int base = w << 6;
+            int end = Math.min(base + 64, values.length);
+            int i = base;
+            long bits = 0;
+            for (; i + lanes <= end; i += lanes) {
+                var greater = LongVector.fromArray(LONGS, values, i).compare(VectorOperators.GT, threshold);
+                bits |= greater.toLong() << (i - base);
+            }
+            for (; i < end; i++) {
+                if (values[i] > threshold) {
+                    bits |= 1L << i;
+                }
+            }
+            result[w] = bits & word;
+        }
+        return result;
+    }
+
+    @Override
+    public long[] greaterThan(double[] values, long[] present, double threshold) {
+        var result = new long[present.length];
+        int lanes = DOUBLES.length();
+        for (int w = 0; w < present.length; w++) {
+            long word = present[w];
+            if (word == 0) {
+                continue;
+            }
+            int base = w << 6;
+            int end = Math.min(base + 64, values.length);
+            int i = base;
+            long bits = 0;
+            for (; i + lanes <= end; i += lanes) {
+                var greater = DoubleVector.fromArray(DOUBLES, values, i).compare(VectorOperators.GT, threshold);
+                bits |= greater.toLong() << (i - base);
+            }
+            for (; i < end; i++) {
+                if (values[i] > threshold) {
+                    bits |= 1L << i;
+                }
+            }
+            result[w] = bits & word;
+        }
+        return result;
+    }
+
+    @Override
+    public void or(int[] values, long[] present, int[] other, int[] into) {
+        int lanes = INTS.length();
+        for (int w = 0; w < present.length; w++) {
+            long word = present[w];
+            int base = w << 6;
+            int end = Math.min(base + 64, values.length);
+            if (word == -1L || word == 0) {
+                System.arraycopy(word == 0 ? other : values, base, into, base, end - base);
+                continue;
+            }
+            int i = base;
+            for (; i + lanes <= end; i += lanes) {
+                var mask = VectorMask.fromLong(INTS, word >>> (i - base));
+                var mine = IntVector.fromArray(INTS, values, i);
+                IntVector.fromArray(INTS, other, i).blend(mine, mask).intoArray(into, i);
+            }
+            for (; i < end; i++) {
+                into[i] = (word & 1L << i) != 0 ? values[i] : other[i];
+            }
+        }
+    }
+
+    @Override
+    public void or(long[] values, long[] present, long[] other, long[] into) {
+        int lanes = LONGS.length();
+        for (int w = 0; w < present.length; w++) {
+            long word = present[w];
+            int base = w << 6;
+            int end = Math.min(base + 64, values.length);
+            if (word == -1L || word == 0) {
+                System.arraycopy(word == 0 ? other : values, base, into, base, end - base);
+                continue;
+            }
+            int i = base;
+            for (; i + lanes <= end; i += lanes) {
+                var mask = VectorMask.fromLong(LONGS, word >>> (i - base));
+                var mine = LongVector.fromArray(LONGS, values, i);
+                LongVector.fromArray(LONGS, other, i).blend(mine, mask).intoArray(into, i);
+            }
+            for (; i < end; i++) {
+                into[i] = (word & 1L << i) != 0 ? values[i] : other[i];
+            }
+        }
+    }
+
+    @Override
+    public void or(double[] values, long[] present, double[] other, double[] into) {
+        int lanes = DOUBLES.length();
+        for (int w = 0; w < present.length; w++) {
+            long word = present[w];
+            int base = w << 6;
+            int end = Math.min(base + 64, values.length);
+            if (word == -1L || word == 0) {
+                System.arraycopy(word == 0 ? other : values, base, into, base, end - base);
+                continue;
+            }
+            int i = base;
+            for (; i + lanes <= end; i += lanes) {
+                var mask = VectorMask.fromLong(DOUBLES, word >>> (i - base));
+                var mine = DoubleVector.fromArray(DOUBLES, values, i);
+                DoubleVector.fromArray(DOUBLES, other, i).blend(mine, mask).intoArray(into, i);
+            }
+            for (; i < end; i++) {
+                into[i] = (word & 1L << i) != 0 ? values[i] : other[i];
+            }
+        }
+    }
+
+    /**
+     * Left to the scalar loop, which only visits the elements where exactly one side is present.
+     * Blending every element was slower on AVX2 at any density, and no faster beyond noise on AVX-512.
+     */
+    @Override
+    public void xor(int[] values, long[] present, int[] other, long[] otherPresent, int[] into) {
+        ColumnKernels.scalar().xor(values, present, other, otherPresent, into);
+    }
+
+    @Override
+    public void xor(long[] values, long[] present, long[] other, long[] otherPresent, long[] into) {
+        ColumnKernels.scalar().xor(values, present, other, otherPresent, into);
+    }
+
+    @Override
+    public void xor(double[] values, long[] present, double[] other, long[] otherPresent, double[] into) {
+        ColumnKernels.scalar().xor(values, present, other, otherPresent, into);
+    }
+}
@@ -0,0 +1,158 @@
+package dev.wscp.monadics.vector;
+
+import dev.wscp.monadics.option.ColumnKernels;
+import dev.wscp.monadics.option.IntOptionColumn;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks every kernel against the scalar one, on sizes around the vector and bitmap word boundaries,
+ * with presence ranging from none to all.
+ */
+class VectorColumnKernelsTest {
+    private static final int[] SIZES = {0, 1, 3, 7, 8, 15, 16, 17, 63, 64, 65, 127, 128, 129, 200, 1000};
+    private static final double[] DENSITIES = {0.0, 0.1, 0.5, 0.9, 1.0};
+
+    private final ColumnKernels scalar = ColumnKernels.scalar();
+    private final ColumnKernels vector = new VectorColumnKernels();
+    private final Random random = new Random(42);
+
+    @Test
+    void isTheInstalledProvider() {
+        assertInstanceOf(VectorColumnKernels.class, ColumnKernels.installed());
+        var column = IntOptionColumn.builder(3).add(3).addNone().add(2).build();
+        assertEquals(5, column.sum());
+    }
+
+    @Test
+    void ints() {
+        for (int size : SIZES) {
+            for (double density : DENSITIES) {
+                var present = present(size, density);
+                var values = new int[size];
+                var other = new int[size];
+                var otherPresent = present(size, 0.5);
+                for (int i = 0; i < size; i++) {
+                    values[i] = isSet(present, i) ? random.nextInt() : 0;
+                    other[i] = isSet(otherPresent, i) ? random.nextInt(100) : 0;
+                }
+                String at = "size " + size + ", density " + density;
+                assertEquals(scalar.sum(values), vector.sum(values), at);
+                if (any(present)) {
+                    assertEquals(scalar.min(values, present), vector.min(values, present), at);
+                    assertEquals(scalar.max(values, present), vector.max(values, present), at);
+                }
+                assertArrayEquals(scalar.greaterThan(values, present, 0), vector.greaterThan(values, present, 0), at);
+                int[] expected = new int[size], actual = new int[size];
+                scalar.or(values, present, other, expected);
+                vector.or(values, present, other, actual);
+                assertArrayEquals(expected, actual, at);
+                expected = new int[size];
+                actual = new int[size];
+                scalar.xor(values, present, other, otherPresent, expected);
+                vector.xor(values, present, other, otherPresent, actual);
+                assertArrayEquals(expected, actual, at);
+            }
+        }
+    }
+
+    @Test
+    void longs() {
+        for (int size : SIZES) {
+            for (double density : DENSITIES) {
+                var present = present(size, density);
+                var values = new long[size];
+                var other = new long[size];
+                var otherPresent = present(size, 0.5);
+                for (int i = 0; i < size; i++) {
+                    values[i] = isSet(present, i) ? random.nextLong() : 0;
+                    other[i] = isSet(otherPresent, i) ? random.nextLong() : 0;
+                }
+                String at = "size " + size + ", density " + density;
+                assertEquals(scalar.sum(values), vector.sum(values), at);
+                if (any(present)) {
+                    assertEquals(scalar.min(values, present), vector.min(values, present), at);
+                    assertEquals(scalar.max(values, present), vector.max(values, present), at);
+                }
+                assertArrayEquals(scalar.greaterThan(values, present, 0L), vector.greaterThan(values, present, 0L), at);
+                long[] expected = new long[size], actual = new long[size];
+                scalar.or(values, present, other, expected);
+                vector.or(values, present, other, actual);
+                assertArrayEquals(expected, actual, at);
+                expected = new long[size];
+                actual = new long[size];
+                scalar.xor(values, present, other, otherPresent, expected);
+                vector.xor(values, present, other, otherPresent, actual);
+                assertArrayEquals(expected, actual, at);
+            }
+        }
+    }
+
+    @Test
+    void doubles() {
+        double[] specials = {Double.NaN, -0.0, 0.0, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY};
+        for (int size : SIZES) {
+            for (double density : DENSITIES) {
+                var present = present(size, density);
+                var values = new double[size];
+                var other = new double[size];
+                var otherPresent = present(size, 0.5);
+                for (int i = 0; i < size; i++) {
+                    if (isSet(present, i)) {
+                        values[i] = random.nextInt(50) == 0 ? specials[random.nextInt(specials.length)] : random.nextGaussian();
+                    }
+                    other[i] = isSet(otherPresent, i) ? random.nextGaussian() : 0;
+                }
+                String at = "size " + size + ", density " + density;
+                if (any(present)) {
+                    assertEquals(scalar.min(values, present), vector.min(values, present), at);
+                    assertEquals(scalar.max(values, present), vector.max(values, present), at);
+                }
+                assertArrayEquals(scalar.greaterThan(values, present, 0.5), vector.greaterThan(values, present, 0.5), at);
+                double[] expected = new double[size], actual = new double[size];
+                scalar.or(values, present, other, expected);
+                vector.or(values, present, other, actual);
+                assertArrayEquals(expected, actual, at);
+                expected = new double[size];
+                actual = new double[size];
+                scalar.xor(values, present, other, otherPresent, expected);
+                vector.xor(values, present, other, otherPresent, actual);
+                assertArrayEquals(expected, actual, at);
+            }
+        }
+    }
+
+    @Test
+    void minAndMaxOfSignedZeros() {
+        var values = new double[]{0.0, -0.0, 0.0, -0.0, 0.0, -0.0, 0.0, -0.0, 0.0, -0.0};
+        var present = new long[]{(1L << values.length) - 1};
+        assertEquals(-0.0, vector.min(values, present));
+        assertEquals(0.0, vector.max(values, present));
+    }
+
+    private long[] present(int size, double density) {
+        var bits = new long[(size + 63) >>> 6];
+        for (int i = 0; i < size; i++) {
+            if (random.nextDouble() < density) {
+                bits[i >>> 6] |= 1L << i;
+            }
+        }
+        return bits;
+    }
+
+    private static boolean isSet(long[] bits, int i) {
+        return (bits[i >>> 6] & 1L << i) != 0;
+    }
+
+    private static boolean any(long[] bits) {
+        for (long word : bits) {
+            if (word != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,284 @@
+package dev.wscp.monadics.cache;
+
+import dev.wscp.monadics.result.Ok;
+import dev.wscp.monadics.result.Result;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * A concurrent, memoizing cache in front of a fallible loader, with separate expiry for Ok and Err results.
+ *
+ * <p>Errs usually deserve a much shorter time to live than values. Caching them briefly keeps a failing backend from
+ * being called again by every request, without keeping the failure around once the backend has recovered.</p>
+ *
+ * <p>Loading is single-flight. The first caller to miss on a key runs the loader, and concurrent callers for the same
+ * key wait for that one load instead of starting their own. Entries live in a {@link ConcurrentHashMap},
+ * so reads never lock, and a miss only touches the bin of its own key. Waiting parks the thread rather than
+ * holding a monitor, so callers may be virtual threads.</p>
+ *
+ * <p>With a {@link Builder#maximumSize(long) maximum size}, entries are evicted in the order they were loaded (FIFO),
+ * not by recency of use: reading an entry does not keep it in the cache any longer.</p>
+ *
+ * <pre>{@code
+ * ResultCache<String, User, LookupError> users = ResultCache.builder(this::lookup)
+ *         .okTtl(Duration.ofMinutes(5))
+ *         .errTtl(Duration.ofSeconds(2))
+ *         .maximumSize(10_000)
+ *         .build();
+ * }</pre>
+ *
+ * @param <K> The key type.
+ * @param <V> The value type of the loaded results.
+ * @param <E> The error type of the loaded results.
+ */
+public final class ResultCache<K, V, E> {
+    private static final long NEVER = Long.MAX_VALUE;
+
+    private final Function<? super K, ? extends Result<V, E>> loader;
+    private final long okTtlNanos;
+    private final long errTtlNanos;
+    private final long maximumSize;
+    private final LongSupplier ticker;
+
+    private final ConcurrentHashMap<K, Entry<K, V, E>> entries = new ConcurrentHashMap<>();
+    /**
+     * Entries in insertion order, for size-based eviction. Entries that have since expired or been replaced
+     * stay queued until they are polled, so the queue is swept for them whenever it grows well past the maximum size.
+     */
+    private final ConcurrentLinkedQueue<Entry<K, V, E>> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicLong queued = new AtomicLong();
+
+    private ResultCache(Builder<K, V, E> builder) {
+        this.loader = builder.loader;
+        this.okTtlNanos = builder.okTtlNanos;
+        this.errTtlNanos = builder.errTtlNanos;
+        this.maximumSize = builder.maximumSize;
+        this.ticker = builder.ticker;
+    }
+
+    /**
+     * @param loader Computes the result for a key that is not cached. Called at most once at a time per key.
+     */
+    public static <K, V, E> Builder<K, V, E> builder(@NotNull Function<? super K, ? extends Result<V, E>> loader) {
+        return new Builder<>(Objects.requireNonNull(loader));
+    }
+
+    /**
+     * Returns the cached result for a key, loading it first if it is missing or expired.
+     * If the loader throws, the exception is rethrown to the caller and to every caller waiting on the same load,
+     * and nothing is cached.
+     *
+     * @throws IllegalStateException If called by the loader for the key it is loading, which would wait on itself forever.
+     */
+    public Result<V, E> get(@NotNull K key) {
+        while (true) {
+            var entry = entries.get(key);
+            if (entry == null) {
+                var created = new Entry<K, V, E>(key);
+                entry = entries.putIfAbsent(key, created);
+                if (entry == null) {
+                    return load(created);
+                }
+            }
+            if (!entry.future.isDone() || isLive(entry)) {
+                if (entry.loadingThread == Thread.currentThread() && !entry.future.isDone()) {
+                    throw new IllegalStateException("Recursive load of key " + key);
+                }
+                return await(entry);
+            }
+            entries.remove(key, entry);
+        }
+    }
+
+    /**
+     * @return The cached result for a key if there is a live one, or null. Never loads.
+     */
+    public Result<V, E> getIfPresent(@NotNull K key) {
+        var entry = entries.get(key);
+        if (entry == null || !entry.future.isDone() || entry.future.isCompletedExceptionally()) {
+            return null;
+        }
+        return isLive(entry) ? await(entry) : null;
+    }
+
+    /**
+     * Drops the cached result for a key. A load already running for it is not interrupted, but its result is not kept.
+     */
+    public void invalidate(@NotNull K key) {
+        entries.remove(key);
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    /**
+     * @return The number of entries, including expired ones that have not been dropped yet and loads in progress.
+     */
+    public long estimatedSize() {
+        return entries.mappingCount();
+    }
+
+    private Result<V, E> load(Entry<K, V, E> entry) {
+        evictIfNeeded(entry);
+        Result<V, E> result;
+        try {
+            result = Objects.requireNonNull(loader.apply(entry.key), "loader returned null");
+        } catch (Throwable t) {
+            entries.remove(entry.key, entry);
+            entry.loadingThread = null;
+            entry.future.completeExceptionally(t);
+            throw t;
+        }
+        long ttl = result instanceof Ok<V, E> ? okTtlNanos : errTtlNanos;
+        if (ttl == 0) {
+            entries.remove(entry.key, entry);
+        } else {
+            entry.expiresAt = ttl == NEVER ? NEVER : ticker.getAsLong() + ttl;
+        }
+        entry.loadingThread = null;
+        entry.future.complete(result);
+        return result;
+    }
+
+    private boolean isLive(Entry<K, V, E> entry) {
+        return entry.expiresAt == NEVER || ticker.getAsLong() - entry.expiresAt < 0;
+    }
+
+    /**
+     * Waits for the entry to finish loading if it has not yet, and rethrows what the loader threw, unwrapped.
+     */
+    private Result<V, E> await(Entry<K, V, E> entry) {
+        try {
+            return entry.future.join();
+        } catch (CompletionException e) {
+            throw rethrow(e.getCause());
+        }
+    }
+
+    /**
+     * Evicts the oldest entries while the cache is over its maximum size. Entries still loading, and the one just added,
+     * are never evicted: they go back to the end of the queue, so callers waiting on them keep sharing one load,
+     * and the cache may stay over its size until they finish. Queued entries no longer in the map are dropped as they
+     * come up, and once they make up most of the queue, one full pass drops them all while keeping the others in order.
+     */
+    private void evictIfNeeded(Entry<K, V, E> added) {
+        if (maximumSize == NEVER) {
+            return;
+        }
+        insertionOrder.add(added);
+        long budget = queued.incrementAndGet();
+        boolean sweep = budget > 2 * maximumSize;
+        for (; budget > 0 && (sweep || entries.mappingCount() > maximumSize); budget--) {
+            var oldest = insertionOrder.poll();
+            if (oldest == null) {
+                return;
+            }
+            if (entries.get(oldest.key) != oldest) {
+                queued.decrementAndGet();
+            } else if (oldest != added && oldest.future.isDone() && entries.mappingCount() > maximumSize) {
+                entries.remove(oldest.key, oldest);
+                queued.decrementAndGet();
+            } else {
+                insertionOrder.add(oldest);
+            }
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable t) {
+        return switch (t) {
+            case RuntimeException e -> e;
+            case Error e -> throw e;
+            default -> new CompletionException(t);
+        };
+    }
+
+    /**
+     * A cached or loading result. {@link #expiresAt} is written before the future completes,
+     * and only read after it has, so completing the future publishes it.
+     * {@link #loadingThread} is only compared against the current thread, so a stale read from another thread
+     * can never match, and it is cleared once the load is done, so the cache does not keep threads reachable.
+     */
+    private static final class Entry<K, V, E> {
+        final K key;
+        final CompletableFuture<Result<V, E>> future = new CompletableFuture<>();
+        long expiresAt = NEVER;
+        /**
+         * The thread that created the entry, which is the one that loads it if the entry makes it into the map.
+         */
+        Thread loadingThread = Thread.currentThread();
+
+        Entry(K key) {
+            this.key = key;
+        }
+    }
+
+    public static final class Builder<K, V, E> {
+        private final Function<? super K, ? extends Result<V, E>> loader;
+        private long okTtlNanos = NEVER;
+        private long errTtlNanos = 0;
+        private long maximumSize = NEVER;
+        private LongSupplier ticker = System::nanoTime;
+
+        private Builder(Function<? super K, ? extends Result<V, E>> loader) {
+            this.loader = loader;
+        }
+
+        /**
+         * How long an Ok result stays cached. Ok results never expire by default.
+         */
+        public Builder<K, V, E> okTtl(@NotNull Duration ttl) {
+            this.okTtlNanos = toNanos(ttl);
+            return this;
+        }
+
+        /**
+         * How long an Err result stays cached. By default, Errs are only shared with the callers
+         * that were already waiting on the same load, and the next call loads again.
+         */
+        public Builder<K, V, E> errTtl(@NotNull Duration ttl) {
+            this.errTtlNanos = toNanos(ttl);
+            return this;
+        }
+
+        /**
+         * Bounds the number of entries. Once the cache grows past it, entries are dropped in the order they were loaded,
+         * first in first out, no matter how recently they were read.
+         */
+        public Builder<K, V, E> maximumSize(long maximumSize) {
+            if (maximumSize <= 0) {
+                throw new IllegalArgumentException("Maximum size must be positive, got " + maximumSize);
+            }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * The time source used for expiry, in nanoseconds. Defaults to {@link System#nanoTime()}.
+         */
+        public Builder<K, V, E> ticker(@NotNull LongSupplier ticker) {
+            this.ticker = Objects.requireNonNull(ticker);
+            return this;
+        }
+
+        public ResultCache<K, V, E> build() {
+            return new ResultCache<>(this);
+        }
+
+        private static long toNanos(Duration ttl) {
+            if (ttl.isNegative()) {
+                throw new IllegalArgumentException("TTL must not be negative, got " + ttl);
+            }
+            return ttl.compareTo(Duration.ofNanos(NEVER)) >= 0 ? NEVER : ttl.toNanos();
+        }
+    }
+}
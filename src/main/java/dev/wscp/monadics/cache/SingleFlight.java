@@ -0,0 +1,110 @@
+package dev.wscp.monadics.cache;
+
+import dev.wscp.monadics.jfr.MonadicsEvents;
+import dev.wscp.monadics.result.Result;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls for the same key into a single computation.
+ *
+ * <p>The first caller for a key becomes its leader and runs the action on its own thread. Callers that arrive
+ * while it is running wait for it, and all of them receive the same result. Once the leader is done,
+ * the key is released, and the next call computes again: unlike {@link ResultCache}, nothing is kept.</p>
+ *
+ * <p>Anything the action throws is turned into an Err the same way {@link Result#runCatching(Supplier)} does,
+ * so every waiter sees the failure as a value. Waiters park on a future rather than a monitor,
+ * so virtual threads are never pinned.</p>
+ *
+ * @param <K> The key type.
+ * @param <T> The value type of the results.
+ * @param <E> The error type of the results.
+ */
+public final class SingleFlight<K, T, E> {
+    private final ConcurrentHashMap<K, CompletableFuture<Result<T, E>>> calls = new ConcurrentHashMap<>();
+    private final Function<? super Throwable, ? extends E> onThrow;
+
+    private SingleFlight(Function<? super Throwable, ? extends E> onThrow) {
+        this.onThrow = onThrow;
+    }
+
+    /**
+     * @return A SingleFlight whose results hold whatever an action threw as their error.
+     */
+    public static <K, T> SingleFlight<K, T, Throwable> create() {
+        return new SingleFlight<>(Function.identity());
+    }
+
+    /**
+     * @param onThrow Turns anything thrown by an action into an error value.
+     */
+    public static <K, T, E> SingleFlight<K, T, E> create(@NotNull Function<? super Throwable, ? extends E> onThrow) {
+        return new SingleFlight<>(onThrow);
+    }
+
+    /**
+     * Runs action, unless a call for the same key is already running, in which case waits for that call instead.
+     *
+     * @return The result of whichever action ran for this key.
+     */
+    public Result<T, E> run(@NotNull K key, @NotNull Supplier<? extends Result<T, E>> action) {
+        var mine = new CompletableFuture<Result<T, E>>();
+        var running = calls.putIfAbsent(key, mine);
+        if (running != null) {
+            return await(running);
+        }
+        Result<T, E> result = null;
+        Throwable failure = null;
+        try {
+            result = Objects.requireNonNull(action.get(), "action returned null");
+        } catch (Throwable t) {
+            MonadicsEvents.caught(t);
+            try {
+                result = Result.errOfNullable(onThrow.apply(t));
+            } catch (Throwable mapping) {
+                failure = mapping;
+                throw mapping;
+            }
+        } finally {
+            calls.remove(key, mine);
+            if (failure == null) {
+                mine.complete(result);
+            } else {
+                mine.completeExceptionally(failure);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Like {@link #run(Object, Supplier)}, for an action that returns a plain value or throws.
+     */
+    public Result<T, E> runCatching(@NotNull K key, @NotNull Supplier<? extends T> action) {
+        return run(key, () -> Result.okOfNullable(action.get()));
+    }
+
+    /**
+     * @return The number of keys that currently have a call running.
+     */
+    public int inFlight() {
+        return calls.size();
+    }
+
+    private static <T, E> Result<T, E> await(CompletableFuture<Result<T, E>> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            throw switch (e.getCause()) {
+                case RuntimeException r -> r;
+                case Error r -> throw r;
+                default -> e;
+            };
+        }
+    }
+}
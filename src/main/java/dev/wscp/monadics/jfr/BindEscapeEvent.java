@@ -0,0 +1,18 @@
+package dev.wscp.monadics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Emitted when a bind() call escapes from a binding block with an error.
+ */
+@Name("dev.wscp.monadics.BindEscape")
+@Label("Bind Escape")
+@Category("Monadics")
+@Description("A bind() call left its binding block early with an error")
+@StackTrace(false)
+public final class BindEscapeEvent extends MonadicsEvent {
+}
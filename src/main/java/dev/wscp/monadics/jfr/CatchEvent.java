@@ -0,0 +1,18 @@
+package dev.wscp.monadics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Emitted when runCatching, or one of its variants, turns a thrown exception into an Err.
+ */
+@Name("dev.wscp.monadics.Catch")
+@Label("Exception Caught")
+@Category("Monadics")
+@Description("A runCatching call caught an exception and returned it as an Err")
+@StackTrace(false)
+public final class CatchEvent extends MonadicsEvent {
+}
@@ -0,0 +1,46 @@
+package dev.wscp.monadics.jfr;
+
+import static dev.wscp.monadics.jfr.MonadicsEvents.SAMPLE_RATE;
+import static dev.wscp.monadics.jfr.MonadicsEvents.sampled;
+
+/**
+ * The half of {@link MonadicsEvents} that touches {@code jdk.jfr}, only loaded once that module is known to be there.
+ */
+final class Emitter {
+    private Emitter() {}
+
+    static void errCreated(Object error) {
+        var event = new ErrCreatedEvent();
+        if (event.shouldCommit() && sampled(SAMPLE_RATE)) {
+            commit(event, error);
+        }
+    }
+
+    static void unwrapFailed(String operation, Object error) {
+        var event = new UnwrapFailedEvent();
+        if (event.shouldCommit() && sampled(SAMPLE_RATE)) {
+            event.operation = operation;
+            commit(event, error);
+        }
+    }
+
+    static void bindEscaped(Object error) {
+        var event = new BindEscapeEvent();
+        if (event.shouldCommit() && sampled(SAMPLE_RATE)) {
+            commit(event, error);
+        }
+    }
+
+    static void caught(Throwable exception) {
+        var event = new CatchEvent();
+        if (event.shouldCommit() && sampled(SAMPLE_RATE)) {
+            commit(event, exception);
+        }
+    }
+
+    private static void commit(MonadicsEvent event, Object error) {
+        event.errorClass = error == null ? null : error.getClass();
+        event.sampleRate = SAMPLE_RATE;
+        event.commit();
+    }
+}
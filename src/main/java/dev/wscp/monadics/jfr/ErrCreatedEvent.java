@@ -0,0 +1,19 @@
+package dev.wscp.monadics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Emitted when {@code errOf} or {@code errOfNullable} creates an Err, on {@code Result} or its primitive specializations.
+ * Errs built with their record constructors emit nothing, nor do shared instances like the ones from {@code Result.errOfEnum}.
+ */
+@Name("dev.wscp.monadics.ErrCreated")
+@Label("Err Created")
+@Category("Monadics")
+@Description("An Err value was created by a factory method")
+@StackTrace(false)
+public final class ErrCreatedEvent extends MonadicsEvent {
+}
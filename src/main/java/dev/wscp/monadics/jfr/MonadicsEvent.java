@@ -0,0 +1,24 @@
+package dev.wscp.monadics.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+
+/**
+ * The fields every event of this library carries.
+ *
+ * <p>Events are disabled unless a recording turns them on. They skip stack traces by default,
+ * since the error path is exactly where they would be hottest. Turn them on per event to find call sites, e.g.
+ * {@code jcmd <pid> JFR.start settings=custom.jfc} with {@code dev.wscp.monadics.UnwrapFailed#stackTrace=true}.</p>
+ */
+@Enabled(false)
+abstract class MonadicsEvent extends Event {
+    @Label("Error Class")
+    @Description("The class of the error value or exception, or null for a null error")
+    Class<?> errorClass;
+
+    @Label("Sample Rate")
+    @Description("One in this many occurrences was recorded. Multiply counts by it to estimate the real number")
+    int sampleRate;
+}
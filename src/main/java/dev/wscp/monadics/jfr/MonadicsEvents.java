@@ -0,0 +1,54 @@
+package dev.wscp.monadics.jfr;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Emits the Flight Recorder events of this library. Called by the library itself, on its error paths.
+ *
+ * <p>When no recording has enabled an event, emitting it costs an inlined check of a flag,
+ * and the event object is optimized away. When one has, the {@value #SAMPLING_PROPERTY} system property
+ * limits recording to one in every so many occurrences, chosen at random.</p>
+ *
+ * <p>This class does not use {@code jdk.jfr} itself, so the library still runs on a runtime image linked without it:
+ * the events are only loaded if that module is there, and otherwise nothing is emitted.</p>
+ */
+public final class MonadicsEvents {
+    /**
+     * The system property holding the sample rate, read once at startup. Defaults to 1, which records everything.
+     */
+    public static final String SAMPLING_PROPERTY = "dev.wscp.monadics.jfr.sampling";
+
+    static final int SAMPLE_RATE = Math.max(1, Integer.getInteger(SAMPLING_PROPERTY, 1));
+
+    static final boolean AVAILABLE = ModuleLayer.boot().findModule("jdk.jfr").isPresent();
+
+    private MonadicsEvents() {}
+
+    public static void errCreated(Object error) {
+        if (AVAILABLE) {
+            Emitter.errCreated(error);
+        }
+    }
+
+    public static void unwrapFailed(String operation, Object error) {
+        if (AVAILABLE) {
+            Emitter.unwrapFailed(operation, error);
+        }
+    }
+
+    public static void bindEscaped(Object error) {
+        if (AVAILABLE) {
+            Emitter.bindEscaped(error);
+        }
+    }
+
+    public static void caught(Throwable exception) {
+        if (AVAILABLE) {
+            Emitter.caught(exception);
+        }
+    }
+
+    static boolean sampled(int rate) {
+        return rate == 1 || ThreadLocalRandom.current().nextInt(rate) == 0;
+    }
+}
@@ -0,0 +1,21 @@
+package dev.wscp.monadics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Emitted when an unwrap throws, right before the exception is created.
+ */
+@Name("dev.wscp.monadics.UnwrapFailed")
+@Label("Unwrap Failed")
+@Category("Monadics")
+@Description("An unwrap call found nothing to return and threw")
+@StackTrace(false)
+public final class UnwrapFailedEvent extends MonadicsEvent {
+    @Label("Operation")
+    @Description("The method that failed, like Result.unwrap or Option.unwrap")
+    String operation;
+}
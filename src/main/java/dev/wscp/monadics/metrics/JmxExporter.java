@@ -0,0 +1,92 @@
+package dev.wscp.monadics.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Publishes every stage of a {@link StageRegistry} as an MXBean named
+ * {@code dev.wscp.monadics:type=ResultStage,name="<stage>"}, including stages created after the export.
+ * Attributes are computed from the live counters whenever they are read.
+ */
+public final class JmxExporter {
+    public static final String DOMAIN = "dev.wscp.monadics";
+
+    private JmxExporter() {}
+
+    /**
+     * Exports the default {@link Metrics#registry()} to the platform MBean server.
+     */
+    public static void exportDefault() {
+        export(Metrics.registry(), ManagementFactory.getPlatformMBeanServer());
+    }
+
+    public static void export(@NotNull StageRegistry registry, @NotNull MBeanServer server) {
+        registry.onStage((stats) -> register(server, stats));
+    }
+
+    static ObjectName objectName(String stage) throws JMException {
+        return new ObjectName(DOMAIN + ":type=ResultStage,name=" + ObjectName.quote(stage));
+    }
+
+    private static void register(MBeanServer server, StageStats stats) {
+        try {
+            var name = objectName(stats.name());
+            if (!server.isRegistered(name)) {
+                server.registerMBean(new Stage(stats), name);
+            }
+        } catch (InstanceAlreadyExistsException e) {
+            // Another thread exported the same stage first.
+        } catch (JMException e) {
+            throw new IllegalStateException("Could not export stage " + stats.name(), e);
+        }
+    }
+
+    private record Stage(StageStats stats) implements StageMXBean {
+        @Override
+        public String getName() {
+            return stats.name();
+        }
+
+        @Override
+        public long getOkCount() {
+            return stats.okCount();
+        }
+
+        @Override
+        public long getErrCount() {
+            return stats.errCount();
+        }
+
+        @Override
+        public double getErrorRate() {
+            return stats.errorRate();
+        }
+
+        @Override
+        public double getMeanNanos() {
+            var latency = stats.latency();
+            var count = latency.count();
+            return count == 0 ? 0 : (double) latency.totalNanos() / count;
+        }
+
+        @Override
+        public long getP50Nanos() {
+            return stats.latency().quantileNanos(0.5);
+        }
+
+        @Override
+        public long getP99Nanos() {
+            return stats.latency().quantileNanos(0.99);
+        }
+
+        @Override
+        public long getP999Nanos() {
+            return stats.latency().quantileNanos(0.999);
+        }
+    }
+}
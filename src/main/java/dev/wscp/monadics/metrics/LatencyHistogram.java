@@ -0,0 +1,93 @@
+package dev.wscp.monadics.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free latency histogram with one bucket per power of two nanoseconds.
+ *
+ * <p>Each bucket is a {@link LongAdder}, so threads recording at the same time update separate cells instead of
+ * fighting over one counter. Recording never allocates after the cells have been created.
+ * Quantiles are reported as the upper bound of their bucket, which makes them at most twice the real value.</p>
+ */
+public final class LatencyHistogram {
+    /**
+     * Bucket i counts latencies in [2^(i-1), 2^i) nanoseconds, and bucket 0 counts zero.
+     */
+    static final int BUCKETS = 64;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder totalNanos = new LongAdder();
+
+    LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    void record(long nanos) {
+        var clamped = Math.max(0, nanos);
+        buckets[bucketOf(clamped)].increment();
+        totalNanos.add(clamped);
+    }
+
+    static int bucketOf(long nanos) {
+        return Math.min(BUCKETS - 1, Long.SIZE - Long.numberOfLeadingZeros(nanos));
+    }
+
+    /**
+     * @return The largest latency bucket i can hold.
+     */
+    static long upperBound(int bucket) {
+        return bucket == 0 ? 0 : bucket >= BUCKETS - 1 ? Long.MAX_VALUE : (1L << bucket) - 1;
+    }
+
+    /**
+     * @return A copy of every bucket count. Concurrent updates may or may not be included.
+     */
+    public long[] snapshot() {
+        var counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return counts;
+    }
+
+    public long count() {
+        long count = 0;
+        for (var bucket : buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    public long totalNanos() {
+        return totalNanos.sum();
+    }
+
+    /**
+     * @param quantile Between 0 and 1, e.g. 0.99.
+     * @return The upper bound of the bucket holding that quantile, or 0 if nothing was recorded.
+     */
+    public long quantileNanos(double quantile) {
+        if (quantile < 0 || quantile > 1) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1, got " + quantile);
+        }
+        var counts = snapshot();
+        long total = 0;
+        for (var count : counts) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return upperBound(i);
+            }
+        }
+        return upperBound(BUCKETS - 1);
+    }
+}
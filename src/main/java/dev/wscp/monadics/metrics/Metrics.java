@@ -0,0 +1,57 @@
+package dev.wscp.monadics.metrics;
+
+import dev.wscp.monadics.result.Ok;
+import dev.wscp.monadics.result.Result;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * The process-wide metrics configuration used by {@link Result#timed(String, Supplier)}.
+ * Measurements go to {@link #registry()} unless another sink is installed.
+ */
+public final class Metrics {
+    private static final StageRegistry REGISTRY = new StageRegistry();
+    private static volatile MetricsSink sink = REGISTRY;
+
+    private Metrics() {}
+
+    /**
+     * @return The in-memory registry that receives measurements by default.
+     */
+    public static StageRegistry registry() {
+        return REGISTRY;
+    }
+
+    public static MetricsSink sink() {
+        return sink;
+    }
+
+    /**
+     * Sends every later measurement to another sink, for example one that forwards to an external metrics system.
+     * Use {@link MetricsSink#NOOP} to turn measuring off.
+     */
+    public static void setSink(@NotNull MetricsSink sink) {
+        Metrics.sink = sink;
+    }
+
+    /**
+     * Runs an action and records whether it produced Ok or Err, and how long it took.
+     * An exception thrown by the action is recorded as an Err and rethrown.
+     *
+     * @throws NullPointerException If the action returns null, which is also recorded as an Err.
+     */
+    public static <T, E> Result<T, E> timed(@NotNull String stage, @NotNull Supplier<? extends Result<T, E>> action) {
+        var target = sink;
+        long start = System.nanoTime();
+        boolean ok = false;
+        try {
+            Result<T, E> result = Objects.requireNonNull(action.get(), "action returned null");
+            ok = result instanceof Ok<T, E>;
+            return result;
+        } finally {
+            target.record(stage, ok, System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package dev.wscp.monadics.metrics;
+
+/**
+ * Receives one call per completed stage from {@link dev.wscp.monadics.result.Result#timed(String, java.util.function.Supplier)}.
+ * Implement it to forward the measurements to any metrics system. Implementations are called on the hot path,
+ * from any number of threads at once, so they must be thread-safe and should not block.
+ */
+@FunctionalInterface
+public interface MetricsSink {
+    /**
+     * Ignores every measurement.
+     */
+    MetricsSink NOOP = (stage, ok, nanos) -> {};
+
+    /**
+     * @param stage The name of the stage that completed.
+     * @param ok    Whether it produced an Ok, as opposed to an Err or an exception.
+     * @param nanos How long it took, in nanoseconds.
+     */
+    void record(String stage, boolean ok, long nanos);
+}
@@ -0,0 +1,22 @@
+package dev.wscp.monadics.metrics;
+
+/**
+ * The JMX view of one {@link StageStats}, registered by {@link JmxExporter}.
+ */
+public interface StageMXBean {
+    String getName();
+
+    long getOkCount();
+
+    long getErrCount();
+
+    double getErrorRate();
+
+    double getMeanNanos();
+
+    long getP50Nanos();
+
+    long getP99Nanos();
+
+    long getP999Nanos();
+}
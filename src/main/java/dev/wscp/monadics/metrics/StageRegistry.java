@@ -0,0 +1,66 @@
+package dev.wscp.monadics.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * A {@link MetricsSink} that keeps {@link StageStats} for every stage it has seen, in memory.
+ *
+ * <p>Looking up an existing stage is a plain {@link ConcurrentHashMap#get(Object)}, which never locks.
+ * Only the first measurement of a new stage takes the slower path.</p>
+ *
+ * <p>Exceptions thrown by {@link #onStage(Consumer) listeners} while a new stage is created are dropped,
+ * so they never reach the code being measured.</p>
+ */
+public final class StageRegistry implements MetricsSink {
+    private final ConcurrentHashMap<String, StageStats> stages = new ConcurrentHashMap<>();
+    private final CopyOnWriteArrayList<Consumer<StageStats>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void record(String stage, boolean ok, long nanos) {
+        stage(stage).record(ok, nanos);
+    }
+
+    /**
+     * @return The stats of a stage, created empty if the stage has not been seen yet.
+     */
+    public StageStats stage(@NotNull String name) {
+        var stats = stages.get(name);
+        if (stats != null) {
+            return stats;
+        }
+        var created = new StageStats(name);
+        var existing = stages.putIfAbsent(name, created);
+        if (existing != null) {
+            return existing;
+        }
+        for (var listener : listeners) {
+            try {
+                listener.accept(created);
+            } catch (RuntimeException e) {
+                // A failing listener, such as a JMX export, must not fail the measurement that created the stage.
+            }
+        }
+        return created;
+    }
+
+    /**
+     * @return A live, unmodifiable view of every stage seen so far.
+     */
+    public Collection<StageStats> stages() {
+        return Collections.unmodifiableCollection(stages.values());
+    }
+
+    /**
+     * Calls listener with every stage seen so far, and with every stage created from now on.
+     */
+    public void onStage(@NotNull Consumer<StageStats> listener) {
+        listeners.add(listener);
+        stages.values().forEach(listener);
+    }
+}
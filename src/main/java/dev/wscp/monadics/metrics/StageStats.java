@@ -0,0 +1,47 @@
+package dev.wscp.monadics.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The counters of a single named stage. Every counter is striped, so recording from many threads does not contend.
+ */
+public final class StageStats {
+    private final String name;
+    private final LongAdder oks = new LongAdder();
+    private final LongAdder errs = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    StageStats(String name) {
+        this.name = name;
+    }
+
+    void record(boolean ok, long nanos) {
+        (ok ? oks : errs).increment();
+        latency.record(nanos);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public long okCount() {
+        return oks.sum();
+    }
+
+    public long errCount() {
+        return errs.sum();
+    }
+
+    /**
+     * @return The share of Errs among every completion, or 0 if there was none.
+     */
+    public double errorRate() {
+        long ok = okCount();
+        long err = errCount();
+        return ok + err == 0 ? 0 : (double) err / (ok + err);
+    }
+
+    public LatencyHistogram latency() {
+        return latency;
+    }
+}
@@ -0,0 +1,93 @@
+package dev.wscp.monadics.option;
+
+/**
+ * The bulk loops behind the primitive option columns, as a service so they can be replaced by vectorized ones.
+ *
+ * <p>Every method works on the raw layout of a column: a value array, and a presence bitmap in which bit i of word
+ * i / 64 is set if element i is present. Absent elements hold 0, and bits past the end of the values are clear.
+ * Methods that produce a column write into a fresh, zeroed array the caller allocated, of the same length as the inputs.</p>
+ *
+ * <p>The columns use the implementation returned by {@link #installed()}: the first provider found by
+ * {@link java.util.ServiceLoader}, unless the {@value #PROPERTY} system property is set to {@code scalar},
+ * or no provider can be loaded, in which case plain scalar loops are used. The {@code monadics21-vector} module
+ * provides one built on the incubating Vector API.</p>
+ *
+ * <p>There is no double sum: a vectorized sum adds in a different order, which changes how it rounds,
+ * and a column should not sum differently depending on which module is on the class path.</p>
+ */
+public interface ColumnKernels {
+    /**
+     * The system property that selects the implementation. Only {@code scalar} is recognised,
+     * and it disables service loading.
+     */
+    String PROPERTY = "dev.wscp.monadics.kernels";
+
+    /**
+     * @return The implementation the columns use.
+     */
+    static ColumnKernels installed() {
+        return Kernels.INSTALLED;
+    }
+
+    /**
+     * @return The scalar implementation, which is always available.
+     */
+    static ColumnKernels scalar() {
+        return ScalarColumnKernels.INSTANCE;
+    }
+
+    long sum(int[] values);
+
+    long sum(long[] values);
+
+    /**
+     * @return The smallest present element. At least one element must be present.
+     */
+    int min(int[] values, long[] present);
+
+    /**
+     * @return The largest present element. At least one element must be present.
+     */
+    int max(int[] values, long[] present);
+
+    long min(long[] values, long[] present);
+
+    long max(long[] values, long[] present);
+
+    /**
+     * Follows {@link Math#min(double, double)}: NaN wins, and -0.0 is smaller than 0.0.
+     */
+    double min(double[] values, long[] present);
+
+    /**
+     * Follows {@link Math#max(double, double)}: NaN wins, and 0.0 is larger than -0.0.
+     */
+    double max(double[] values, long[] present);
+
+    /**
+     * @return The presence bitmap of the present elements greater than threshold.
+     */
+    long[] greaterThan(int[] values, long[] present, int threshold);
+
+    long[] greaterThan(long[] values, long[] present, long threshold);
+
+    long[] greaterThan(double[] values, long[] present, double threshold);
+
+    /**
+     * Writes each element of values where it is present, and the element of other otherwise.
+     */
+    void or(int[] values, long[] present, int[] other, int[] into);
+
+    void or(long[] values, long[] present, long[] other, long[] into);
+
+    void or(double[] values, long[] present, double[] other, double[] into);
+
+    /**
+     * Writes the element of whichever side is present where exactly one is, and leaves the other elements at 0.
+     */
+    void xor(int[] values, long[] present, int[] other, long[] otherPresent, int[] into);
+
+    void xor(long[] values, long[] present, long[] other, long[] otherPresent, long[] into);
+
+    void xor(double[] values, long[] present, double[] other, long[] otherPresent, double[] into);
+}
@@ -0,0 +1,8 @@
+package dev.wscp.monadics.option;
+
+public record DoubleNone() implements DoubleOption {
+    /**
+     * The canonical empty double option. Prefer {@link DoubleOption#none()} over constructing new instances.
+     */
+    static final DoubleNone INSTANCE = new DoubleNone();
+}
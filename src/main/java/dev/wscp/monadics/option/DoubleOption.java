@@ -0,0 +1,176 @@
+package dev.wscp.monadics.option;
+
+import dev.wscp.monadics.jfr.MonadicsEvents;
+import dev.wscp.monadics.result.DoubleErr;
+import dev.wscp.monadics.result.DoubleResult;
+import dev.wscp.monadics.util.ExceptionPolicy;
+import dev.wscp.monadics.util.UnwrapException;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.OptionalDouble;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.DoubleStream;
+
+/**
+ * An {@link Option} specialised for double values, held unboxed.
+ * The empty case is always the shared {@link DoubleNone} instance returned by {@link #none()}.
+ */
+public sealed interface DoubleOption permits DoubleSome, DoubleNone {
+
+    static DoubleOption none() {
+        return DoubleNone.INSTANCE;
+    }
+
+    static DoubleOption someOf(double value) {
+        return new DoubleSome(value);
+    }
+
+    /**
+     * Converts from the JDK counterpart. An empty optional maps to the shared {@link DoubleNone}.
+     */
+    static DoubleOption fromOptional(@NotNull OptionalDouble optional) {
+        if (optional.isPresent()) {
+            return new DoubleSome(optional.getAsDouble());
+        } else {
+            return none();
+        }
+    }
+
+    default boolean isSome() {
+        return this instanceof DoubleSome;
+    }
+
+    default boolean isNone() {
+        return this instanceof DoubleNone;
+    }
+
+    /**
+     * Converts to the JDK counterpart. None maps to the shared {@link OptionalDouble#empty()}.
+     */
+    default OptionalDouble toOptional() {
+        return switch (this) {
+            case DoubleSome(double value) -> OptionalDouble.of(value);
+            case DoubleNone ignored -> OptionalDouble.empty();
+        };
+    }
+
+    default DoubleStream toStream() {
+        return switch (this) {
+            case DoubleSome(double value) -> DoubleStream.of(value);
+            default -> DoubleStream.empty();
+        };
+    }
+
+    /**
+     * Passes the value to action if this is {@link DoubleSome}. Has the shape {@link DoubleStream#mapMulti} and
+     * {@link java.util.stream.Stream#mapMultiToDouble} expect, so options can be flattened without building a stream per element.
+     */
+    default void forEach(@NotNull DoubleConsumer action) {
+        if (this instanceof DoubleSome(double value)) {
+            action.accept(value);
+        }
+    }
+
+    default double unwrap() {
+        return switch (this) {
+            case DoubleSome(double value) -> value;
+            case DoubleNone n -> {
+                MonadicsEvents.unwrapFailed("DoubleOption.unwrap", null);
+                throw new UnwrapException(() -> "Unwrapped a none value!", ExceptionPolicy.defaultPolicy());
+            }
+        };
+    }
+
+    default double unwrapOrDefault(double defaultValue) {
+        return switch (this) {
+            case DoubleSome(double value) -> value;
+            case DoubleNone n -> defaultValue;
+        };
+    }
+
+    default DoubleOption map(@NotNull DoubleUnaryOperator action) {
+        return switch (this) {
+            case DoubleSome(double value) -> new DoubleSome(action.applyAsDouble(value));
+            case DoubleNone n -> n;
+        };
+    }
+
+    /**
+     * Boxes the value into a generic option through action.
+     */
+    default <V> Option<V> mapToObj(@NotNull DoubleFunction<V> action) {
+        return switch (this) {
+            case DoubleSome(double value) -> Option.someOf(action.apply(value));
+            case DoubleNone n -> Option.none();
+        };
+    }
+
+    default DoubleOption mapDefault(@NotNull DoubleUnaryOperator action, double defaultValue) {
+        return switch (this) {
+            case DoubleSome(double value) -> new DoubleSome(action.applyAsDouble(value));
+            case DoubleNone n -> new DoubleSome(defaultValue);
+        };
+    }
+
+    default DoubleOption andThen(@NotNull DoubleFunction<DoubleOption> action) {
+        return switch (this) {
+            case DoubleSome(double value) -> action.apply(value);
+            case DoubleNone n -> n;
+        };
+    }
+
+    default DoubleOption orElse(Supplier<DoubleOption> action) {
+        return switch (this) {
+            case DoubleSome s -> s;
+            case DoubleNone n -> action.get();
+        };
+    }
+
+    default DoubleOption or(DoubleOption other) {
+        return switch (this) {
+            case DoubleSome s -> s;
+            case DoubleNone n -> other;
+        };
+    }
+
+    default DoubleOption and(DoubleOption other) {
+        return switch (this) {
+            case DoubleSome s -> other;
+            case DoubleNone n -> n;
+        };
+    }
+
+    default DoubleOption xor(DoubleOption other) {
+        return switch (this) {
+            case DoubleSome s -> other.isNone() ? s : none();
+            case DoubleNone n -> other.isSome() ? other : n;
+        };
+    }
+
+    default <E> DoubleResult<E> okOr(DoubleErr<E> err) {
+        return switch (this) {
+            case DoubleSome(double value) -> DoubleResult.okOf(value);
+            case DoubleNone n -> err;
+        };
+    }
+
+    default <E> DoubleResult<E> okOrElse(Supplier<E> errAction) {
+        return switch (this) {
+            case DoubleSome(double value) -> DoubleResult.okOf(value);
+            case DoubleNone n -> DoubleResult.errOf(errAction.get());
+        };
+    }
+
+    /**
+     * Boxes this option. Meant for the boundaries of a primitive pipeline.
+     */
+    default Option<Double> toOption() {
+        return switch (this) {
+            case DoubleSome(double value) -> new Some<>(value);
+            case DoubleNone n -> Option.none();
+        };
+    }
+}
@@ -0,0 +1,238 @@
+package dev.wscp.monadics.option;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * An immutable column of {@link DoubleOption}s, stored as a double array plus a presence bitmap.
+ *
+ * <p>A sparse column of n elements costs 8 bytes and one bit per element, instead of one option object,
+ * and for present elements one boxed value, each. Absent elements always hold 0 in the value array,
+ * so {@link #sum()} never needs to look at the bitmap. Bulk operations run on the installed {@link ColumnKernels},
+ * which vectorize them when the {@code monadics21-vector} module is on the class path.</p>
+ *
+ * <p>{@link #get(int)} builds a DoubleOption on demand, only when the caller asks for one.</p>
+ */
+public final class DoubleOptionColumn {
+    private final double[] values;
+    private final long[] present;
+    private final int size;
+
+    private DoubleOptionColumn(double[] values, long[] present, int size) {
+        this.values = values;
+        this.present = present;
+        this.size = size;
+    }
+
+    public static Builder builder(int expectedSize) {
+        return new Builder(Presence.checkExpectedSize(expectedSize));
+    }
+
+    public static DoubleOptionColumn of(@NotNull DoubleOption... options) {
+        var builder = new Builder(options.length);
+        for (var option : options) {
+            builder.add(option);
+        }
+        return builder.build();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return How many elements are present. A popcount over the bitmap.
+     */
+    public int count() {
+        return Presence.count(present);
+    }
+
+    public boolean isPresent(int index) {
+        Objects.checkIndex(index, size);
+        return Presence.isSet(present, index);
+    }
+
+    public DoubleOption get(int index) {
+        return isPresent(index) ? DoubleOption.someOf(values[index]) : DoubleOption.none();
+    }
+
+    public double getOrDefault(int index, double defaultValue) {
+        return isPresent(index) ? values[index] : defaultValue;
+    }
+
+    /**
+     * @see DoubleOption#map(DoubleUnaryOperator)
+     * @return A column with every present element mapped. The action never sees absent elements.
+     */
+    public DoubleOptionColumn map(@NotNull DoubleUnaryOperator action) {
+        var mapped = new double[size];
+        for (int w = 0; w < present.length; w++) {
+            int base = w << 6;
+            long word = present[w];
+            if (word == -1L) {
+                for (int i = base; i < base + 64; i++) {
+                    mapped[i] = action.applyAsDouble(values[i]);
+                }
+            } else {
+                for (; word != 0; word &= word - 1) {
+                    int i = base | Long.numberOfTrailingZeros(word);
+                    mapped[i] = action.applyAsDouble(values[i]);
+                }
+            }
+        }
+        return new DoubleOptionColumn(mapped, present, size);
+    }
+
+    /**
+     * @return A column where the present elements that fail the predicate become absent.
+     */
+    public DoubleOptionColumn filter(@NotNull DoublePredicate predicate) {
+        var kept = present.clone();
+        var filtered = values.clone();
+        for (int w = 0; w < present.length; w++) {
+            for (long word = present[w]; word != 0; word &= word - 1) {
+                int bit = Long.numberOfTrailingZeros(word);
+                int i = w << 6 | bit;
+                if (!predicate.test(values[i])) {
+                    kept[w] &= ~(1L << bit);
+                    filtered[i] = 0;
+                }
+            }
+        }
+        return new DoubleOptionColumn(filtered, kept, size);
+    }
+
+    /**
+     * @return A column where the present elements not greater than threshold become absent.
+     */
+    public DoubleOptionColumn filterGreaterThan(double threshold) {
+        var kept = Kernels.INSTALLED.greaterThan(values, present, threshold);
+        var filtered = values.clone();
+        for (int w = 0; w < present.length; w++) {
+            for (long word = present[w] & ~kept[w]; word != 0; word &= word - 1) {
+                filtered[w << 6 | Long.numberOfTrailingZeros(word)] = 0;
+            }
+        }
+        return new DoubleOptionColumn(filtered, kept, size);
+    }
+
+    /**
+     * @return The sum of the present elements, or 0 if none are present. Always a plain loop, see {@link ColumnKernels}.
+     */
+    public double sum() {
+        double sum = 0;
+        for (double value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    /**
+     * @return The smallest present element, or none if no element is present.
+     */
+    public DoubleOption min() {
+        return Presence.isEmpty(present) ? DoubleOption.none() : DoubleOption.someOf(Kernels.INSTALLED.min(values, present));
+    }
+
+    /**
+     * @return The largest present element, or none if no element is present.
+     */
+    public DoubleOption max() {
+        return Presence.isEmpty(present) ? DoubleOption.none() : DoubleOption.someOf(Kernels.INSTALLED.max(values, present));
+    }
+
+    /**
+     * The element-wise counterpart of {@link DoubleOption#or(DoubleOption)}.
+     *
+     * @return A column holding this column's element where it is present, and the other column's otherwise.
+     * @throws IllegalArgumentException If the columns differ in size.
+     */
+    public DoubleOptionColumn or(@NotNull DoubleOptionColumn other) {
+        Presence.checkSameSize(size, other.size);
+        var merged = new double[size];
+        Kernels.INSTALLED.or(values, present, other.values, merged);
+        return new DoubleOptionColumn(merged, Presence.or(present, other.present), size);
+    }
+
+    /**
+     * The element-wise counterpart of {@link DoubleOption#xor(DoubleOption)}.
+     *
+     * @return A column holding the element of whichever column has one, where exactly one of them does.
+     * @throws IllegalArgumentException If the columns differ in size.
+     */
+    public DoubleOptionColumn xor(@NotNull DoubleOptionColumn other) {
+        Presence.checkSameSize(size, other.size);
+        var merged = new double[size];
+        Kernels.INSTALLED.xor(values, present, other.values, other.present, merged);
+        return new DoubleOptionColumn(merged, Presence.xor(present, other.present), size);
+    }
+
+    /**
+     * Visits the present elements in order.
+     */
+    public void forEach(@NotNull DoubleConsumer action) {
+        for (int w = 0; w < present.length; w++) {
+            for (long word = present[w]; word != 0; word &= word - 1) {
+                action.accept(values[w << 6 | Long.numberOfTrailingZeros(word)]);
+            }
+        }
+    }
+
+    /**
+     * Collects elements into an {@link DoubleOptionColumn}. A builder can only build once.
+     */
+    public static final class Builder {
+        private double[] values;
+        private long[] present;
+        private int size;
+
+        private Builder(int expectedSize) {
+            this.values = new double[expectedSize];
+            this.present = new long[Presence.words(expectedSize)];
+        }
+
+        public Builder add(double value) {
+            int index = append();
+            values[index] = value;
+            present[index >>> 6] |= 1L << index;
+            return this;
+        }
+
+        public Builder addNone() {
+            append();
+            return this;
+        }
+
+        public Builder add(@NotNull DoubleOption option) {
+            return switch (option) {
+                case DoubleSome(double value) -> add(value);
+                case DoubleNone none -> addNone();
+            };
+        }
+
+        public DoubleOptionColumn build() {
+            Presence.checkNotBuilt(values);
+            var trimmed = size == values.length ? values : Arrays.copyOf(values, size);
+            var trimmedBits = present.length == Presence.words(size) ? present : Arrays.copyOf(present, Presence.words(size));
+            var column = new DoubleOptionColumn(trimmed, trimmedBits, size);
+            values = null;
+            present = null;
+            return column;
+        }
+
+        private int append() {
+            Presence.checkNotBuilt(values);
+            if (size == values.length) {
+                int capacity = Math.max(16, size + (size >> 1));
+                values = Arrays.copyOf(values, capacity);
+                present = Presence.grow(present, capacity);
+            }
+            return size++;
+        }
+    }
+}
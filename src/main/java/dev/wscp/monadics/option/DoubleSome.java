@@ -0,0 +1,3 @@
+package dev.wscp.monadics.option;
+
+public record DoubleSome(double value) implements DoubleOption { }
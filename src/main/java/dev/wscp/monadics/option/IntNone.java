@@ -0,0 +1,8 @@
+package dev.wscp.monadics.option;
+
+public record IntNone() implements IntOption {
+    /**
+     * The canonical empty int option. Prefer {@link IntOption#none()} over constructing new instances.
+     */
+    static final IntNone INSTANCE = new IntNone();
+}
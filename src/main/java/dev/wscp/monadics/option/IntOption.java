@@ -0,0 +1,176 @@
+package dev.wscp.monadics.option;
+
+import dev.wscp.monadics.jfr.MonadicsEvents;
+import dev.wscp.monadics.result.IntErr;
+import dev.wscp.monadics.result.IntResult;
+import dev.wscp.monadics.util.ExceptionPolicy;
+import dev.wscp.monadics.util.UnwrapException;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.OptionalInt;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * An {@link Option} specialised for int values, held unboxed.
+ * The empty case is always the shared {@link IntNone} instance returned by {@link #none()}.
+ */
+public sealed interface IntOption permits IntSome, IntNone {
+
+    static IntOption none() {
+        return IntNone.INSTANCE;
+    }
+
+    static IntOption someOf(int value) {
+        return new IntSome(value);
+    }
+
+    /**
+     * Converts from the JDK counterpart. An empty optional maps to the shared {@link IntNone}.
+     */
+    static IntOption fromOptional(@NotNull OptionalInt optional) {
+        if (optional.isPresent()) {
+            return new IntSome(optional.getAsInt());
+        } else {
+            return none();
+        }
+    }
+
+    default boolean isSome() {
+        return this instanceof IntSome;
+    }
+
+    default boolean isNone() {
+        return this instanceof IntNone;
+    }
+
+    /**
+     * Converts to the JDK counterpart. None maps to the shared {@link OptionalInt#empty()}.
+     */
+    default OptionalInt toOptional() {
+        return switch (this) {
+            case IntSome(int value) -> OptionalInt.of(value);
+            case IntNone ignored -> OptionalInt.empty();
+        };
+    }
+
+    default IntStream toStream() {
+        return switch (this) {
+            case IntSome(int value) -> IntStream.of(value);
+            default -> IntStream.empty();
+        };
+    }
+
+    /**
+     * Passes the value to action if this is {@link IntSome}. Has the shape {@link IntStream#mapMulti} and
+     * {@link java.util.stream.Stream#mapMultiToInt} expect, so options can be flattened without building a stream per element.
+     */
+    default void forEach(@NotNull IntConsumer action) {
+        if (this instanceof IntSome(int value)) {
+            action.accept(value);
+        }
+    }
+
+    default int unwrap() {
+        return switch (this) {
+            case IntSome(int value) -> value;
+            case IntNone n -> {
+                MonadicsEvents.unwrapFailed("IntOption.unwrap", null);
+                throw new UnwrapException(() -> "Unwrapped a none value!", ExceptionPolicy.defaultPolicy());
+            }
+        };
+    }
+
+    default int unwrapOrDefault(int defaultValue) {
+        return switch (this) {
+            case IntSome(int value) -> value;
+            case IntNone n -> defaultValue;
+        };
+    }
+
+    default IntOption map(@NotNull IntUnaryOperator action) {
+        return switch (this) {
+            case IntSome(int value) -> new IntSome(action.applyAsInt(value));
+            case IntNone n -> n;
+        };
+    }
+
+    /**
+     * Boxes the value into a generic option through action.
+     */
+    default <V> Option<V> mapToObj(@NotNull IntFunction<V> action) {
+        return switch (this) {
+            case IntSome(int value) -> Option.someOf(action.apply(value));
+            case IntNone n -> Option.none();
+        };
+    }
+
+    default IntOption mapDefault(@NotNull IntUnaryOperator action, int defaultValue) {
+        return switch (this) {
+            case IntSome(int value) -> new IntSome(action.applyAsInt(value));
+            case IntNone n -> new IntSome(defaultValue);
+        };
+    }
+
+    default IntOption andThen(@NotNull IntFunction<IntOption> action) {
+        return switch (this) {
+            case IntSome(int value) -> action.apply(value);
+            case IntNone n -> n;
+        };
+    }
+
+    default IntOption orElse(Supplier<IntOption> action) {
+        return switch (this) {
+            case IntSome s -> s;
+            case IntNone n -> action.get();
+        };
+    }
+
+    default IntOption or(IntOption other) {
+        return switch (this) {
+            case IntSome s -> s;
+            case IntNone n -> other;
+        };
+    }
+
+    default IntOption and(IntOption other) {
+        return switch (this) {
+            case IntSome s -> other;
+            case IntNone n -> n;
+        };
+    }
+
+    default IntOption xor(IntOption other) {
+        return switch (this) {
+            case IntSome s -> other.isNone() ? s : none();
+            case IntNone n -> other.isSome() ? other : n;
+        };
+    }
+
+    default <E> IntResult<E> okOr(IntErr<E> err) {
+        return switch (this) {
+            case IntSome(int value) -> IntResult.okOf(value);
+            case IntNone n -> err;
+        };
+    }
+
+    default <E> IntResult<E> okOrElse(Supplier<E> errAction) {
+        return switch (this) {
+            case IntSome(int value) -> IntResult.okOf(value);
+            case IntNone n -> IntResult.errOf(errAction.get());
+        };
+    }
+
+    /**
+     * Boxes this option. Meant for the boundaries of a primitive pipeline.
+     */
+    default Option<Integer> toOption() {
+        return switch (this) {
+            case IntSome(int value) -> new Some<>(value);
+            case IntNone n -> Option.none();
+        };
+    }
+}
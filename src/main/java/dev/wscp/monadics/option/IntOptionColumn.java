@@ -0,0 +1,234 @@
+package dev.wscp.monadics.option;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * An immutable column of {@link IntOption}s, stored as an int array plus a presence bitmap.
+ *
+ * <p>A sparse column of n elements costs 4 bytes and one bit per element, instead of one option object,
+ * and for present elements one boxed value, each. Absent elements always hold 0 in the value array,
+ * so {@link #sum()} never needs to look at the bitmap. Bulk operations run on the installed {@link ColumnKernels},
+ * which vectorize them when the {@code monadics21-vector} module is on the class path.</p>
+ *
+ * <p>{@link #get(int)} builds an IntOption on demand, only when the caller asks for one.</p>
+ */
+public final class IntOptionColumn {
+    private final int[] values;
+    private final long[] present;
+    private final int size;
+
+    private IntOptionColumn(int[] values, long[] present, int size) {
+        this.values = values;
+        this.present = present;
+        this.size = size;
+    }
+
+    public static Builder builder(int expectedSize) {
+        return new Builder(Presence.checkExpectedSize(expectedSize));
+    }
+
+    public static IntOptionColumn of(@NotNull IntOption... options) {
+        var builder = new Builder(options.length);
+        for (var option : options) {
+            builder.add(option);
+        }
+        return builder.build();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return How many elements are present. A popcount over the bitmap.
+     */
+    public int count() {
+        return Presence.count(present);
+    }
+
+    public boolean isPresent(int index) {
+        Objects.checkIndex(index, size);
+        return Presence.isSet(present, index);
+    }
+
+    public IntOption get(int index) {
+        return isPresent(index) ? IntOption.someOf(values[index]) : IntOption.none();
+    }
+
+    public int getOrDefault(int index, int defaultValue) {
+        return isPresent(index) ? values[index] : defaultValue;
+    }
+
+    /**
+     * @see IntOption#map(IntUnaryOperator)
+     * @return A column with every present element mapped. The action never sees absent elements.
+     */
+    public IntOptionColumn map(@NotNull IntUnaryOperator action) {
+        var mapped = new int[size];
+        for (int w = 0; w < present.length; w++) {
+            int base = w << 6;
+            long word = present[w];
+            if (word == -1L) {
+                for (int i = base; i < base + 64; i++) {
+                    mapped[i] = action.applyAsInt(values[i]);
+                }
+            } else {
+                for (; word != 0; word &= word - 1) {
+                    int i = base | Long.numberOfTrailingZeros(word);
+                    mapped[i] = action.applyAsInt(values[i]);
+                }
+            }
+        }
+        return new IntOptionColumn(mapped, present, size);
+    }
+
+    /**
+     * @return A column where the present elements that fail the predicate become absent.
+     */
+    public IntOptionColumn filter(@NotNull IntPredicate predicate) {
+        var kept = present.clone();
+        var filtered = values.clone();
+        for (int w = 0; w < present.length; w++) {
+            for (long word = present[w]; word != 0; word &= word - 1) {
+                int bit = Long.numberOfTrailingZeros(word);
+                int i = w << 6 | bit;
+                if (!predicate.test(values[i])) {
+                    kept[w] &= ~(1L << bit);
+                    filtered[i] = 0;
+                }
+            }
+        }
+        return new IntOptionColumn(filtered, kept, size);
+    }
+
+    /**
+     * @return A column where the present elements not greater than threshold become absent.
+     */
+    public IntOptionColumn filterGreaterThan(int threshold) {
+        var kept = Kernels.INSTALLED.greaterThan(values, present, threshold);
+        var filtered = values.clone();
+        for (int w = 0; w < present.length; w++) {
+            for (long word = present[w] & ~kept[w]; word != 0; word &= word - 1) {
+                filtered[w << 6 | Long.numberOfTrailingZeros(word)] = 0;
+            }
+        }
+        return new IntOptionColumn(filtered, kept, size);
+    }
+
+    /**
+     * @return The sum of the present elements, as a long so it cannot overflow. 0 if none are present.
+     */
+    public long sum() {
+        return Kernels.INSTALLED.sum(values);
+    }
+
+    /**
+     * @return The smallest present element, or none if no element is present.
+     */
+    public IntOption min() {
+        return Presence.isEmpty(present) ? IntOption.none() : IntOption.someOf(Kernels.INSTALLED.min(values, present));
+    }
+
+    /**
+     * @return The largest present element, or none if no element is present.
+     */
+    public IntOption max() {
+        return Presence.isEmpty(present) ? IntOption.none() : IntOption.someOf(Kernels.INSTALLED.max(values, present));
+    }
+
+    /**
+     * The element-wise counterpart of {@link IntOption#or(IntOption)}.
+     *
+     * @return A column holding this column's element where it is present, and the other column's otherwise.
+     * @throws IllegalArgumentException If the columns differ in size.
+     */
+    public IntOptionColumn or(@NotNull IntOptionColumn other) {
+        Presence.checkSameSize(size, other.size);
+        var merged = new int[size];
+        Kernels.INSTALLED.or(values, present, other.values, merged);
+        return new IntOptionColumn(merged, Presence.or(present, other.present), size);
+    }
+
+    /**
+     * The element-wise counterpart of {@link IntOption#xor(IntOption)}.
+     *
+     * @return A column holding the element of whichever column has one, where exactly one of them does.
+     * @throws IllegalArgumentException If the columns differ in size.
+     */
+    public IntOptionColumn xor(@NotNull IntOptionColumn other) {
+        Presence.checkSameSize(size, other.size);
+        var merged = new int[size];
+        Kernels.INSTALLED.xor(values, present, other.values, other.present, merged);
+        return new IntOptionColumn(merged, Presence.xor(present, other.present), size);
+    }
+
+    /**
+     * Visits the present elements in order.
+     */
+    public void forEach(@NotNull IntConsumer action) {
+        for (int w = 0; w < present.length; w++) {
+            for (long word = present[w]; word != 0; word &= word - 1) {
+                action.accept(values[w << 6 | Long.numberOfTrailingZeros(word)]);
+            }
+        }
+    }
+
+    /**
+     * Collects elements into an {@link IntOptionColumn}. A builder can only build once.
+     */
+    public static final class Builder {
+        private int[] values;
+        private long[] present;
+        private int size;
+
+        private Builder(int expectedSize) {
+            this.values = new int[expectedSize];
+            this.present = new long[Presence.words(expectedSize)];
+        }
+
+        public Builder add(int value) {
+            int index = append();
+            values[index] = value;
+            present[index >>> 6] |= 1L << index;
+            return this;
+        }
+
+        public Builder addNone() {
+            append();
+            return this;
+        }
+
+        public Builder add(@NotNull IntOption option) {
+            return switch (option) {
+                case IntSome(int value) -> add(value);
+                case IntNone none -> addNone();
+            };
+        }
+
+        public IntOptionColumn build() {
+            Presence.checkNotBuilt(values);
+            var trimmed = size == values.length ? values : Arrays.copyOf(values, size);
+            var trimmedBits = present.length == Presence.words(size) ? present : Arrays.copyOf(present, Presence.words(size));
+            var column = new IntOptionColumn(trimmed, trimmedBits, size);
+            values = null;
+            present = null;
+            return column;
+        }
+
+        private int append() {
+            Presence.checkNotBuilt(values);
+            if (size == values.length) {
+                int capacity = Math.max(16, size + (size >> 1));
+                values = Arrays.copyOf(values, capacity);
+                present = Presence.grow(present, capacity);
+            }
+            return size++;
+        }
+    }
+}
@@ -0,0 +1,3 @@
+package dev.wscp.monadics.option;
+
+public record IntSome(int value) implements IntOption { }
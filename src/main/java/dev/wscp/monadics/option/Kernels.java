@@ -0,0 +1,32 @@
+package dev.wscp.monadics.option;
+
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * Picks the {@link ColumnKernels} implementation once, when the first column needs it.
+ */
+final class Kernels {
+    static final ColumnKernels INSTALLED = load(System.getProperty(ColumnKernels.PROPERTY), ServiceLoader.load(ColumnKernels.class));
+
+    private Kernels() {}
+
+    /**
+     * A provider that needs a module the JVM was started without fails to load, rather than being skipped,
+     * so load failures fall back to the scalar loops too.
+     */
+    static ColumnKernels load(String property, Iterable<ColumnKernels> providers) {
+        if ("scalar".equalsIgnoreCase(property)) {
+            return ScalarColumnKernels.INSTANCE;
+        }
+        try {
+            var iterator = providers.iterator();
+            if (iterator.hasNext()) {
+                return iterator.next();
+            }
+        } catch (ServiceConfigurationError | LinkageError e) {
+            return ScalarColumnKernels.INSTANCE;
+        }
+        return ScalarColumnKernels.INSTANCE;
+    }
+}
@@ -0,0 +1,8 @@
+package dev.wscp.monadics.option;
+
+public record LongNone() implements LongOption {
+    /**
+     * The canonical empty long option. Prefer {@link LongOption#none()} over constructing new instances.
+     */
+    static final LongNone INSTANCE = new LongNone();
+}
@@ -0,0 +1,176 @@
+package dev.wscp.monadics.option;
+
+import dev.wscp.monadics.jfr.MonadicsEvents;
+import dev.wscp.monadics.result.LongErr;
+import dev.wscp.monadics.result.LongResult;
+import dev.wscp.monadics.util.ExceptionPolicy;
+import dev.wscp.monadics.util.UnwrapException;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.OptionalLong;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+/**
+ * An {@link Option} specialised for long values, held unboxed.
+ * The empty case is always the shared {@link LongNone} instance returned by {@link #none()}.
+ */
+public sealed interface LongOption permits LongSome, LongNone {
+
+    static LongOption none() {
+        return LongNone.INSTANCE;
+    }
+
+    static LongOption someOf(long value) {
+        return new LongSome(value);
+    }
+
+    /**
+     * Converts from the JDK counterpart. An empty optional maps to the shared {@link LongNone}.
+     */
+    static LongOption fromOptional(@NotNull OptionalLong optional) {
+        if (optional.isPresent()) {
+            return new LongSome(optional.getAsLong());
+        } else {
+            return none();
+        }
+    }
+
+    default boolean isSome() {
+        return this instanceof LongSome;
+    }
+
+    default boolean isNone() {
+        return this instanceof LongNone;
+    }
+
+    /**
+     * Converts to the JDK counterpart. None maps to the shared {@link OptionalLong#empty()}.
+     */
+    default OptionalLong toOptional() {
+        return switch (this) {
+            case LongSome(long value) -> OptionalLong.of(value);
+            case LongNone ignored -> OptionalLong.empty();
+        };
+    }
+
+    default LongStream toStream() {
+        return switch (this) {
+            case LongSome(long value) -> LongStream.of(value);
+            default -> LongStream.empty();
+        };
+    }
+
+    /**
+     * Passes the value to action if this is {@link LongSome}. Has the shape {@link LongStream#mapMulti} and
+     * {@link java.util.stream.Stream#mapMultiToLong} expect, so options can be flattened without building a stream per element.
+     */
+    default void forEach(@NotNull LongConsumer action) {
+        if (this instanceof LongSome(long value)) {
+            action.accept(value);
+        }
+    }
+
+    default long unwrap() {
+        return switch (this) {
+            case LongSome(long value) -> value;
+            case LongNone n -> {
+                MonadicsEvents.unwrapFailed("LongOption.unwrap", null);
+                throw new UnwrapException(() -> "Unwrapped a none value!", ExceptionPolicy.defaultPolicy());
+            }
+        };
+    }
+
+    default long unwrapOrDefault(long defaultValue) {
+        return switch (this) {
+            case LongSome(long value) -> value;
+            case LongNone n -> defaultValue;
+        };
+    }
+
+    default LongOption map(@NotNull LongUnaryOperator action) {
+        return switch (this) {
+            case LongSome(long value) -> new LongSome(action.applyAsLong(value));
+            case LongNone n -> n;
+        };
+    }
+
+    /**
+     * Boxes the value into a generic option through action.
+     */
+    default <V> Option<V> mapToObj(@NotNull LongFunction<V> action) {
+        return switch (this) {
+            case LongSome(long value) -> Option.someOf(action.apply(value));
+            case LongNone n -> Option.none();
+        };
+    }
+
+    default LongOption mapDefault(@NotNull LongUnaryOperator action, long defaultValue) {
+        return switch (this) {
+            case LongSome(long value) -> new LongSome(action.applyAsLong(value));
+            case LongNone n -> new LongSome(defaultValue);
+        };
+    }
+
+    default LongOption andThen(@NotNull LongFunction<LongOption> action) {
+        return switch (this) {
+            case LongSome(long value) -> action.apply(value);
+            case LongNone n -> n;
+        };
+    }
+
+    default LongOption orElse(Supplier<LongOption> action) {
+        return switch (this) {
+            case LongSome s -> s;
+            case LongNone n -> action.get();
+        };
+    }
+
+    default LongOption or(LongOption other) {
+        return switch (this) {
+            case LongSome s -> s;
+            case LongNone n -> other;
+        };
+    }
+
+    default LongOption and(LongOption other) {
+        return switch (this) {
+            case LongSome s -> other;
+            case LongNone n -> n;
+        };
+    }
+
+    default LongOption xor(LongOption other) {
+        return switch (this) {
+            case LongSome s -> other.isNone() ? s : none();
+            case LongNone n -> other.isSome() ? other : n;
+        };
+    }
+
+    default <E> LongResult<E> okOr(LongErr<E> err) {
+        return switch (this) {
+            case LongSome(long value) -> LongResult.okOf(value);
+            case LongNone n -> err;
+        };
+    }
+
+    default <E> LongResult<E> okOrElse(Supplier<E> errAction) {
+        return switch (this) {
+            case LongSome(long value) -> LongResult.okOf(value);
+            case LongNone n -> LongResult.errOf(errAction.get());
+        };
+    }
+
+    /**
+     * Boxes this option. Meant for the boundaries of a primitive pipeline.
+     */
+    default Option<Long> toOption() {
+        return switch (this) {
+            case LongSome(long value) -> new Some<>(value);
+            case LongNone n -> Option.none();
+        };
+    }
+}
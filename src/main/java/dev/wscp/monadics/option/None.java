@@ -1,3 +1,9 @@
 package dev.wscp.monadics.option;
 
-public record None<T>() implements Option<T> { }
+public record None<T>() implements Option<T> {
+    /**
+     * The canonical empty option. None holds no value, so one instance can be shared between all type parameters.
+     * Prefer {@link Option#none()} over constructing new instances.
+     */
+    static final None<?> INSTANCE = new None<>();
+}
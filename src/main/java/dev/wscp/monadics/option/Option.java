@@ -1,21 +1,31 @@
 package dev.wscp.monadics.option;
 
+import dev.wscp.monadics.jfr.MonadicsEvents;
 import dev.wscp.monadics.result.Err;
 import dev.wscp.monadics.result.Result;
+import dev.wscp.monadics.util.ExceptionPolicy;
 import dev.wscp.monadics.util.UnwrapException;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 public sealed interface Option<T> permits Some, None {
 
+    /**
+     * @return The shared {@link None} instance, typed for the caller.
+     */
+    @SuppressWarnings("unchecked")
     static <T> Option<T> none() {
-        return new None<>();
+        return (None<T>) None.INSTANCE;
     }
 
     static <T> Option<@NotNull T> someOf(@NotNull T value) {
@@ -36,6 +46,89 @@ public sealed interface Option<T> permits Some, None {
         }
     }
 
+    /**
+     * Turns a sequence of options into an option of a list, or {@link None} if any of them is None.
+     * The options are walked once, into a list presized to the size of the collection. The list is unmodifiable.
+     */
+    static <T> Option<List<T>> sequence(@NotNull Iterable<? extends Option<T>> options) {
+        return Traversals.sequence(options);
+    }
+
+    /**
+     * @see #sequence(Iterable)
+     */
+    @SafeVarargs
+    static <T> Option<List<T>> sequence(@NotNull Option<T>... options) {
+        return Traversals.sequence(options);
+    }
+
+    /**
+     * Consumes options up to and including the first {@link None}.
+     *
+     * @see #sequence(Iterable)
+     */
+    static <T> Option<List<T>> sequence(@NotNull Iterator<? extends Option<T>> options) {
+        return Traversals.sequence(options, Traversals.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Consumes the stream lazily, so no element after the first {@link None} is computed.
+     *
+     * @see #sequence(Iterable)
+     */
+    static <T> Option<List<T>> sequence(@NotNull Stream<? extends Option<T>> options) {
+        return Traversals.sequence(options);
+    }
+
+    /**
+     * Applies an action to every item, stopping at the first {@link None}. The output list is presized when
+     * the number of items is known. The list is unmodifiable.
+     */
+    static <A, T> Option<List<T>> traverse(@NotNull Iterable<A> items, @NotNull Function<? super A, ? extends Option<T>> action) {
+        return Traversals.traverse(items, action);
+    }
+
+    /**
+     * @see #traverse(Iterable, Function)
+     */
+    static <A, T> Option<List<T>> traverse(@NotNull A[] items, @NotNull Function<? super A, ? extends Option<T>> action) {
+        return Traversals.traverse(items, action);
+    }
+
+    /**
+     * @see #traverse(Iterable, Function)
+     */
+    static <A, T> Option<List<T>> traverse(@NotNull Iterator<A> items, @NotNull Function<? super A, ? extends Option<T>> action) {
+        return Traversals.traverse(items, Traversals.DEFAULT_CAPACITY, action);
+    }
+
+    /**
+     * @see #traverse(Iterable, Function)
+     */
+    static <A, T> Option<List<T>> traverse(@NotNull Stream<A> items, @NotNull Function<? super A, ? extends Option<T>> action) {
+        return Traversals.traverse(items, action);
+    }
+
+    /**
+     * Applies an action to every item in parallel, on the given pool. Once any item produces a {@link None},
+     * the remaining work stops as soon as possible and the whole traversal returns None.
+     *
+     * @param items  The items to go through. Should offer fast random access.
+     * @param action The action to apply to each item. Must be safe to call from several threads at once.
+     * @param pool   The pool to run on.
+     * @return Some with a fixed-size list of the values in input order, or None.
+     */
+    static <A, T> Option<List<T>> parallelTraverse(@NotNull List<A> items, @NotNull Function<? super A, ? extends Option<T>> action, @NotNull ForkJoinPool pool) {
+        return ParallelTraversal.traverse(items, action, pool);
+    }
+
+    /**
+     * Runs {@link #parallelTraverse(List, Function, ForkJoinPool)} on the {@link ForkJoinPool#commonPool()}.
+     */
+    static <A, T> Option<List<T>> parallelTraverse(@NotNull List<A> items, @NotNull Function<? super A, ? extends Option<T>> action) {
+        return ParallelTraversal.traverse(items, action, ForkJoinPool.commonPool());
+    }
+
     default boolean isSome() {
         return this instanceof Some<T>;
     }
@@ -58,10 +151,34 @@ public sealed interface Option<T> permits Some, None {
         };
     }
 
+    /**
+     * Passes the value to action if this is {@link Some}. Has the shape {@link Stream#mapMulti} expects, so
+     * {@code stream.<T>mapMulti(Option::forEach)} flattens a stream of options without building a stream per element,
+     * unlike {@code stream.flatMap(Option::toStream)}.
+     *
+     * @param action The action to run on the value.
+     */
+    default void forEach(@NotNull Consumer<? super T> action) {
+        if (this instanceof Some(T value)) {
+            action.accept(value);
+        }
+    }
+
     default @NotNull T unwrap() {
+        return unwrapWith(ExceptionPolicy.defaultPolicy());
+    }
+
+    /**
+     * @param policy Whether to fill in the stack trace of the exception thrown for None.
+     * @throws UnwrapException if this is None.
+     */
+    default @NotNull T unwrapWith(@NotNull ExceptionPolicy policy) {
         return switch (this) {
             case Some(T value) -> value;
-            case None<T> n -> throw new UnwrapException("Unwrapped a none value!");
+            case None<T> n -> {
+                MonadicsEvents.unwrapFailed("Option.unwrap", null);
+                throw new UnwrapException(() -> "Unwrapped a none value!", policy);
+            }
         };
     }
 
@@ -122,13 +239,10 @@ public sealed interface Option<T> permits Some, None {
         };
     }
 
-    @SuppressWarnings("unchecked")
     default Option<T> xor(Option<T> other) {
-        record Pair<L, R>(L left, R right) {}
-        return switch (new Pair<>(this, other)) {
-            case Pair(Some<T> s, None<T> ignored) -> s;
-            case Pair(None<T> ignored, Some<T> o) -> o;
-            default -> none();
+        return switch (this) {
+            case Some<T> s -> other.isNone() ? s : none();
+            case None<T> n -> other.isSome() ? other : n;
         };
     }
 
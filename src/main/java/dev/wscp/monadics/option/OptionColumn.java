@@ -0,0 +1,204 @@
+package dev.wscp.monadics.option;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * An immutable column of {@link Option}s, stored as an array of values plus a presence bitmap.
+ * The reference counterpart of {@link IntOptionColumn}: present elements cost one reference and absent ones
+ * cost nothing beyond their slot, instead of one {@link Some} or {@link None} per element.
+ *
+ * @param <T> The element type.
+ */
+public final class OptionColumn<T> {
+    /**
+     * Absent elements hold null, so they do not keep anything alive.
+     */
+    private final Object[] values;
+    private final long[] present;
+    private final int size;
+
+    private OptionColumn(Object[] values, long[] present, int size) {
+        this.values = values;
+        this.present = present;
+        this.size = size;
+    }
+
+    public static <T> Builder<T> builder(int expectedSize) {
+        return new Builder<>(Presence.checkExpectedSize(expectedSize));
+    }
+
+    @SafeVarargs
+    public static <T> OptionColumn<T> of(@NotNull Option<T>... options) {
+        var builder = new Builder<T>(options.length);
+        for (var option : options) {
+            builder.add(option);
+        }
+        return builder.build();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return How many elements are present. A popcount over the bitmap.
+     */
+    public int count() {
+        return Presence.count(present);
+    }
+
+    public boolean isPresent(int index) {
+        Objects.checkIndex(index, size);
+        return Presence.isSet(present, index);
+    }
+
+    @SuppressWarnings("unchecked")
+    public Option<T> get(int index) {
+        return isPresent(index) ? new Some<>((T) values[index]) : Option.none();
+    }
+
+    /**
+     * @see Option#map(Function)
+     * @return A column with every present element mapped. The action never sees absent elements.
+     */
+    @SuppressWarnings("unchecked")
+    public <V> OptionColumn<V> map(@NotNull Function<? super T, ? extends V> action) {
+        var mapped = new Object[size];
+        for (int w = 0; w < present.length; w++) {
+            for (long word = present[w]; word != 0; word &= word - 1) {
+                int i = w << 6 | Long.numberOfTrailingZeros(word);
+                mapped[i] = action.apply((T) values[i]);
+            }
+        }
+        return new OptionColumn<>(mapped, present, size);
+    }
+
+    /**
+     * @return A column where the present elements that fail the predicate become absent.
+     */
+    @SuppressWarnings("unchecked")
+    public OptionColumn<T> filter(@NotNull Predicate<? super T> predicate) {
+        var kept = present.clone();
+        var filtered = values.clone();
+        for (int w = 0; w < present.length; w++) {
+            for (long word = present[w]; word != 0; word &= word - 1) {
+                int bit = Long.numberOfTrailingZeros(word);
+                int i = w << 6 | bit;
+                if (!predicate.test((T) values[i])) {
+                    kept[w] &= ~(1L << bit);
+                    filtered[i] = null;
+                }
+            }
+        }
+        return new OptionColumn<>(filtered, kept, size);
+    }
+
+    /**
+     * @return The smallest present element according to the comparator, or none if no element is present.
+     */
+    @SuppressWarnings("unchecked")
+    public Option<T> min(@NotNull Comparator<? super T> comparator) {
+        boolean any = false;
+        T result = null;
+        for (int w = 0; w < present.length; w++) {
+            for (long word = present[w]; word != 0; word &= word - 1) {
+                var value = (T) values[w << 6 | Long.numberOfTrailingZeros(word)];
+                if (!any || comparator.compare(value, result) < 0) {
+                    result = value;
+                    any = true;
+                }
+            }
+        }
+        return any ? new Some<>(result) : Option.none();
+    }
+
+    /**
+     * The element-wise counterpart of {@link Option#or(Option)}.
+     *
+     * @return A column holding this column's element where it is present, and the other column's otherwise.
+     * @throws IllegalArgumentException If the columns differ in size.
+     */
+    public OptionColumn<T> or(@NotNull OptionColumn<T> other) {
+        Presence.checkSameSize(size, other.size);
+        var merged = other.values.clone();
+        for (int w = 0; w < present.length; w++) {
+            for (long word = present[w]; word != 0; word &= word - 1) {
+                int i = w << 6 | Long.numberOfTrailingZeros(word);
+                merged[i] = values[i];
+            }
+        }
+        return new OptionColumn<>(merged, Presence.or(present, other.present), size);
+    }
+
+    /**
+     * Visits the present elements in order.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(@NotNull Consumer<? super T> action) {
+        for (int w = 0; w < present.length; w++) {
+            for (long word = present[w]; word != 0; word &= word - 1) {
+                action.accept((T) values[w << 6 | Long.numberOfTrailingZeros(word)]);
+            }
+        }
+    }
+
+    /**
+     * Collects elements into an {@link OptionColumn}. A builder can only build once.
+     */
+    public static final class Builder<T> {
+        private Object[] values;
+        private long[] present;
+        private int size;
+
+        private Builder(int expectedSize) {
+            this.values = new Object[expectedSize];
+            this.present = new long[Presence.words(expectedSize)];
+        }
+
+        public Builder<T> add(T value) {
+            int index = append();
+            values[index] = value;
+            present[index >>> 6] |= 1L << index;
+            return this;
+        }
+
+        public Builder<T> addNone() {
+            append();
+            return this;
+        }
+
+        public Builder<T> add(@NotNull Option<T> option) {
+            return switch (option) {
+                case Some(T value) -> add(value);
+                case None<T> none -> addNone();
+            };
+        }
+
+        public OptionColumn<T> build() {
+            Presence.checkNotBuilt(values);
+            var trimmed = size == values.length ? values : Arrays.copyOf(values, size);
+            var trimmedBits = present.length == Presence.words(size) ? present : Arrays.copyOf(present, Presence.words(size));
+            var column = new OptionColumn<T>(trimmed, trimmedBits, size);
+            values = null;
+            present = null;
+            return column;
+        }
+
+        private int append() {
+            Presence.checkNotBuilt(values);
+            if (size == values.length) {
+                int capacity = Math.max(16, size + (size >> 1));
+                values = Arrays.copyOf(values, capacity);
+                present = Presence.grow(present, capacity);
+            }
+            return size++;
+        }
+    }
+}
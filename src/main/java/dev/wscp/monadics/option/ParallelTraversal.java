@@ -0,0 +1,72 @@
+package dev.wscp.monadics.option;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+
+/**
+ * Implementation of {@link Option#parallelTraverse(List, Function, ForkJoinPool)}.
+ * The input is split into index ranges that run as fork/join tasks, and every task stops once any of them finds a None.
+ */
+final class ParallelTraversal<A, T> {
+    /**
+     * How many leaf tasks to aim for per worker thread, so that uneven work still balances through work stealing.
+     */
+    private static final int TASKS_PER_THREAD = 8;
+
+    private final List<A> items;
+    private final Function<? super A, ? extends Option<T>> action;
+    private final Object[] values;
+    private final int threshold;
+    private volatile boolean foundNone;
+
+    private ParallelTraversal(List<A> items, Function<? super A, ? extends Option<T>> action, int parallelism) {
+        this.items = items;
+        this.action = action;
+        this.values = new Object[items.size()];
+        this.threshold = Math.max(1, items.size() / (parallelism * TASKS_PER_THREAD));
+    }
+
+    @SuppressWarnings("unchecked")
+    static <A, T> Option<List<T>> traverse(List<A> items, Function<? super A, ? extends Option<T>> action, ForkJoinPool pool) {
+        var traversal = new ParallelTraversal<>(items, action, pool.getParallelism());
+        pool.invoke(traversal.new Chunk(0, items.size()));
+        if (traversal.foundNone) {
+            return Option.none();
+        }
+        return new Some<>((List<T>) Arrays.asList(traversal.values));
+    }
+
+    private final class Chunk extends RecursiveAction {
+        private final int from;
+        private final int to;
+
+        Chunk(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (foundNone) {
+                return;
+            }
+            if (to - from > threshold) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new Chunk(from, middle), new Chunk(middle, to));
+                return;
+            }
+            for (int i = from; i < to && !foundNone; i++) {
+                switch (action.apply(items.get(i))) {
+                    case Some(T value) -> values[i] = value;
+                    case None<T> n -> {
+                        foundNone = true;
+                        return;
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package dev.wscp.monadics.option;
+
+import java.util.Arrays;
+
+/**
+ * Helpers for the presence bitmaps of the option columns. Bit i of a bitmap is set if element i is present.
+ */
+final class Presence {
+    private Presence() {}
+
+    static int words(int size) {
+        return (size + 63) >>> 6;
+    }
+
+    static boolean isSet(long[] bits, int index) {
+        return (bits[index >>> 6] & 1L << index) != 0;
+    }
+
+    static int count(long[] bits) {
+        int count = 0;
+        for (long word : bits) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    static boolean isEmpty(long[] bits) {
+        for (long word : bits) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static long[] xor(long[] a, long[] b) {
+        var result = new long[a.length];
+        for (int w = 0; w < a.length; w++) {
+            result[w] = a[w] ^ b[w];
+        }
+        return result;
+    }
+
+    static long[] or(long[] a, long[] b) {
+        var result = new long[a.length];
+        for (int w = 0; w < a.length; w++) {
+            result[w] = a[w] | b[w];
+        }
+        return result;
+    }
+
+    static long[] grow(long[] bits, int capacity) {
+        int words = words(capacity);
+        return bits.length >= words ? bits : Arrays.copyOf(bits, words);
+    }
+
+    static int checkExpectedSize(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size must not be negative, got " + expectedSize);
+        }
+        return expectedSize;
+    }
+
+    static void checkSameSize(int size, int otherSize) {
+        if (size != otherSize) {
+            throw new IllegalArgumentException("Columns differ in size: " + size + " and " + otherSize);
+        }
+    }
+
+    static void checkNotBuilt(Object values) {
+        if (values == null) {
+            throw new IllegalStateException("This builder has already built its column");
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package dev.wscp.monadics.option;
+
+/**
+ * The default {@link ColumnKernels}: plain loops, which the JIT unrolls and, for the sums, vectorizes on its own.
+ * Loops that must skip absent elements go a bitmap word at a time, with a counted loop for words that are all present.
+ */
+final class ScalarColumnKernels implements ColumnKernels {
+    static final ScalarColumnKernels INSTANCE = new ScalarColumnKernels();
+
+    private ScalarColumnKernels() {}
+
+    @Override
+    public long sum(int[] values) {
+        long sum = 0;
+        for (int value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    @Override
+    public long sum(long[] values) {
+        long sum = 0;
+        for (long value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    @Override
+    public int min(int[] values, long[] present) {
+        int result = Integer.MAX_VALUE;
+        for (int w = 0; w < present.length; w++) {
+            int base = w << 6;
+            long word = present[w];
+            if (word == -1L) {
+                for (int i = base; i < base + 64; i++) {
+                    result = Math.min(result, values[i]);
+                }
+            } else {
+                for (; word != 0; word &= word - 1) {
+                    result = Math.min(result, values[base | Long.numberOfTrailingZeros(word)]);
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public int max(int[] values, long[] present) {
+        int result = Integer.MIN_VALUE;
+        for (int w = 0; w < present.length; w++) {
+            int base = w << 6;
+            long word = present[w];
+            if (word == -1L) {
+                for (int i = base; i < base + 64; i++) {
+                    result = Math.max(result, values[i]);
+                }
+            } else {
+                for (; word != 0; word &= word - 1) {
+                    result = Math.max(result, values[base | Long.numberOfTrailingZeros(word)]);
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public long min(long[] values, long[] present) {
+        long result = Long.MAX_VALUE;
+        for (int w = 0; w < present.length; w++) {
+            int base = w << 6;
+            long word = present[w];
+            if (word == -1L) {
+                for (int i = base; i < base + 64; i++) {
+                    result = Math.min(result, values[i]);
+                }
+            } else {
+                for (; word != 0; word &= word - 1) {
+                    result = Math.min(result, values[base | Long.numberOfTrailingZeros(word)]);
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public long max(long[] values, long[] present) {
+        long result = Long.MIN_VALUE;
+        for (int w = 0; w < present.length; w++) {
+            int base = w << 6;
+            long word = present[w];
+            if (word == -1L) {
+                for (int i = base; i < base + 64; i++) {
+                    result = Math.max(result, values[i]);
+                }
+            } else {
+                for (; word != 0; word &= word - 1) {
+                    result = Math.max(result, values[base | Long.numberOfTrailingZeros(word)]);
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public double min(double[] values, long[] present) {
+        double result = Double.POSITIVE_INFINITY;
+        for (int w = 0; w < present.length; w++) {
+            int base = w << 6;
+            long word = present[w];
+            if (word == -1L) {
+                for (int i = base; i < base + 64; i++) {
+                    result = Math.min(result, values[i]);
+                }
+            } else {
+                for (; word != 0; word &= word - 1) {
+                    result = Math.min(result, values[base | Long.numberOfTrailingZeros(word)]);
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public double max(double[] values, long[] present) {
+        double result = Double.NEGATIVE_INFINITY;
+        for (int w = 0; w < present.length; w++) {
+            int base = w << 6;
+            long word = present[w];
+            if (word == -1L) {
+                for (int i = base; i < base + 64; i++) {
+                    result = Math.max(result, values[i]);
+                }
+            } else {
+                for (; word != 0; word &= word - 1) {
+                    result = Math.max(result, values[base | Long.numberOfTrailingZeros(word)]);
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public long[] greaterThan(int[] values, long[] present, int threshold) {
+        var result = new long[present.length];
+        for (int w = 0; w < present.length; w++) {
+            for (long word = present[w]; word != 0; word &= word - 1) {
+                int bit = Long.numberOfTrailingZeros(word);
+                if (values[w << 6 | bit] > threshold) {
+                    result[w] |= 1L << bit;
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public long[] greaterThan(long[] values, long[] present, long threshold) {
+        var result = new long[present.length];
+        for (int w = 0; w < present.length; w++) {
+            for (long word = present[w]; word != 0; word &= word - 1) {
+                int bit = Long.numberOfTrailingZeros(word);
+                if (values[w << 6 | bit] > threshold) {
+                    result[w] |= 1L << bit;
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public long[] greaterThan(double[] values, long[] present, double threshold) {
+        var result = new long[present.length];
+        for (int w = 0; w < present.length; w++) {
+            for (long word = present[w]; word != 0; word &= word - 1) {
+                int bit = Long.numberOfTrailingZeros(word);
+                if (values[w << 6 | bit] > threshold) {
+                    result[w] |= 1L << bit;
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void or(int[] values, long[] present, int[] other, int[] into) {
+        for (int w = 0; w < present.length; w++) {
+            int base = w << 6;
+            int length = Math.min(64, values.length - base);
+            long word = present[w];
+            if (word == -1L) {
+                System.arraycopy(values, base, into, base, length);
+            } else if (word == 0) {
+                System.arraycopy(other, base, into, base, length);
+            } else {
+                for (int i = base; i < base + length; i++) {
+                    into[i] = (word & 1L << i) != 0 ? values[i] : other[i];
+                }
+            }
+        }
+    }
+
+    @Override
+    public void or(long[] values, long[] present, long[] other, long[] into) {
+        for (int w = 0; w < present.length; w++) {
+            int base = w << 6;
+            int length = Math.min(64, values.length - base);
+            long word = present[w];
+            if (word == -1L) {
+                System.arraycopy(values, base, into, base, length);
+            } else if (word == 0) {
+                System.arraycopy(other, base, into, base, length);
+            } else {
+                for (int i = base; i < base + length; i++) {
+                    into[i] = (word & 1L << i) != 0 ? values[i] : other[i];
+                }
+            }
+        }
+    }
+
+    @Override
+    public void or(double[] values, long[] present, double[] other, double[] into) {
+        for (int w = 0; w < present.length; w++) {
+            int base = w << 6;
+            int length = Math.min(64, values.length - base);
+            long word = present[w];
+            if (word == -1L) {
+                System.arraycopy(values, base, into, base, length);
+            } else if (word == 0) {
+                System.arraycopy(other, base, into, base, length);
+            } else {
+                for (int i = base; i < base + length; i++) {
+                    into[i] = (word & 1L << i) != 0 ? values[i] : other[i];
+                }
+            }
+        }
+    }
+
+    @Override
+    public void xor(int[] values, long[] present, int[] other, long[] otherPresent, int[] into) {
+        for (int w = 0; w < present.length; w++) {
+            int base = w << 6;
+            for (long word = present[w] & ~otherPresent[w]; word != 0; word &= word - 1) {
+                int i = base | Long.numberOfTrailingZeros(word);
+                into[i] = values[i];
+            }
+            for (long word = otherPresent[w] & ~present[w]; word != 0; word &= word - 1) {
+                int i = base | Long.numberOfTrailingZeros(word);
+                into[i] = other[i];
+            }
+        }
+    }
+
+    @Override
+    public void xor(long[] values, long[] present, long[] other, long[] otherPresent, long[] into) {
+        for (int w = 0; w < present.length; w++) {
+            int base = w << 6;
+            for (long word = present[w] & ~otherPresent[w]; word != 0; word &= word - 1) {
+                int i = base | Long.numberOfTrailingZeros(word);
+                into[i] = values[i];
+            }
+            for (long word = otherPresent[w] & ~present[w]; word != 0; word &= word - 1) {
+                int i = base | Long.numberOfTrailingZeros(word);
+                into[i] = other[i];
+            }
+        }
+    }
+
+    @Override
+    public void xor(double[] values, long[] present, double[] other, long[] otherPresent, double[] into) {
+        for (int w = 0; w < present.length; w++) {
+            int base = w << 6;
+            for (long word = present[w] & ~otherPresent[w]; word != 0; word &= word - 1) {
+                int i = base | Long.numberOfTrailingZeros(word);
+                into[i] = values[i];
+            }
+            for (long word = otherPresent[w] & ~present[w]; word != 0; word &= word - 1) {
+                int i = base | Long.numberOfTrailingZeros(word);
+                into[i] = other[i];
+            }
+        }
+    }
+}
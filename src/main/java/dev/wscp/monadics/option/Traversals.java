@@ -0,0 +1,102 @@
+package dev.wscp.monadics.option;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Implementations of {@link Option#sequence} and {@link Option#traverse}.
+ * The source is walked once, up to the first {@link None}, into a list presized when the size is known.
+ * Every path returns the list unmodifiable, wrapped rather than copied.
+ */
+final class Traversals {
+    static final int DEFAULT_CAPACITY = 10;
+
+    private Traversals() {}
+
+    static <T> Option<List<T>> sequence(Iterable<? extends Option<T>> options) {
+        int capacity = options instanceof Collection<?> collection ? collection.size() : DEFAULT_CAPACITY;
+        return sequence(options.iterator(), capacity);
+    }
+
+    static <T> Option<List<T>> sequence(Option<T>[] options) {
+        var values = new ArrayList<T>(options.length);
+        for (var option : options) {
+            switch (option) {
+                case Some(T value) -> values.add(value);
+                case None<T> n -> {
+                    return Option.none();
+                }
+            }
+        }
+        return new Some<>(Collections.unmodifiableList(values));
+    }
+
+    static <T> Option<List<T>> sequence(Stream<? extends Option<T>> options) {
+        var spliterator = options.spliterator();
+        return sequence(Spliterators.iterator(spliterator), capacity(spliterator));
+    }
+
+    static <T> Option<List<T>> sequence(Iterator<? extends Option<T>> options, int capacity) {
+        var values = new ArrayList<T>(capacity);
+        while (options.hasNext()) {
+            switch (options.next()) {
+                case Some(T value) -> values.add(value);
+                case None<T> n -> {
+                    return Option.none();
+                }
+            }
+        }
+        return new Some<>(Collections.unmodifiableList(values));
+    }
+
+    static <A, T> Option<List<T>> traverse(Iterable<A> items, Function<? super A, ? extends Option<T>> action) {
+        int capacity = items instanceof Collection<?> collection ? collection.size() : DEFAULT_CAPACITY;
+        return traverse(items.iterator(), capacity, action);
+    }
+
+    static <A, T> Option<List<T>> traverse(A[] items, Function<? super A, ? extends Option<T>> action) {
+        var values = new ArrayList<T>(items.length);
+        for (var item : items) {
+            switch (action.apply(item)) {
+                case Some(T value) -> values.add(value);
+                case None<T> n -> {
+                    return Option.none();
+                }
+            }
+        }
+        return new Some<>(Collections.unmodifiableList(values));
+    }
+
+    static <A, T> Option<List<T>> traverse(Stream<A> items, Function<? super A, ? extends Option<T>> action) {
+        var spliterator = items.spliterator();
+        return traverse(Spliterators.iterator(spliterator), capacity(spliterator), action);
+    }
+
+    static <A, T> Option<List<T>> traverse(Iterator<A> items, int capacity, Function<? super A, ? extends Option<T>> action) {
+        var values = new ArrayList<T>(capacity);
+        while (items.hasNext()) {
+            switch (action.apply(items.next())) {
+                case Some(T value) -> values.add(value);
+                case None<T> n -> {
+                    return Option.none();
+                }
+            }
+        }
+        return new Some<>(Collections.unmodifiableList(values));
+    }
+
+    /**
+     * @return The exact number of elements left, if the source knows it and a list can hold that many.
+     */
+    static int capacity(Spliterator<?> spliterator) {
+        long size = spliterator.getExactSizeIfKnown();
+        return size >= 0 && size <= Integer.MAX_VALUE - 8 ? (int) size : DEFAULT_CAPACITY;
+    }
+}
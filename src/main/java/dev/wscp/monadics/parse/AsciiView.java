@@ -0,0 +1,32 @@
+package dev.wscp.monadics.parse;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads a range of bytes as ISO-8859-1 characters, without copying them, so the text parsers can run on raw input.
+ * Only valid fields are ever turned into a String.
+ */
+record AsciiView(ByteBuffer buffer, int from, int to) implements CharSequence {
+    @Override
+    public int length() {
+        return to - from;
+    }
+
+    @Override
+    public char charAt(int index) {
+        return (char) (buffer.get(from + index) & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return new AsciiView(buffer, from + start, from + end);
+    }
+
+    @Override
+    public String toString() {
+        var bytes = new byte[length()];
+        buffer.get(from, bytes);
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+}
@@ -0,0 +1,29 @@
+package dev.wscp.monadics.parse;
+
+/**
+ * Why a field could not be parsed, and where.
+ *
+ * @param code   What went wrong.
+ * @param offset The position of the offending character, counted from the start of the field.
+ *               For {@link Code#UNEXPECTED_END}, the length of the field.
+ */
+public record ParseError(Code code, int offset) {
+    public enum Code {
+        /**
+         * The field has no characters at all.
+         */
+        EMPTY,
+        /**
+         * The field ends before the value is complete.
+         */
+        UNEXPECTED_END,
+        /**
+         * A character that cannot appear at that position.
+         */
+        INVALID_CHARACTER,
+        /**
+         * The value is well-formed, but does not fit the target type, or names a date or time that does not exist.
+         */
+        OUT_OF_RANGE,
+    }
+}
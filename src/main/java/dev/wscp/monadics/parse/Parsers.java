@@ -0,0 +1,526 @@
+package dev.wscp.monadics.parse;
+
+import dev.wscp.monadics.parse.ParseError.Code;
+import dev.wscp.monadics.result.DoubleResult;
+import dev.wscp.monadics.result.IntResult;
+import dev.wscp.monadics.result.LongResult;
+import dev.wscp.monadics.result.Result;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Parsers for numbers and common text formats that report malformed input as an Err instead of throwing.
+ *
+ * <p>Wrapping {@link Integer#parseInt(String)} in {@link Result#runCatching(java.util.function.Supplier)} still builds
+ * a {@link NumberFormatException}, stack trace included, for every bad field. These parsers never throw on bad input:
+ * a malformed field costs one small {@link ParseError} and its Err.</p>
+ *
+ * <p>Every parser accepts a {@link CharSequence}, a range of a byte array, or the remaining bytes of a {@link ByteBuffer}.
+ * Bytes are read as ISO-8859-1, so any non-ASCII byte is an invalid character. Buffers are read with absolute gets,
+ * and their position is left alone. Ints and longs have dedicated loops for strings and byte arrays;
+ * the other formats read bytes through a view, and only copy a field once it is known to be valid.</p>
+ *
+ * <p>Whitespace is never skipped. Offsets in errors count from the start of the field, not of the array or buffer.</p>
+ */
+public final class Parsers {
+    private Parsers() {}
+
+    /**
+     * Parses an optionally signed decimal int, such as {@code -42} or {@code +7}.
+     */
+    public static IntResult<ParseError> parseInt(@NotNull CharSequence text) {
+        return parseInt(text, 0, text.length());
+    }
+
+    public static IntResult<ParseError> parseInt(@NotNull CharSequence text, int from, int to) {
+        Objects.checkFromToIndex(from, to, text.length());
+        if (from == to) {
+            return IntResult.errOf(new ParseError(Code.EMPTY, 0));
+        }
+        int i = from;
+        char first = text.charAt(i);
+        boolean negative = first == '-';
+        if ((negative || first == '+') && ++i == to) {
+            return IntResult.errOf(new ParseError(Code.UNEXPECTED_END, to - from));
+        }
+        // Accumulates negatively, since the negative range is the larger one.
+        int limit = negative ? Integer.MIN_VALUE : -Integer.MAX_VALUE;
+        int value = 0;
+        for (; i < to; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return IntResult.errOf(new ParseError(Code.INVALID_CHARACTER, i - from));
+            }
+            if (value < limit / 10 || value * 10 < limit + digit) {
+                return IntResult.errOf(new ParseError(Code.OUT_OF_RANGE, i - from));
+            }
+            value = value * 10 - digit;
+        }
+        return IntResult.okOf(negative ? value : -value);
+    }
+
+    public static IntResult<ParseError> parseInt(byte @NotNull [] bytes, int from, int to) {
+        Objects.checkFromToIndex(from, to, bytes.length);
+        if (from == to) {
+            return IntResult.errOf(new ParseError(Code.EMPTY, 0));
+        }
+        int i = from;
+        byte first = bytes[i];
+        boolean negative = first == '-';
+        if ((negative || first == '+') && ++i == to) {
+            return IntResult.errOf(new ParseError(Code.UNEXPECTED_END, to - from));
+        }
+        int limit = negative ? Integer.MIN_VALUE : -Integer.MAX_VALUE;
+        int value = 0;
+        for (; i < to; i++) {
+            int digit = bytes[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return IntResult.errOf(new ParseError(Code.INVALID_CHARACTER, i - from));
+            }
+            if (value < limit / 10 || value * 10 < limit + digit) {
+                return IntResult.errOf(new ParseError(Code.OUT_OF_RANGE, i - from));
+            }
+            value = value * 10 - digit;
+        }
+        return IntResult.okOf(negative ? value : -value);
+    }
+
+    /**
+     * Parses the bytes between the position and the limit of the buffer.
+     */
+    public static IntResult<ParseError> parseInt(@NotNull ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            int start = buffer.arrayOffset() + buffer.position();
+            return parseInt(buffer.array(), start, start + buffer.remaining());
+        }
+        return parseInt(view(buffer));
+    }
+
+    /**
+     * Parses an optionally signed decimal long, such as {@code -42} or {@code +7}.
+     */
+    public static LongResult<ParseError> parseLong(@NotNull CharSequence text) {
+        return parseLong(text, 0, text.length());
+    }
+
+    public static LongResult<ParseError> parseLong(@NotNull CharSequence text, int from, int to) {
+        Objects.checkFromToIndex(from, to, text.length());
+        if (from == to) {
+            return LongResult.errOf(new ParseError(Code.EMPTY, 0));
+        }
+        int i = from;
+        char first = text.charAt(i);
+        boolean negative = first == '-';
+        if ((negative || first == '+') && ++i == to) {
+            return LongResult.errOf(new ParseError(Code.UNEXPECTED_END, to - from));
+        }
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long value = 0;
+        for (; i < to; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return LongResult.errOf(new ParseError(Code.INVALID_CHARACTER, i - from));
+            }
+            if (value < limit / 10 || value * 10 < limit + digit) {
+                return LongResult.errOf(new ParseError(Code.OUT_OF_RANGE, i - from));
+            }
+            value = value * 10 - digit;
+        }
+        return LongResult.okOf(negative ? value : -value);
+    }
+
+    public static LongResult<ParseError> parseLong(byte @NotNull [] bytes, int from, int to) {
+        Objects.checkFromToIndex(from, to, bytes.length);
+        if (from == to) {
+            return LongResult.errOf(new ParseError(Code.EMPTY, 0));
+        }
+        int i = from;
+        byte first = bytes[i];
+        boolean negative = first == '-';
+        if ((negative || first == '+') && ++i == to) {
+            return LongResult.errOf(new ParseError(Code.UNEXPECTED_END, to - from));
+        }
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long value = 0;
+        for (; i < to; i++) {
+            int digit = bytes[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return LongResult.errOf(new ParseError(Code.INVALID_CHARACTER, i - from));
+            }
+            if (value < limit / 10 || value * 10 < limit + digit) {
+                return LongResult.errOf(new ParseError(Code.OUT_OF_RANGE, i - from));
+            }
+            value = value * 10 - digit;
+        }
+        return LongResult.okOf(negative ? value : -value);
+    }
+
+    /**
+     * Parses the bytes between the position and the limit of the buffer.
+     */
+    public static LongResult<ParseError> parseLong(@NotNull ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            int start = buffer.arrayOffset() + buffer.position();
+            return parseLong(buffer.array(), start, start + buffer.remaining());
+        }
+        return parseLong(view(buffer));
+    }
+
+    /**
+     * Parses a decimal floating point number, such as {@code -1.5}, {@code .25} or {@code 6.02e23},
+     * or one of {@code NaN}, {@code Infinity} and {@code -Infinity}.
+     * Hexadecimal notation and the {@code d} and {@code f} suffixes are not accepted.
+     * Values too large for a double become infinite, and values too small become zero, as with {@link Double#parseDouble(String)}.
+     */
+    public static DoubleResult<ParseError> parseDouble(@NotNull CharSequence text) {
+        return parseDouble(text, 0, text.length());
+    }
+
+    public static DoubleResult<ParseError> parseDouble(@NotNull CharSequence text, int from, int to) {
+        Objects.checkFromToIndex(from, to, text.length());
+        if (from == to) {
+            return DoubleResult.errOf(new ParseError(Code.EMPTY, 0));
+        }
+        int i = from;
+        char first = text.charAt(from);
+        if (first == '-' || first == '+') {
+            i++;
+        }
+        if (i < to && !isDigit(text.charAt(i)) && text.charAt(i) != '.') {
+            if (i == from && matches(text, from, to, "NaN")) {
+                return DoubleResult.okOf(Double.NaN);
+            }
+            if (matches(text, i, to, "Infinity")) {
+                return DoubleResult.okOf(first == '-' ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY);
+            }
+        }
+        int digitsStart = i;
+        while (i < to && isDigit(text.charAt(i))) {
+            i++;
+        }
+        int digits = i - digitsStart;
+        if (i < to && text.charAt(i) == '.') {
+            int fractionStart = ++i;
+            while (i < to && isDigit(text.charAt(i))) {
+                i++;
+            }
+            digits += i - fractionStart;
+        }
+        if (digits == 0) {
+            return DoubleResult.errOf(unexpected(i - from, to - from));
+        }
+        if (i < to && (text.charAt(i) == 'e' || text.charAt(i) == 'E')) {
+            i++;
+            if (i < to && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+                i++;
+            }
+            int exponentStart = i;
+            while (i < to && isDigit(text.charAt(i))) {
+                i++;
+            }
+            if (i == exponentStart) {
+                return DoubleResult.errOf(unexpected(i - from, to - from));
+            }
+        }
+        if (i < to) {
+            return DoubleResult.errOf(new ParseError(Code.INVALID_CHARACTER, i - from));
+        }
+        // The syntax was checked above, and is a subset of what parseDouble accepts, so this cannot throw.
+        return DoubleResult.okOf(Double.parseDouble(text.subSequence(from, to).toString()));
+    }
+
+    public static DoubleResult<ParseError> parseDouble(byte @NotNull [] bytes, int from, int to) {
+        return parseDouble(view(bytes, from, to));
+    }
+
+    /**
+     * Parses the bytes between the position and the limit of the buffer.
+     */
+    public static DoubleResult<ParseError> parseDouble(@NotNull ByteBuffer buffer) {
+        return parseDouble(view(buffer));
+    }
+
+    /**
+     * Parses {@code true} or {@code false}, ignoring case.
+     */
+    public static Result<Boolean, ParseError> parseBoolean(@NotNull CharSequence text) {
+        return parseBoolean(text, 0, text.length());
+    }
+
+    public static Result<Boolean, ParseError> parseBoolean(@NotNull CharSequence text, int from, int to) {
+        Objects.checkFromToIndex(from, to, text.length());
+        int length = to - from;
+        if (length == 0) {
+            return Result.errOf(new ParseError(Code.EMPTY, 0));
+        }
+        boolean value = Character.toLowerCase(text.charAt(from)) == 't';
+        var expected = value ? "true" : "false";
+        for (int i = 0; i < expected.length(); i++) {
+            if (i == length) {
+                return Result.errOf(new ParseError(Code.UNEXPECTED_END, length));
+            }
+            if (Character.toLowerCase(text.charAt(from + i)) != expected.charAt(i)) {
+                return Result.errOf(new ParseError(Code.INVALID_CHARACTER, i));
+            }
+        }
+        if (length > expected.length()) {
+            return Result.errOf(new ParseError(Code.INVALID_CHARACTER, expected.length()));
+        }
+        return Result.okOf(value);
+    }
+
+    public static Result<Boolean, ParseError> parseBoolean(byte @NotNull [] bytes, int from, int to) {
+        return parseBoolean(view(bytes, from, to));
+    }
+
+    /**
+     * Parses the bytes between the position and the limit of the buffer.
+     */
+    public static Result<Boolean, ParseError> parseBoolean(@NotNull ByteBuffer buffer) {
+        return parseBoolean(view(buffer));
+    }
+
+    /**
+     * Parses a UUID in its canonical form, 36 characters of hex digits and dashes,
+     * such as {@code 123e4567-e89b-12d3-a456-426614174000}. Hex digits may be either case.
+     */
+    public static Result<UUID, ParseError> parseUuid(@NotNull CharSequence text) {
+        return parseUuid(text, 0, text.length());
+    }
+
+    public static Result<UUID, ParseError> parseUuid(@NotNull CharSequence text, int from, int to) {
+        Objects.checkFromToIndex(from, to, text.length());
+        int length = to - from;
+        if (length == 0) {
+            return Result.errOf(new ParseError(Code.EMPTY, 0));
+        }
+        long most = 0;
+        long least = 0;
+        for (int i = 0; i < 36; i++) {
+            if (i == length) {
+                return Result.errOf(new ParseError(Code.UNEXPECTED_END, length));
+            }
+            char c = text.charAt(from + i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return Result.errOf(new ParseError(Code.INVALID_CHARACTER, i));
+                }
+                continue;
+            }
+            int nibble = hexDigit(c);
+            if (nibble < 0) {
+                return Result.errOf(new ParseError(Code.INVALID_CHARACTER, i));
+            }
+            if (i < 18) {
+                most = most << 4 | nibble;
+            } else {
+                least = least << 4 | nibble;
+            }
+        }
+        if (length > 36) {
+            return Result.errOf(new ParseError(Code.INVALID_CHARACTER, 36));
+        }
+        return Result.okOf(new UUID(most, least));
+    }
+
+    public static Result<UUID, ParseError> parseUuid(byte @NotNull [] bytes, int from, int to) {
+        return parseUuid(view(bytes, from, to));
+    }
+
+    /**
+     * Parses the bytes between the position and the limit of the buffer.
+     */
+    public static Result<UUID, ParseError> parseUuid(@NotNull ByteBuffer buffer) {
+        return parseUuid(view(buffer));
+    }
+
+    /**
+     * Parses an ISO-8601 timestamp with a four-digit year, such as {@code 2024-02-29T13:45:30Z},
+     * {@code 2024-02-29T13:45:30.123456789Z} or {@code 2024-02-29T13:45:30+02:00}.
+     * A zone offset is required, either {@code Z} or hours and minutes between -18:00 and +18:00. Leap seconds are not accepted.
+     */
+    public static Result<Instant, ParseError> parseInstant(@NotNull CharSequence text) {
+        return parseInstant(text, 0, text.length());
+    }
+
+    public static Result<Instant, ParseError> parseInstant(@NotNull CharSequence text, int from, int to) {
+        Objects.checkFromToIndex(from, to, text.length());
+        int length = to - from;
+        if (length == 0) {
+            return Result.errOf(new ParseError(Code.EMPTY, 0));
+        }
+        var time = new Timestamp(text, from, to);
+        int year = time.number(0, 4, 0, 9999);
+        time.expect(4, '-');
+        int month = time.number(5, 2, 1, 12);
+        time.expect(7, '-');
+        int day = time.number(8, 2, 1, 31);
+        time.expect(10, 'T');
+        int hour = time.number(11, 2, 0, 23);
+        time.expect(13, ':');
+        int minute = time.number(14, 2, 0, 59);
+        time.expect(16, ':');
+        int second = time.number(17, 2, 0, 59);
+        if (time.error == null && day > monthLength(year, month)) {
+            time.error = new ParseError(Code.OUT_OF_RANGE, 8);
+        }
+        int at = 19;
+        int nanos = 0;
+        if (time.error == null && at < length && text.charAt(from + at) == '.') {
+            int digits = 0;
+            for (at++; at < length && isDigit(text.charAt(from + at)) && digits < 9; at++, digits++) {
+                nanos = nanos * 10 + (text.charAt(from + at) - '0');
+            }
+            if (digits == 0) {
+                time.error = unexpected(at, length);
+            }
+            for (; digits < 9; digits++) {
+                nanos *= 10;
+            }
+        }
+        int offsetSeconds = 0;
+        if (time.error == null && at < length && text.charAt(from + at) == 'Z') {
+            at++;
+        } else if (time.error == null && at < length && (text.charAt(from + at) == '+' || text.charAt(from + at) == '-')) {
+            int sign = text.charAt(from + at) == '-' ? -1 : 1;
+            int offsetHours = time.number(at + 1, 2, 0, 18);
+            time.expect(at + 3, ':');
+            int offsetMinutes = time.number(at + 4, 2, 0, offsetHours == 18 ? 0 : 59);
+            offsetSeconds = sign * (offsetHours * 3600 + offsetMinutes * 60);
+            at += 6;
+        } else {
+            time.expect(at, 'Z');
+        }
+        if (time.error == null && at < length) {
+            time.error = new ParseError(Code.INVALID_CHARACTER, at);
+        }
+        if (time.error != null) {
+            return Result.errOf(time.error);
+        }
+        long epochSecond = epochDay(year, month, day) * 86_400 + hour * 3600 + minute * 60 + second - offsetSeconds;
+        return Result.okOf(Instant.ofEpochSecond(epochSecond, nanos));
+    }
+
+    public static Result<Instant, ParseError> parseInstant(byte @NotNull [] bytes, int from, int to) {
+        return parseInstant(view(bytes, from, to));
+    }
+
+    /**
+     * Parses the bytes between the position and the limit of the buffer.
+     */
+    public static Result<Instant, ParseError> parseInstant(@NotNull ByteBuffer buffer) {
+        return parseInstant(view(buffer));
+    }
+
+    /**
+     * Reads the fixed-width fields of a timestamp, keeping only the first error, so the caller can read every field
+     * unconditionally and check once at the end.
+     */
+    private static final class Timestamp {
+        private final CharSequence text;
+        private final int from;
+        private final int length;
+        private ParseError error;
+
+        private Timestamp(CharSequence text, int from, int to) {
+            this.text = text;
+            this.from = from;
+            this.length = to - from;
+        }
+
+        int number(int at, int width, int min, int max) {
+            if (error != null) {
+                return min;
+            }
+            int value = 0;
+            for (int i = at; i < at + width; i++) {
+                if (i >= length) {
+                    error = new ParseError(Code.UNEXPECTED_END, length);
+                    return min;
+                }
+                char c = text.charAt(from + i);
+                if (!isDigit(c)) {
+                    error = new ParseError(Code.INVALID_CHARACTER, i);
+                    return min;
+                }
+                value = value * 10 + (c - '0');
+            }
+            if (value < min || value > max) {
+                error = new ParseError(Code.OUT_OF_RANGE, at);
+                return min;
+            }
+            return value;
+        }
+
+        void expect(int at, char expected) {
+            if (error == null) {
+                if (at >= length) {
+                    error = new ParseError(Code.UNEXPECTED_END, length);
+                } else if (text.charAt(from + at) != expected) {
+                    error = new ParseError(Code.INVALID_CHARACTER, at);
+                }
+            }
+        }
+    }
+
+    private static int monthLength(int year, int month) {
+        return switch (month) {
+            case 2 -> (year % 4 == 0 && year % 100 != 0) || year % 400 == 0 ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    /**
+     * Days since 1970-01-01 of a valid proleptic Gregorian date, computed directly rather than through {@link java.time.LocalDate}.
+     */
+    private static long epochDay(int year, int month, int day) {
+        int y = month <= 2 ? year - 1 : year;
+        int era = Math.floorDiv(y, 400);
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * ((month + 9) % 12) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146_097L + dayOfEra - 719_468;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static int hexDigit(char c) {
+        if (isDigit(c)) {
+            return c - '0';
+        }
+        char lower = Character.toLowerCase(c);
+        return lower >= 'a' && lower <= 'f' ? lower - 'a' + 10 : -1;
+    }
+
+    private static boolean matches(CharSequence text, int at, int to, String expected) {
+        if (to - at != expected.length()) {
+            return false;
+        }
+        for (int i = 0; i < expected.length(); i++) {
+            if (text.charAt(at + i) != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static ParseError unexpected(int at, int length) {
+        return at == length ? new ParseError(Code.UNEXPECTED_END, at) : new ParseError(Code.INVALID_CHARACTER, at);
+    }
+
+    private static CharSequence view(byte[] bytes, int from, int to) {
+        Objects.checkFromToIndex(from, to, bytes.length);
+        return new AsciiView(ByteBuffer.wrap(bytes), from, to);
+    }
+
+    private static CharSequence view(ByteBuffer buffer) {
+        return new AsciiView(buffer, buffer.position(), buffer.limit());
+    }
+}
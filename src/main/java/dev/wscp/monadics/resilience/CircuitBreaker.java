@@ -0,0 +1,334 @@
+package dev.wscp.monadics.resilience;
+
+import dev.wscp.monadics.result.Err;
+import dev.wscp.monadics.result.Result;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Stops calling a downstream service once too many of its results are Errs.
+ *
+ * <p>The breaker counts the outcomes of the latest calls, in a window sized by {@link Builder#windowSize(int)}.
+ * Once at least {@code minimumCalls} have been seen and the share of Errs among them reaches the threshold,
+ * the breaker opens: calls return a preallocated Err without running the action, so rejecting a call allocates nothing. After the open duration,
+ * the breaker lets a few probe calls through. If they all succeed it closes again, and any Err reopens it.</p>
+ *
+ * <p>Only returned Errs are counted as failures, not thrown exceptions. An exception thrown by an action
+ * is rethrown unchanged, and does not count either way, except that a failed probe reopens the breaker.</p>
+ *
+ * <p>The window is split into stripes, one per processor up to one per {@value #MIN_STRIPE_SIZE} slots, and each thread
+ * records into the stripe its id hashes to, so threads calling at once mostly touch different cache lines.
+ * Each stripe is a ring of slots with its own cursor and error count. An Ok replacing an Ok writes nothing,
+ * and a changed slot is swapped and counted with one atomic operation each, so the closed path never locks. The error rate is taken over the latest calls of every stripe together;
+ * a thread calling alone only fills its own stripe, so its rate is over the latest windowSize / stripes calls.
+ * Concurrent calls racing with a state change may be counted in either window, which is harmless:
+ * the counts are a rate estimate, not an audit.</p>
+ *
+ * @param <E> The error type of the guarded calls.
+ */
+public final class CircuitBreaker<E> {
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN,
+    }
+
+    private static final State[] STATES = State.values();
+    private static final int EMPTY = 0;
+    private static final int OK = 1;
+    private static final int ERR = 2;
+    private static final int MIN_STRIPE_SIZE = 16;
+
+    private final Err<?, E> rejected;
+    private final int stripeSize;
+    private final int stripeMask;
+    private final int minimumCalls;
+    private final double errorRate;
+    private final long openNanos;
+    private final int probes;
+    private final LongSupplier ticker;
+
+    private final Stripe[] stripes;
+
+    private final AtomicInteger state = new AtomicInteger(State.CLOSED.ordinal());
+    private volatile long openedAt;
+    private final AtomicInteger probesLeft = new AtomicInteger();
+    private final AtomicInteger probesPassed = new AtomicInteger();
+
+    private CircuitBreaker(Builder<E> builder) {
+        this.rejected = new Err<>(builder.openError);
+        int windowSize = builder.windowSize == 1 ? 1 : Integer.highestOneBit(builder.windowSize - 1) << 1;
+        int stripeCount = Math.min(Integer.highestOneBit(builder.processors * 2 - 1), Math.max(1, windowSize / MIN_STRIPE_SIZE));
+        this.stripeSize = windowSize / stripeCount;
+        this.stripeMask = stripeSize - 1;
+        this.minimumCalls = Math.min(builder.minimumCalls, windowSize);
+        this.errorRate = builder.errorRate;
+        this.openNanos = builder.openDuration.toNanos();
+        this.probes = builder.probes;
+        this.ticker = builder.ticker;
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(stripeSize);
+        }
+    }
+
+    /**
+     * @param openError The error every call returns while the breaker is open.
+     */
+    public static <E> Builder<E> builder(@NotNull E openError) {
+        return new Builder<>(Objects.requireNonNull(openError));
+    }
+
+    /**
+     * Runs action, unless the breaker is open, and records whether it returned Ok or Err.
+     *
+     * @return The result of action, or the open error if the call was rejected.
+     */
+    public <T> Result<T, E> call(@NotNull Supplier<? extends Result<T, E>> action) {
+        return switch (STATES[state.get()]) {
+            case CLOSED -> {
+                var result = action.get();
+                record(result instanceof Err<?, ?>);
+                yield result;
+            }
+            case OPEN -> {
+                if (ticker.getAsLong() - openedAt < openNanos || !halfOpen()) {
+                    yield rejected();
+                }
+                yield probe(action);
+            }
+            case HALF_OPEN -> probe(action);
+        };
+    }
+
+    public State state() {
+        return STATES[state.get()];
+    }
+
+    /**
+     * @return The share of Errs among the calls in the current window, or 0 if there were none.
+     */
+    public double errorRate() {
+        long calls = 0;
+        long errs = 0;
+        for (var stripe : stripes) {
+            calls += Math.min(stripe.cursor.get(), stripeSize);
+            errs += stripe.errors.get();
+        }
+        return calls == 0 ? 0 : (double) errs / calls;
+    }
+
+    private void record(boolean failed) {
+        var stripe = stripes.length == 1 ? stripes[0] : stripes[stripeIndex()];
+        // Stripes are rarely shared, so the cursor is advanced without a locked instruction. A call racing another one
+        // on the same stripe may land in the same slot, which only drops an outcome from the estimate.
+        long index = stripe.cursor.getOpaque();
+        stripe.cursor.setOpaque(index + 1);
+        int slot = (int) index & stripeMask;
+        int outcome = failed ? ERR : OK;
+        // Mostly the outcome matches the one it replaces, and then there is nothing to write. Every write that does
+        // change a slot swaps it and adjusts the count by what it replaced, so the count always matches the slots.
+        if (stripe.slots.get(slot) != outcome) {
+            int previous = stripe.slots.getAndSet(slot, outcome);
+            int delta = (failed ? 1 : 0) - (previous == ERR ? 1 : 0);
+            if (delta != 0) {
+                stripe.errors.addAndGet(delta);
+            }
+        }
+        if (failed && tripped()) {
+            open(State.CLOSED);
+        }
+    }
+
+    /**
+     * Spreads thread ids, which are mostly consecutive, over the stripes.
+     */
+    private int stripeIndex() {
+        return (int) (Thread.currentThread().threadId() * 0x9E3779B97F4A7C15L >>> 40) & stripes.length - 1;
+    }
+
+    /**
+     * @return Whether enough calls have been seen, and enough of the ones in the window were Errs, to open.
+     */
+    private boolean tripped() {
+        long seen = 0;
+        long calls = 0;
+        long errs = 0;
+        for (var stripe : stripes) {
+            long cursor = stripe.cursor.get();
+            seen += cursor;
+            calls += Math.min(cursor, stripeSize);
+            errs += stripe.errors.get();
+        }
+        return seen >= minimumCalls && errs >= errorRate * calls;
+    }
+
+    private <T> Result<T, E> probe(Supplier<? extends Result<T, E>> action) {
+        if (probesLeft.get() <= 0 || probesLeft.getAndDecrement() <= 0) {
+            return rejected();
+        }
+        Result<T, E> result;
+        try {
+            result = action.get();
+        } catch (Throwable t) {
+            open(State.HALF_OPEN);
+            throw t;
+        }
+        if (result instanceof Err<?, ?>) {
+            open(State.HALF_OPEN);
+        } else if (probesPassed.incrementAndGet() == probes) {
+            close();
+        }
+        return result;
+    }
+
+    /**
+     * The open error does not depend on the value type, so one instance serves every call.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> Result<T, E> rejected() {
+        return (Result<T, E>) rejected;
+    }
+
+    private void open(State from) {
+        var now = ticker.getAsLong();
+        if (state.get() == from.ordinal()) {
+            openedAt = now;
+            state.compareAndSet(from.ordinal(), State.OPEN.ordinal());
+        }
+    }
+
+    /**
+     * @return Whether this thread moved the breaker from open to half-open, or it already was.
+     */
+    private boolean halfOpen() {
+        if (state.compareAndSet(State.OPEN.ordinal(), State.HALF_OPEN.ordinal())) {
+            probesPassed.set(0);
+            probesLeft.set(probes);
+        }
+        return state.get() == State.HALF_OPEN.ordinal();
+    }
+
+    private void close() {
+        for (var stripe : stripes) {
+            for (int i = 0; i < stripeSize; i++) {
+                if (stripe.slots.getAndSet(i, EMPTY) == ERR) {
+                    stripe.errors.decrementAndGet();
+                }
+            }
+            stripe.cursor.set(0);
+        }
+        state.compareAndSet(State.HALF_OPEN.ordinal(), State.CLOSED.ordinal());
+    }
+
+    /**
+     * One part of the window: a ring of outcomes, how many calls it has seen, and how many Errs its slots hold.
+     */
+    private static final class Stripe {
+        private final AtomicIntegerArray slots;
+        private final AtomicLong cursor = new AtomicLong();
+        private final AtomicInteger errors = new AtomicInteger();
+
+        private Stripe(int size) {
+            this.slots = new AtomicIntegerArray(size);
+        }
+    }
+
+    public static final class Builder<E> {
+        private final E openError;
+        private int windowSize = 128;
+        private int minimumCalls = 20;
+        private double errorRate = 0.5;
+        private Duration openDuration = Duration.ofSeconds(30);
+        private int probes = 5;
+        private LongSupplier ticker = System::nanoTime;
+        private int processors = Runtime.getRuntime().availableProcessors();
+
+        private Builder(E openError) {
+            this.openError = openError;
+        }
+
+        /**
+         * How many of the latest calls the error rate is computed over, rounded up to a power of two. Defaults to 128.
+         */
+        public Builder<E> windowSize(int windowSize) {
+            if (windowSize > 1 << 30) {
+                throw new IllegalArgumentException("Window size must be at most 2^30, got " + windowSize);
+            }
+            this.windowSize = positive("Window size", windowSize);
+            return this;
+        }
+
+        /**
+         * How many calls must have been seen before the breaker may open. Defaults to 20.
+         */
+        public Builder<E> minimumCalls(int minimumCalls) {
+            this.minimumCalls = positive("Minimum calls", minimumCalls);
+            return this;
+        }
+
+        /**
+         * The share of Errs, between 0 exclusive and 1 inclusive, at which the breaker opens. Defaults to 0.5.
+         */
+        public Builder<E> errorRate(double errorRate) {
+            if (!(errorRate > 0 && errorRate <= 1)) {
+                throw new IllegalArgumentException("Error rate must be in (0, 1], got " + errorRate);
+            }
+            this.errorRate = errorRate;
+            return this;
+        }
+
+        /**
+         * How long the breaker rejects calls before probing again. Defaults to 30 seconds.
+         */
+        public Builder<E> openDuration(@NotNull Duration openDuration) {
+            if (openDuration.isNegative()) {
+                throw new IllegalArgumentException("Open duration must not be negative, got " + openDuration);
+            }
+            this.openDuration = openDuration;
+            return this;
+        }
+
+        /**
+         * How many probe calls must succeed in a row to close the breaker. Defaults to 5.
+         */
+        public Builder<E> probes(int probes) {
+            this.probes = positive("Probes", probes);
+            return this;
+        }
+
+        /**
+         * The time source, in nanoseconds. Defaults to {@link System#nanoTime()}.
+         */
+        public Builder<E> ticker(@NotNull LongSupplier ticker) {
+            this.ticker = Objects.requireNonNull(ticker);
+            return this;
+        }
+
+        /**
+         * How many processors to stripe the window for, instead of the ones available.
+         */
+        Builder<E> processors(int processors) {
+            this.processors = positive("Processors", processors);
+            return this;
+        }
+
+        public CircuitBreaker<E> build() {
+            return new CircuitBreaker<>(this);
+        }
+
+        private static int positive(String name, int value) {
+            if (value <= 0) {
+                throw new IllegalArgumentException(name + " must be positive, got " + value);
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package dev.wscp.monadics.result;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A {@link Result} that is computed asynchronously, backed by a single {@link CompletableFuture} per stage.
+ *
+ * <p>Every stage runs on the executor the AsyncResult was created with, and never blocks.
+ * Exceptions thrown by an action, and failures of the underlying future, do not end up on a separate failure channel.
+ * They are turned into an {@link Err} by the AsyncResult's exception handler, the same way
+ * {@link Result#runCatching(Supplier)} does it. For AsyncResults with a {@link Throwable} error type,
+ * that handler is the identity.</p>
+ *
+ * @param <T> The value type.
+ * @param <E> The error type.
+ */
+public final class AsyncResult<T, E> {
+    private final CompletableFuture<Result<T, E>> future;
+    private final Executor executor;
+    private final Function<? super Throwable, ? extends E> onThrow;
+
+    private AsyncResult(CompletableFuture<Result<T, E>> future, Executor executor, Function<? super Throwable, ? extends E> onThrow) {
+        this.future = future;
+        this.executor = executor;
+        this.onThrow = onThrow;
+    }
+
+    /**
+     * Runs a potentially throwing action on the executor.
+     *
+     * @return An AsyncResult that completes with Ok if the action succeeds, or with Err holding whatever it threw.
+     */
+    public static <T> AsyncResult<T, Throwable> runCatchingAsync(@NotNull Supplier<T> action, @NotNull Executor executor) {
+        return supplyAsync(() -> Result.okOf(action.get()), executor, Function.identity());
+    }
+
+    /**
+     * Runs a fallible action on the executor.
+     *
+     * @param onThrow Turns anything thrown by this or any later stage into an error value.
+     */
+    public static <T, E> AsyncResult<T, E> supplyAsync(@NotNull Supplier<Result<T, E>> action, @NotNull Executor executor, @NotNull Function<? super Throwable, ? extends E> onThrow) {
+        var future = CompletableFuture.supplyAsync(() -> {
+            try {
+                return action.get();
+            } catch (Throwable t) {
+                return Result.<T, E>errOfNullable(onThrow.apply(t));
+            }
+        }, executor);
+        return new AsyncResult<>(future, executor, onThrow);
+    }
+
+    /**
+     * Wraps an already computed result, so it can be composed with asynchronous stages.
+     */
+    public static <T, E> AsyncResult<T, E> completed(@NotNull Result<T, E> result, @NotNull Executor executor, @NotNull Function<? super Throwable, ? extends E> onThrow) {
+        return new AsyncResult<>(CompletableFuture.completedFuture(result), executor, onThrow);
+    }
+
+    /**
+     * Adopts a plain future. If the future fails, the AsyncResult completes with an Err holding the failure.
+     */
+    public static <T> AsyncResult<T, Throwable> fromFuture(@NotNull CompletionStage<T> stage, @NotNull Executor executor) {
+        var future = stage.<Result<T, Throwable>>handle((value, failure) -> failure == null
+                ? Result.okOfNullable(value)
+                : Result.errOf(unwrapFailure(failure))
+        ).toCompletableFuture();
+        return new AsyncResult<>(future, executor, Function.identity());
+    }
+
+    /**
+     * Adopts a future of a result. If the future fails, the failure is turned into an Err by onThrow.
+     */
+    public static <T, E> AsyncResult<T, E> fromResultFuture(@NotNull CompletionStage<Result<T, E>> stage, @NotNull Executor executor, @NotNull Function<? super Throwable, ? extends E> onThrow) {
+        var future = stage.handle((result, failure) -> failure == null
+                ? result
+                : Result.<T, E>errOfNullable(onThrow.apply(unwrapFailure(failure)))
+        ).toCompletableFuture();
+        return new AsyncResult<>(future, executor, onThrow);
+    }
+
+    /**
+     * @see Result#map(Function)
+     */
+    public <V> AsyncResult<V, E> map(@NotNull Function<T, V> action) {
+        return stage((result) -> result.map(action), onThrow);
+    }
+
+    /**
+     * @see Result#mapError(Function)
+     * @return An AsyncResult whose exception handler also goes through action.
+     */
+    public <F> AsyncResult<T, F> mapError(@NotNull Function<E, F> action) {
+        Function<Throwable, F> next = (t) -> action.apply(onThrow.apply(t));
+        return stage((result) -> result.mapError(action), next);
+    }
+
+    /**
+     * @see Result#andThen(Function)
+     */
+    public <V> AsyncResult<V, E> andThen(@NotNull Function<T, Result<V, E>> action) {
+        return stage((result) -> result.andThen(action), onThrow);
+    }
+
+    /**
+     * @see Result#orElse(Function)
+     */
+    public <F> AsyncResult<T, F> orElse(@NotNull Function<E, Result<T, F>> action, @NotNull Function<? super Throwable, ? extends F> onThrow) {
+        return stage((result) -> result.orElse(action), onThrow);
+    }
+
+    /**
+     * The error type stays the same, so the exception handler is kept.
+     *
+     * @see Result#orElse(Function)
+     */
+    public AsyncResult<T, E> orElse(@NotNull Function<E, Result<T, E>> action) {
+        return stage((result) -> result.orElse(action), onThrow);
+    }
+
+    /**
+     * Chains another asynchronous step, without blocking on it.
+     *
+     * @param action The step to run if this completes with Ok.
+     */
+    @SuppressWarnings("unchecked")
+    public <V> AsyncResult<V, E> andThenAsync(@NotNull Function<T, AsyncResult<V, E>> action) {
+        var next = future.thenComposeAsync((result) -> switch (result) {
+            case Ok(T value) -> {
+                try {
+                    yield action.apply(value).future;
+                } catch (Throwable t) {
+                    yield CompletableFuture.completedFuture(Result.<V, E>errOfNullable(onThrow.apply(t)));
+                }
+            }
+            case Err<T, E> err -> CompletableFuture.completedFuture((Err<V, E>) err);
+        }, executor);
+        return new AsyncResult<>(next, executor, onThrow);
+    }
+
+    /**
+     * @return An AsyncResult whose later stages run on another executor.
+     */
+    public AsyncResult<T, E> withExecutor(@NotNull Executor executor) {
+        return new AsyncResult<>(future, executor, onThrow);
+    }
+
+    /**
+     * Waits for the result. Meant for the edges of an asynchronous program, or for virtual threads, where blocking is cheap.
+     */
+    public Result<T, E> join() {
+        return future.join();
+    }
+
+    /**
+     * Waits for the result, then behaves like {@link Result#bind()}.
+     * Lets a {@link Result#binding(Class, Supplier)} block running on a virtual thread await several AsyncResults.
+     */
+    public T bind() {
+        return join().bind();
+    }
+
+    /**
+     * @return The underlying future. It only completes exceptionally if it is cancelled, or if the executor rejects a stage.
+     */
+    public CompletableFuture<Result<T, E>> toCompletableFuture() {
+        return future;
+    }
+
+    /**
+     * Adds one stage to the future. The stage sees both the result and any failure of the previous one,
+     * so failures the previous stage could not turn into an Err still end up as an Err here.
+     */
+    private <V, F> AsyncResult<V, F> stage(Function<Result<T, E>, Result<V, F>> step, Function<? super Throwable, ? extends F> nextOnThrow) {
+        var next = future.handleAsync((result, failure) -> {
+            try {
+                var input = failure == null ? result : Result.<T, E>errOfNullable(onThrow.apply(unwrapFailure(failure)));
+                return step.apply(input);
+            } catch (Throwable t) {
+                return Result.<V, F>errOfNullable(nextOnThrow.apply(t));
+            }
+        }, executor);
+        return new AsyncResult<>(next, executor, nextOnThrow);
+    }
+
+    private static Throwable unwrapFailure(Throwable failure) {
+        if (failure instanceof CompletionException && failure.getCause() != null) {
+            return failure.getCause();
+        }
+        return failure;
+    }
+}
@@ -0,0 +1,34 @@
+package dev.wscp.monadics.result;
+
+import dev.wscp.monadics.jfr.MonadicsEvents;
+import dev.wscp.monadics.util.ResultBindingException;
+
+/**
+ * The exception thrown by {@link Result#bind()} to escape from a {@link Result#binding(Class, java.util.function.Supplier)} block.
+ * Each escape gets its own instance, carrying its error in {@link ResultBindingException#originalErr} like any other,
+ * but it never fills in its stack trace, so an escape costs one small allocation and no stack walk.
+ */
+final class BindingEscape extends ResultBindingException {
+    private BindingEscape(Object error) {
+        super("Bad result binding.", null, error, false);
+    }
+
+    /**
+     * @param error The error value to carry out of the binding block.
+     * @return A new escape, loaded with the error value and ready to be thrown.
+     */
+    static BindingEscape raise(Object error) {
+        MonadicsEvents.bindEscaped(error);
+        return new BindingEscape(error);
+    }
+
+    /**
+     * Extracts the error carried out of a binding block, whether it escaped through {@link #raise(Object)}
+     * or through a manually thrown {@link ResultBindingException}.
+     *
+     * @throws ClassCastException If the error is not of the expected type.
+     */
+    static <E> E caught(Class<E> errType, ResultBindingException r) {
+        return errType.cast(r.originalErr);
+    }
+}
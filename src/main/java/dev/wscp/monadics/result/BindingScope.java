@@ -0,0 +1,200 @@
+package dev.wscp.monadics.result;
+
+import dev.wscp.monadics.util.ResultBindingException;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A binding block whose results can be computed in parallel. See {@link Result#bindingScope(Class, Function)}.
+ *
+ * <p>Each {@link #fork(Supplier)} starts a task on its own virtual thread right away. Binding a fork waits for it.
+ * The first fork to produce an {@link Err} fails the whole scope: every other fork is interrupted,
+ * and binding any fork that has not finished yet escapes with that same error.
+ * No fork outlives the scope. Once the block exits, the forks still running are interrupted,
+ * and the block waits for every one of them to finish before it returns, even those that ignore the interrupt.</p>
+ *
+ * @param <E> The error type of the scope.
+ */
+public final class BindingScope<E> {
+    private static final ThreadFactory THREADS = Thread.ofVirtual().name("monadics-binding-", 0).factory();
+
+    /**
+     * Guards starting forks against failing and closing the scope, so no fork starts once either has happened.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+    private final List<Fork<?>> forks = new ArrayList<>();
+    private boolean closed;
+    /**
+     * The first failure of any fork: an {@link Err}, or whatever a fork threw.
+     */
+    private final AtomicReference<Object> failure = new AtomicReference<>();
+
+    BindingScope() {}
+
+    /**
+     * Runs a fallible task in parallel with the rest of the block.
+     *
+     * @param task The task to run, on a new virtual thread.
+     * @return A handle to bind once the value is needed.
+     * @throws IllegalStateException If the block this scope belongs to has already exited.
+     */
+    public <T> Fork<T> fork(@NotNull Supplier<? extends Result<T, E>> task) {
+        var fork = new Fork<T>();
+        var thread = THREADS.newThread(() -> {
+            try {
+                var result = task.get();
+                if (result instanceof Err<?, ?>) {
+                    fail(result);
+                }
+                fork.future.complete(result);
+            } catch (Throwable t) {
+                fail(t);
+                fork.future.completeExceptionally(t);
+            }
+        });
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Cannot fork once the binding block has exited");
+            }
+            var failed = failure.get();
+            if (failed != null) {
+                fork.cancel(failed);
+                return fork;
+            }
+            forks.add(fork);
+            fork.thread = thread;
+            thread.start();
+        } finally {
+            lock.unlock();
+        }
+        return fork;
+    }
+
+    static <T, E> Result<T, E> run(Class<E> errType, Function<BindingScope<E>, T> action) {
+        var scope = new BindingScope<E>();
+        try {
+            var value = action.apply(scope);
+            var failed = scope.failure.get();
+            if (failed == null) {
+                return Result.okOfNullable(value);
+            }
+            if (failed instanceof Err<?, ?> err) {
+                return Result.errOf(errType.cast(err.error()));
+            }
+            throw rethrow((Throwable) failed);
+        } catch (ResultBindingException r) {
+            return Result.errOf(BindingEscape.caught(errType, r));
+        } finally {
+            scope.close();
+        }
+    }
+
+    private void fail(Object cause) {
+        if (!failure.compareAndSet(null, cause)) {
+            return;
+        }
+        lock.lock();
+        try {
+            for (var fork : forks) {
+                fork.cancel(cause);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Interrupts the forks still running, then waits for all of them. An interrupt of the waiting thread
+     * does not cut the wait short, since forks must not outlive the scope; it is restored afterwards.
+     */
+    private void close() {
+        List<Fork<?>> started;
+        lock.lock();
+        try {
+            closed = true;
+            started = List.copyOf(forks);
+        } finally {
+            lock.unlock();
+        }
+        for (var fork : started) {
+            if (!fork.future.isDone()) {
+                fork.thread.interrupt();
+            }
+        }
+        boolean interrupted = false;
+        for (var fork : started) {
+            while (true) {
+                try {
+                    fork.thread.join();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable t) {
+        return switch (t) {
+            case RuntimeException e -> e;
+            case Error e -> throw e;
+            default -> new CompletionException(t);
+        };
+    }
+
+    /**
+     * A task running inside a {@link BindingScope}.
+     *
+     * @param <T> The value type of the task.
+     */
+    public final class Fork<T> {
+        private final CompletableFuture<Result<T, E>> future = new CompletableFuture<>();
+        private volatile Thread thread;
+
+        private Fork() {}
+
+        /**
+         * Waits for the task, then behaves like {@link Result#bind()}.
+         * If another fork fails first, escapes with that fork's error instead of waiting any longer.
+         * An exception thrown by the task is rethrown here.
+         */
+        public T bind() {
+            try {
+                return future.join().bind();
+            } catch (CompletionException e) {
+                throw rethrow(e.getCause());
+            }
+        }
+
+        /**
+         * @return Whether the task has finished, or was cancelled because another fork failed.
+         */
+        public boolean isDone() {
+            return future.isDone();
+        }
+
+        @SuppressWarnings("unchecked")
+        private void cancel(Object cause) {
+            var cancelled = cause instanceof Err<?, ?> err
+                    ? future.complete((Result<T, E>) err)
+                    : future.completeExceptionally((Throwable) cause);
+            var running = thread;
+            if (cancelled && running != null) {
+                running.interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,3 @@
+package dev.wscp.monadics.result;
+
+public record DoubleErr<E>(E error) implements DoubleResult<E> {}
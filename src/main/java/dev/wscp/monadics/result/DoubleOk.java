@@ -0,0 +1,3 @@
+package dev.wscp.monadics.result;
+
+public record DoubleOk<E>(double value) implements DoubleResult<E> {}
@@ -0,0 +1,225 @@
+package dev.wscp.monadics.result;
+
+import dev.wscp.monadics.jfr.MonadicsEvents;
+import dev.wscp.monadics.option.DoubleOption;
+import dev.wscp.monadics.util.ExceptionPolicy;
+import dev.wscp.monadics.util.ResultBindingException;
+import dev.wscp.monadics.util.UnwrapException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.DoubleStream;
+
+/**
+ * A {@link Result} specialised for double success values. The value is held unboxed,
+ * and every combinator takes a primitive functional interface, so a chain of numeric steps never boxes.
+ *
+ * <p>Use {@link #toResult()} and {@link #fromResult(Result)} to cross over to the generic {@link Result} at the boundaries.</p>
+ *
+ * @param <E> The error type. Can be anything, not just {@link Throwable}.
+ */
+public sealed interface DoubleResult<E> permits DoubleOk, DoubleErr {
+
+    static <E> DoubleOk<E> okOf(double value) {
+        return new DoubleOk<>(value);
+    }
+
+    /**
+     * Factory constructor for Err values. If you want to use nullable values instead, use {@link #errOfNullable(Object)}
+     *
+     * @param error the non-null value to wrap in an Err.
+     */
+    static <E> DoubleErr<@NotNull E> errOf(@NotNull E error) {
+        MonadicsEvents.errCreated(Objects.requireNonNull(error));
+        return new DoubleErr<>(error);
+    }
+
+    static <E> DoubleErr<@Nullable E> errOfNullable(@Nullable E error) {
+        MonadicsEvents.errCreated(error);
+        return new DoubleErr<>(error);
+    }
+
+    /**
+     * Unboxes a generic result.
+     *
+     * @throws NullPointerException if result is an Ok holding null.
+     */
+    static <E> DoubleResult<E> fromResult(@NotNull Result<Double, E> result) {
+        return switch (result) {
+            case Ok(Double value) -> okOf(Objects.requireNonNull(value));
+            case Err(E error) -> new DoubleErr<>(error);
+        };
+    }
+
+    /**
+     * The double counterpart of {@link Result#binding(Class, Supplier)}. Binds of any result type, primitive or not,
+     * can be mixed within the action.
+     *
+     * @throws ClassCastException If any of the .bind calls within the action are not of the expected type.
+     */
+    static <E> DoubleResult<E> binding(Class<E> errType, DoubleSupplier action) {
+        try {
+            return okOf(action.getAsDouble());
+        } catch (ResultBindingException r) {
+            return new DoubleErr<>(BindingEscape.caught(errType, r));
+        }
+    }
+
+    default boolean isOk() {
+        return this instanceof DoubleOk<E>;
+    }
+
+    default boolean isErr() {
+        return this instanceof DoubleErr<E>;
+    }
+
+    default DoubleStream toStream() {
+        return switch (this) {
+            case DoubleOk(double value) -> DoubleStream.of(value);
+            default -> DoubleStream.empty();
+        };
+    }
+
+    /**
+     * Passes the value to action if this is {@link DoubleOk}. Has the shape {@link DoubleStream#mapMulti} and
+     * {@link java.util.stream.Stream#mapMultiToDouble} expect, so results can be flattened without building a stream per element.
+     */
+    default void forEach(@NotNull DoubleConsumer action) {
+        if (this instanceof DoubleOk(double value)) {
+            action.accept(value);
+        }
+    }
+
+    /**
+     * Extracts the value of a result.
+     *
+     * @return the contained value.
+     * @throws UnwrapException if this result is an Err and not an Ok.
+     */
+    default double unwrap() {
+        return switch (this) {
+            case DoubleOk(double value) -> value;
+            case DoubleErr(E err) -> throw UnwrapFailures.unwrap("DoubleResult.unwrap", err, ExceptionPolicy.defaultPolicy());
+        };
+    }
+
+    /**
+     * Extracts the value of a result and returns a default value if the result is an {@link DoubleErr}.
+     */
+    default double unwrapOrDefault(double defaultValue) {
+        return switch (this) {
+            case DoubleOk(double value) -> value;
+            default -> defaultValue;
+        };
+    }
+
+    /**
+     * Extracts the error of a result.
+     *
+     * @throws UnwrapException if this is Ok.
+     */
+    default E unwrapError() {
+        return switch (this) {
+            case DoubleErr(E err) -> err;
+            default -> throw UnwrapFailures.unwrapError("DoubleResult.unwrapError", ExceptionPolicy.defaultPolicy());
+        };
+    }
+
+    default @Nullable E unwrapErrorOrNull() {
+        return switch (this) {
+            case DoubleErr(E err) -> err;
+            default -> null;
+        };
+    }
+
+    default DoubleResult<E> map(@NotNull DoubleUnaryOperator action) {
+        return switch (this) {
+            case DoubleOk(double value) -> okOf(action.applyAsDouble(value));
+            case DoubleErr<E> err -> err;
+        };
+    }
+
+    default IntResult<E> mapToInt(@NotNull DoubleToIntFunction action) {
+        return switch (this) {
+            case DoubleOk(double value) -> IntResult.okOf(action.applyAsInt(value));
+            case DoubleErr(E err) -> new IntErr<>(err);
+        };
+    }
+
+    default LongResult<E> mapToLong(@NotNull DoubleToLongFunction action) {
+        return switch (this) {
+            case DoubleOk(double value) -> LongResult.okOf(action.applyAsLong(value));
+            case DoubleErr(E err) -> new LongErr<>(err);
+        };
+    }
+
+    /**
+     * Boxes the value into a generic result through action.
+     */
+    default <V> Result<V, E> mapToObj(@NotNull DoubleFunction<V> action) {
+        return switch (this) {
+            case DoubleOk(double value) -> Result.okOf(action.apply(value));
+            case DoubleErr(E err) -> new Err<>(err);
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    default <F> DoubleResult<F> mapError(@NotNull Function<E, F> action) {
+        return switch (this) {
+            case DoubleErr(E err) -> errOf(action.apply(err));
+            case DoubleOk<E> ok -> (DoubleOk<F>) ok;
+        };
+    }
+
+    default DoubleResult<E> andThen(@NotNull DoubleFunction<DoubleResult<E>> action) {
+        return switch (this) {
+            case DoubleOk(double value) -> action.apply(value);
+            case DoubleErr<E> err -> err;
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    default <F> DoubleResult<F> orElse(@NotNull Function<E, DoubleResult<F>> action) {
+        return switch (this) {
+            case DoubleErr(E err) -> action.apply(err);
+            case DoubleOk<E> ok -> (DoubleOk<F>) ok;
+        };
+    }
+
+    /**
+     * The double counterpart of {@link Result#bind()}.
+     * This method should only be called within the context of the action of a binding method.
+     */
+    default double bind() {
+        return switch (this) {
+            case DoubleOk(double value) -> value;
+            case DoubleErr(E error) -> throw BindingEscape.raise(error);
+        };
+    }
+
+    default DoubleOption ok() {
+        return switch (this) {
+            case DoubleOk(double value) -> DoubleOption.someOf(value);
+            case DoubleErr<E> e -> DoubleOption.none();
+        };
+    }
+
+    /**
+     * Boxes this result. Meant for the boundaries of a primitive pipeline.
+     */
+    default Result<Double, E> toResult() {
+        return switch (this) {
+            case DoubleOk(double value) -> new Ok<>(value);
+            case DoubleErr(E err) -> new Err<>(err);
+        };
+    }
+}
@@ -0,0 +1,199 @@
+package dev.wscp.monadics.result;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Implementation of {@link Result#allOf(List)} and {@link Result#firstOk(List)}.
+ *
+ * <p>Every task gets its own virtual thread, and reports its outcome to a queue the calling thread waits on.
+ * Once the caller has what it needs, or the deadline passes, every task still running is interrupted and left behind:
+ * the caller never waits for a task to notice the interrupt, so its latency is bounded by the deadline.</p>
+ */
+final class FanOut {
+    private static final ThreadFactory THREADS = Thread.ofVirtual().name("monadics-fanout-", 0).factory();
+    private static final Duration MAX_NANOS = Duration.ofNanos(Long.MAX_VALUE);
+
+    /**
+     * What a task produced. Exactly one of result and failure is set.
+     */
+    private record Outcome(int index, Result<?, ?> result, Throwable failure) {}
+
+    private final Thread[] threads;
+    private final BlockingQueue<Outcome> outcomes;
+    private final long start;
+    /**
+     * The timeout in nanoseconds, saturated, or Long.MAX_VALUE to wait for as long as it takes.
+     */
+    private final long timeoutNanos;
+
+    private FanOut(List<? extends Supplier<? extends Result<?, ?>>> tasks, Duration timeout) {
+        this.threads = new Thread[tasks.size()];
+        this.outcomes = new ArrayBlockingQueue<>(Math.max(1, tasks.size()));
+        this.start = System.nanoTime();
+        this.timeoutNanos = timeout == null || timeout.compareTo(MAX_NANOS) >= 0 ? Long.MAX_VALUE : timeout.isNegative() ? 0 : timeout.toNanos();
+        for (int i = 0; i < threads.length; i++) {
+            var index = i;
+            var task = tasks.get(i);
+            threads[i] = THREADS.newThread(() -> {
+                Outcome outcome;
+                try {
+                    Result<?, ?> result = task.get();
+                    outcome = result != null
+                            ? new Outcome(index, result, null)
+                            : new Outcome(index, null, new NullPointerException("Task " + index + " returned null instead of a result"));
+                } catch (Throwable t) {
+                    outcome = new Outcome(index, null, t);
+                }
+                outcomes.add(outcome);
+            });
+        }
+        for (var thread : threads) {
+            thread.start();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T, E> Result<List<T>, E> allOf(List<? extends Supplier<? extends Result<T, E>>> tasks, Duration timeout, Supplier<? extends E> onTimeout) {
+        if (tasks.isEmpty()) {
+            return new Ok<>(List.of());
+        }
+        var fanOut = new FanOut(tasks, timeout);
+        try {
+            var values = new Object[tasks.size()];
+            for (int remaining = values.length; remaining > 0; remaining--) {
+                var outcome = fanOut.next();
+                if (outcome == null) {
+                    return new Err<>(onTimeout.get());
+                }
+                if (outcome.failure != null) {
+                    throw rethrow(outcome.failure);
+                }
+                switch ((Result<T, E>) outcome.result) {
+                    case Ok(T value) -> values[outcome.index] = value;
+                    case Err<T, E> err -> {
+                        return Traversals.recast(err);
+                    }
+                }
+            }
+            return new Ok<>((List<T>) Arrays.asList(values));
+        } finally {
+            fanOut.cancel();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T, E> Result<T, List<E>> firstOk(List<? extends Supplier<? extends Result<T, E>>> tasks, Duration timeout, Supplier<? extends E> onTimeout) {
+        if (tasks.isEmpty()) {
+            return new Err<>(List.of());
+        }
+        var fanOut = new FanOut(tasks, timeout);
+        try {
+            var errors = new Object[tasks.size()];
+            var seen = new boolean[tasks.size()];
+            var failures = new ArrayList<Throwable>(0);
+            for (int remaining = errors.length; remaining > 0; remaining--) {
+                var outcome = fanOut.next();
+                if (outcome == null) {
+                    List<E> collected = collect(errors, seen);
+                    collected.add(onTimeout.get());
+                    return new Err<>(collected);
+                }
+                if (outcome.failure != null) {
+                    failures.add(outcome.failure);
+                    continue;
+                }
+                switch ((Result<T, E>) outcome.result) {
+                    case Ok<T, E> ok -> {
+                        return (Result<T, List<E>>) (Result<T, ?>) ok;
+                    }
+                    case Err(E error) -> {
+                        errors[outcome.index] = error;
+                        seen[outcome.index] = true;
+                    }
+                }
+            }
+            if (!failures.isEmpty()) {
+                throw rethrow(aggregate(failures));
+            }
+            return new Err<>(collect(errors, seen));
+        } finally {
+            fanOut.cancel();
+        }
+    }
+
+    /**
+     * Combines what several tasks threw without touching any of it: the exceptions belong to the tasks,
+     * and callers may still hold and inspect them.
+     *
+     * @return The only failure as is, or a new exception caused by the first failure, with the later ones suppressed.
+     */
+    private static Throwable aggregate(List<Throwable> failures) {
+        if (failures.size() == 1) {
+            return failures.getFirst();
+        }
+        var aggregate = new CompletionException(failures.size() + " tasks threw", failures.getFirst());
+        for (var failure : failures.subList(1, failures.size())) {
+            aggregate.addSuppressed(failure);
+        }
+        return aggregate;
+    }
+
+    /**
+     * @return The errors that arrived, in task order.
+     */
+    @SuppressWarnings("unchecked")
+    private static <E> List<E> collect(Object[] errors, boolean[] seen) {
+        var collected = new ArrayList<E>(errors.length + 1);
+        for (int i = 0; i < errors.length; i++) {
+            if (seen[i]) {
+                collected.add((E) errors[i]);
+            }
+        }
+        return collected;
+    }
+
+    /**
+     * Waits for the next task to finish.
+     *
+     * @return The outcome of the task, or null if the deadline passed first.
+     */
+    private Outcome next() {
+        try {
+            if (timeoutNanos == Long.MAX_VALUE) {
+                return outcomes.take();
+            }
+            return outcomes.poll(timeoutNanos - (System.nanoTime() - start), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            var cancelled = new CancellationException("Interrupted while waiting for tasks");
+            cancelled.initCause(e);
+            throw cancelled;
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable failure) {
+        return switch (failure) {
+            case RuntimeException e -> e;
+            case Error e -> throw e;
+            default -> new CompletionException(failure);
+        };
+    }
+
+    private void cancel() {
+        for (var thread : threads) {
+            if (thread.isAlive()) {
+                thread.interrupt();
+            }
+        }
+    }
+}
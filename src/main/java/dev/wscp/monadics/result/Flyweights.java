@@ -0,0 +1,53 @@
+package dev.wscp.monadics.result;
+
+import dev.wscp.monadics.util.Unit;
+
+/**
+ * Shared instances for the most common Ok and Err values.
+ * Ok and Err never use their other type parameter, so every cached instance is safe to cast to any of them.
+ */
+final class Flyweights {
+    static final Ok<Boolean, ?> TRUE = new Ok<>(Boolean.TRUE);
+    static final Ok<Boolean, ?> FALSE = new Ok<>(Boolean.FALSE);
+    static final Ok<Unit, ?> UNIT = new Ok<>(Unit.INSTANCE);
+
+    /**
+     * Matches the range of the {@link Integer#valueOf(int)} cache, so the boxed values are shared as well.
+     */
+    static final int INT_LOW = -128;
+    static final int INT_HIGH = 127;
+    private static final Ok<?, ?>[] INTS = new Ok<?, ?>[INT_HIGH - INT_LOW + 1];
+
+    static {
+        for (int i = 0; i < INTS.length; i++) {
+            INTS[i] = new Ok<>(INT_LOW + i);
+        }
+    }
+
+    private static final ClassValue<Err<?, ?>[]> ENUM_ERRS = new ClassValue<>() {
+        @Override
+        protected Err<?, ?>[] computeValue(Class<?> type) {
+            var constants = type.getEnumConstants();
+            var errs = new Err<?, ?>[constants.length];
+            for (int i = 0; i < constants.length; i++) {
+                errs[i] = new Err<>(constants[i]);
+            }
+            return errs;
+        }
+    };
+
+    private Flyweights() {}
+
+    @SuppressWarnings("unchecked")
+    static <E> Ok<Integer, E> ofInt(int value) {
+        if (value >= INT_LOW && value <= INT_HIGH) {
+            return (Ok<Integer, E>) INTS[value - INT_LOW];
+        }
+        return new Ok<>(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T, E extends Enum<E>> Err<T, E> ofEnum(E value) {
+        return (Err<T, E>) ENUM_ERRS.get(value.getDeclaringClass())[value.ordinal()];
+    }
+}
@@ -0,0 +1,3 @@
+package dev.wscp.monadics.result;
+
+public record IntErr<E>(E error) implements IntResult<E> {}
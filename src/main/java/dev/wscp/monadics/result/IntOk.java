@@ -0,0 +1,3 @@
+package dev.wscp.monadics.result;
+
+public record IntOk<E>(int value) implements IntResult<E> {}
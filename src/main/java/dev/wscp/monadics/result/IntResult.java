@@ -0,0 +1,225 @@
+package dev.wscp.monadics.result;
+
+import dev.wscp.monadics.jfr.MonadicsEvents;
+import dev.wscp.monadics.option.IntOption;
+import dev.wscp.monadics.util.ExceptionPolicy;
+import dev.wscp.monadics.util.ResultBindingException;
+import dev.wscp.monadics.util.UnwrapException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntSupplier;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * A {@link Result} specialised for int success values. The value is held unboxed,
+ * and every combinator takes a primitive functional interface, so a chain of numeric steps never boxes.
+ *
+ * <p>Use {@link #toResult()} and {@link #fromResult(Result)} to cross over to the generic {@link Result} at the boundaries.</p>
+ *
+ * @param <E> The error type. Can be anything, not just {@link Throwable}.
+ */
+public sealed interface IntResult<E> permits IntOk, IntErr {
+
+    static <E> IntOk<E> okOf(int value) {
+        return new IntOk<>(value);
+    }
+
+    /**
+     * Factory constructor for Err values. If you want to use nullable values instead, use {@link #errOfNullable(Object)}
+     *
+     * @param error the non-null value to wrap in an Err.
+     */
+    static <E> IntErr<@NotNull E> errOf(@NotNull E error) {
+        MonadicsEvents.errCreated(Objects.requireNonNull(error));
+        return new IntErr<>(error);
+    }
+
+    static <E> IntErr<@Nullable E> errOfNullable(@Nullable E error) {
+        MonadicsEvents.errCreated(error);
+        return new IntErr<>(error);
+    }
+
+    /**
+     * Unboxes a generic result.
+     *
+     * @throws NullPointerException if result is an Ok holding null.
+     */
+    static <E> IntResult<E> fromResult(@NotNull Result<Integer, E> result) {
+        return switch (result) {
+            case Ok(Integer value) -> okOf(Objects.requireNonNull(value));
+            case Err(E error) -> new IntErr<>(error);
+        };
+    }
+
+    /**
+     * The int counterpart of {@link Result#binding(Class, Supplier)}. Binds of any result type, primitive or not,
+     * can be mixed within the action.
+     *
+     * @throws ClassCastException If any of the .bind calls within the action are not of the expected type.
+     */
+    static <E> IntResult<E> binding(Class<E> errType, IntSupplier action) {
+        try {
+            return okOf(action.getAsInt());
+        } catch (ResultBindingException r) {
+            return new IntErr<>(BindingEscape.caught(errType, r));
+        }
+    }
+
+    default boolean isOk() {
+        return this instanceof IntOk<E>;
+    }
+
+    default boolean isErr() {
+        return this instanceof IntErr<E>;
+    }
+
+    default IntStream toStream() {
+        return switch (this) {
+            case IntOk(int value) -> IntStream.of(value);
+            default -> IntStream.empty();
+        };
+    }
+
+    /**
+     * Passes the value to action if this is {@link IntOk}. Has the shape {@link IntStream#mapMulti} and
+     * {@link java.util.stream.Stream#mapMultiToInt} expect, so results can be flattened without building a stream per element.
+     */
+    default void forEach(@NotNull IntConsumer action) {
+        if (this instanceof IntOk(int value)) {
+            action.accept(value);
+        }
+    }
+
+    /**
+     * Extracts the value of a result.
+     *
+     * @return the contained value.
+     * @throws UnwrapException if this result is an Err and not an Ok.
+     */
+    default int unwrap() {
+        return switch (this) {
+            case IntOk(int value) -> value;
+            case IntErr(E err) -> throw UnwrapFailures.unwrap("IntResult.unwrap", err, ExceptionPolicy.defaultPolicy());
+        };
+    }
+
+    /**
+     * Extracts the value of a result and returns a default value if the result is an {@link IntErr}.
+     */
+    default int unwrapOrDefault(int defaultValue) {
+        return switch (this) {
+            case IntOk(int value) -> value;
+            default -> defaultValue;
+        };
+    }
+
+    /**
+     * Extracts the error of a result.
+     *
+     * @throws UnwrapException if this is Ok.
+     */
+    default E unwrapError() {
+        return switch (this) {
+            case IntErr(E err) -> err;
+            default -> throw UnwrapFailures.unwrapError("IntResult.unwrapError", ExceptionPolicy.defaultPolicy());
+        };
+    }
+
+    default @Nullable E unwrapErrorOrNull() {
+        return switch (this) {
+            case IntErr(E err) -> err;
+            default -> null;
+        };
+    }
+
+    default IntResult<E> map(@NotNull IntUnaryOperator action) {
+        return switch (this) {
+            case IntOk(int value) -> okOf(action.applyAsInt(value));
+            case IntErr<E> err -> err;
+        };
+    }
+
+    default LongResult<E> mapToLong(@NotNull IntToLongFunction action) {
+        return switch (this) {
+            case IntOk(int value) -> LongResult.okOf(action.applyAsLong(value));
+            case IntErr(E err) -> new LongErr<>(err);
+        };
+    }
+
+    default DoubleResult<E> mapToDouble(@NotNull IntToDoubleFunction action) {
+        return switch (this) {
+            case IntOk(int value) -> DoubleResult.okOf(action.applyAsDouble(value));
+            case IntErr(E err) -> new DoubleErr<>(err);
+        };
+    }
+
+    /**
+     * Boxes the value into a generic result through action.
+     */
+    default <V> Result<V, E> mapToObj(@NotNull IntFunction<V> action) {
+        return switch (this) {
+            case IntOk(int value) -> Result.okOf(action.apply(value));
+            case IntErr(E err) -> new Err<>(err);
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    default <F> IntResult<F> mapError(@NotNull Function<E, F> action) {
+        return switch (this) {
+            case IntErr(E err) -> errOf(action.apply(err));
+            case IntOk<E> ok -> (IntOk<F>) ok;
+        };
+    }
+
+    default IntResult<E> andThen(@NotNull IntFunction<IntResult<E>> action) {
+        return switch (this) {
+            case IntOk(int value) -> action.apply(value);
+            case IntErr<E> err -> err;
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    default <F> IntResult<F> orElse(@NotNull Function<E, IntResult<F>> action) {
+        return switch (this) {
+            case IntErr(E err) -> action.apply(err);
+            case IntOk<E> ok -> (IntOk<F>) ok;
+        };
+    }
+
+    /**
+     * The int counterpart of {@link Result#bind()}.
+     * This method should only be called within the context of the action of a binding method.
+     */
+    default int bind() {
+        return switch (this) {
+            case IntOk(int value) -> value;
+            case IntErr(E error) -> throw BindingEscape.raise(error);
+        };
+    }
+
+    default IntOption ok() {
+        return switch (this) {
+            case IntOk(int value) -> IntOption.someOf(value);
+            case IntErr<E> e -> IntOption.none();
+        };
+    }
+
+    /**
+     * Boxes this result. Meant for the boundaries of a primitive pipeline.
+     */
+    default Result<Integer, E> toResult() {
+        return switch (this) {
+            case IntOk(int value) -> new Ok<>(value);
+            case IntErr(E err) -> new Err<>(err);
+        };
+    }
+}
@@ -0,0 +1,3 @@
+package dev.wscp.monadics.result;
+
+public record LongErr<E>(E error) implements LongResult<E> {}
@@ -0,0 +1,3 @@
+package dev.wscp.monadics.result;
+
+public record LongOk<E>(long value) implements LongResult<E> {}
@@ -0,0 +1,225 @@
+package dev.wscp.monadics.result;
+
+import dev.wscp.monadics.jfr.MonadicsEvents;
+import dev.wscp.monadics.option.LongOption;
+import dev.wscp.monadics.util.ExceptionPolicy;
+import dev.wscp.monadics.util.ResultBindingException;
+import dev.wscp.monadics.util.UnwrapException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongSupplier;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+/**
+ * A {@link Result} specialised for long success values. The value is held unboxed,
+ * and every combinator takes a primitive functional interface, so a chain of numeric steps never boxes.
+ *
+ * <p>Use {@link #toResult()} and {@link #fromResult(Result)} to cross over to the generic {@link Result} at the boundaries.</p>
+ *
+ * @param <E> The error type. Can be anything, not just {@link Throwable}.
+ */
+public sealed interface LongResult<E> permits LongOk, LongErr {
+
+    static <E> LongOk<E> okOf(long value) {
+        return new LongOk<>(value);
+    }
+
+    /**
+     * Factory constructor for Err values. If you want to use nullable values instead, use {@link #errOfNullable(Object)}
+     *
+     * @param error the non-null value to wrap in an Err.
+     */
+    static <E> LongErr<@NotNull E> errOf(@NotNull E error) {
+        MonadicsEvents.errCreated(Objects.requireNonNull(error));
+        return new LongErr<>(error);
+    }
+
+    static <E> LongErr<@Nullable E> errOfNullable(@Nullable E error) {
+        MonadicsEvents.errCreated(error);
+        return new LongErr<>(error);
+    }
+
+    /**
+     * Unboxes a generic result.
+     *
+     * @throws NullPointerException if result is an Ok holding null.
+     */
+    static <E> LongResult<E> fromResult(@NotNull Result<Long, E> result) {
+        return switch (result) {
+            case Ok(Long value) -> okOf(Objects.requireNonNull(value));
+            case Err(E error) -> new LongErr<>(error);
+        };
+    }
+
+    /**
+     * The long counterpart of {@link Result#binding(Class, Supplier)}. Binds of any result type, primitive or not,
+     * can be mixed within the action.
+     *
+     * @throws ClassCastException If any of the .bind calls within the action are not of the expected type.
+     */
+    static <E> LongResult<E> binding(Class<E> errType, LongSupplier action) {
+        try {
+            return okOf(action.getAsLong());
+        } catch (ResultBindingException r) {
+            return new LongErr<>(BindingEscape.caught(errType, r));
+        }
+    }
+
+    default boolean isOk() {
+        return this instanceof LongOk<E>;
+    }
+
+    default boolean isErr() {
+        return this instanceof LongErr<E>;
+    }
+
+    default LongStream toStream() {
+        return switch (this) {
+            case LongOk(long value) -> LongStream.of(value);
+            default -> LongStream.empty();
+        };
+    }
+
+    /**
+     * Passes the value to action if this is {@link LongOk}. Has the shape {@link LongStream#mapMulti} and
+     * {@link java.util.stream.Stream#mapMultiToLong} expect, so results can be flattened without building a stream per element.
+     */
+    default void forEach(@NotNull LongConsumer action) {
+        if (this instanceof LongOk(long value)) {
+            action.accept(value);
+        }
+    }
+
+    /**
+     * Extracts the value of a result.
+     *
+     * @return the contained value.
+     * @throws UnwrapException if this result is an Err and not an Ok.
+     */
+    default long unwrap() {
+        return switch (this) {
+            case LongOk(long value) -> value;
+            case LongErr(E err) -> throw UnwrapFailures.unwrap("LongResult.unwrap", err, ExceptionPolicy.defaultPolicy());
+        };
+    }
+
+    /**
+     * Extracts the value of a result and returns a default value if the result is an {@link LongErr}.
+     */
+    default long unwrapOrDefault(long defaultValue) {
+        return switch (this) {
+            case LongOk(long value) -> value;
+            default -> defaultValue;
+        };
+    }
+
+    /**
+     * Extracts the error of a result.
+     *
+     * @throws UnwrapException if this is Ok.
+     */
+    default E unwrapError() {
+        return switch (this) {
+            case LongErr(E err) -> err;
+            default -> throw UnwrapFailures.unwrapError("LongResult.unwrapError", ExceptionPolicy.defaultPolicy());
+        };
+    }
+
+    default @Nullable E unwrapErrorOrNull() {
+        return switch (this) {
+            case LongErr(E err) -> err;
+            default -> null;
+        };
+    }
+
+    default LongResult<E> map(@NotNull LongUnaryOperator action) {
+        return switch (this) {
+            case LongOk(long value) -> okOf(action.applyAsLong(value));
+            case LongErr<E> err -> err;
+        };
+    }
+
+    default IntResult<E> mapToInt(@NotNull LongToIntFunction action) {
+        return switch (this) {
+            case LongOk(long value) -> IntResult.okOf(action.applyAsInt(value));
+            case LongErr(E err) -> new IntErr<>(err);
+        };
+    }
+
+    default DoubleResult<E> mapToDouble(@NotNull LongToDoubleFunction action) {
+        return switch (this) {
+            case LongOk(long value) -> DoubleResult.okOf(action.applyAsDouble(value));
+            case LongErr(E err) -> new DoubleErr<>(err);
+        };
+    }
+
+    /**
+     * Boxes the value into a generic result through action.
+     */
+    default <V> Result<V, E> mapToObj(@NotNull LongFunction<V> action) {
+        return switch (this) {
+            case LongOk(long value) -> Result.okOf(action.apply(value));
+            case LongErr(E err) -> new Err<>(err);
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    default <F> LongResult<F> mapError(@NotNull Function<E, F> action) {
+        return switch (this) {
+            case LongErr(E err) -> errOf(action.apply(err));
+            case LongOk<E> ok -> (LongOk<F>) ok;
+        };
+    }
+
+    default LongResult<E> andThen(@NotNull LongFunction<LongResult<E>> action) {
+        return switch (this) {
+            case LongOk(long value) -> action.apply(value);
+            case LongErr<E> err -> err;
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    default <F> LongResult<F> orElse(@NotNull Function<E, LongResult<F>> action) {
+        return switch (this) {
+            case LongErr(E err) -> action.apply(err);
+            case LongOk<E> ok -> (LongOk<F>) ok;
+        };
+    }
+
+    /**
+     * The long counterpart of {@link Result#bind()}.
+     * This method should only be called within the context of the action of a binding method.
+     */
+    default long bind() {
+        return switch (this) {
+            case LongOk(long value) -> value;
+            case LongErr(E error) -> throw BindingEscape.raise(error);
+        };
+    }
+
+    default LongOption ok() {
+        return switch (this) {
+            case LongOk(long value) -> LongOption.someOf(value);
+            case LongErr<E> e -> LongOption.none();
+        };
+    }
+
+    /**
+     * Boxes this result. Meant for the boundaries of a primitive pipeline.
+     */
+    default Result<Long, E> toResult() {
+        return switch (this) {
+            case LongOk(long value) -> new Ok<>(value);
+            case LongErr(E err) -> new Err<>(err);
+        };
+    }
+}
@@ -0,0 +1,297 @@
+package dev.wscp.monadics.result;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+/**
+ * A batch of long results with int error codes, stored in a memory-mapped file instead of on the heap.
+ *
+ * <p>The layout is the one of {@link ResultBatch}, written straight to the file: a header, a bitmap in which bit i is
+ * set if element i is Ok, then one 8-byte slot per element holding either its value or its error code.
+ * Everything is little-endian. A batch written by {@link #create(Path, long)} in one process can be scanned
+ * by {@link #open(Path)} in another with nothing to decode, and however many results it holds,
+ * the heap only ever sees this object and its buffers.</p>
+ *
+ * <p>The file is mapped in chunks of 1 GiB, since a single buffer cannot go past 2 GiB.
+ * The mapping is released when the batch becomes unreachable; there is nothing to close.</p>
+ */
+public final class MappedResultBatch {
+    /**
+     * "MRBATCH1" read as a little-endian long: the format, and its version.
+     */
+    private static final long MAGIC = 0x314843544142524DL;
+    private static final int HEADER_BYTES = 24;
+    private static final int CAPACITY_OFFSET = 8;
+    private static final int SIZE_OFFSET = 16;
+    /**
+     * log2 of how many longs each mapped chunk holds.
+     */
+    private static final int CHUNK_SHIFT = 27;
+
+    private final Longs okBits;
+    private final Longs slots;
+    private final long size;
+
+    private MappedResultBatch(Longs okBits, Longs slots, long size) {
+        this.okBits = okBits;
+        this.slots = slots;
+        this.size = size;
+    }
+
+    /**
+     * Creates the file, replacing any existing one, sized for capacity results.
+     * On file systems with sparse files, space is only taken up as results are added.
+     *
+     * @param capacity How many results the batch can hold. It cannot grow past it.
+     */
+    public static Builder create(@NotNull Path file, long capacity) throws IOException {
+        return create(file, capacity, CHUNK_SHIFT);
+    }
+
+    static Builder create(Path file, long capacity, int chunkShift) throws IOException {
+        if (capacity < 0 || capacity > maxCapacity(chunkShift)) {
+            throw new IllegalArgumentException("Capacity must be between 0 and " + maxCapacity(chunkShift) + ", got " + capacity);
+        }
+        try (var channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            var header = channel.map(MapMode.READ_WRITE, 0, HEADER_BYTES);
+            header.order(ByteOrder.LITTLE_ENDIAN);
+            header.putLong(0, MAGIC).putLong(CAPACITY_OFFSET, capacity).putLong(SIZE_OFFSET, 0);
+            long words = words(capacity);
+            var okBits = new Longs(channel, MapMode.READ_WRITE, HEADER_BYTES, words, chunkShift);
+            var slots = new Longs(channel, MapMode.READ_WRITE, HEADER_BYTES + (words << 3), capacity, chunkShift);
+            return new Builder(header, okBits, slots, capacity);
+        }
+    }
+
+    /**
+     * Maps a batch written by {@link #create(Path, long)}, read-only.
+     *
+     * @throws IOException If the file cannot be read, or does not hold a complete batch.
+     */
+    public static MappedResultBatch open(@NotNull Path file) throws IOException {
+        return open(file, CHUNK_SHIFT);
+    }
+
+    static MappedResultBatch open(Path file, int chunkShift) throws IOException {
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long length = channel.size();
+            if (length < HEADER_BYTES) {
+                throw new IOException(file + " is too short to hold a result batch");
+            }
+            var header = channel.map(MapMode.READ_ONLY, 0, HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            long capacity = header.getLong(CAPACITY_OFFSET);
+            long size = header.getLong(SIZE_OFFSET);
+            if (header.getLong(0) != MAGIC) {
+                throw new IOException(file + " does not hold a result batch");
+            }
+            long words = words(capacity);
+            if (capacity < 0 || capacity > maxCapacity(chunkShift) || size < 0 || size > capacity || length < HEADER_BYTES + (words + capacity << 3)) {
+                throw new IOException(file + " holds a truncated or corrupted result batch");
+            }
+            var okBits = new Longs(channel, MapMode.READ_ONLY, HEADER_BYTES, words(size), chunkShift);
+            var slots = new Longs(channel, MapMode.READ_ONLY, HEADER_BYTES + (words << 3), size, chunkShift);
+            return new MappedResultBatch(okBits, slots, size);
+        }
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public boolean isOk(long index) {
+        Objects.checkIndex(index, size);
+        return (okBits.get(index >>> 6) & 1L << index) != 0;
+    }
+
+    /**
+     * @return Element index, as a new result holding either its value or its error code.
+     */
+    public LongResult<Integer> get(long index) {
+        return isOk(index) ? LongResult.okOf(slots.get(index)) : LongResult.errOf((int) slots.get(index));
+    }
+
+    public long okCount() {
+        long count = 0;
+        for (long w = 0, words = words(size); w < words; w++) {
+            count += Long.bitCount(okBits.get(w));
+        }
+        return count;
+    }
+
+    public long errCount() {
+        return size - okCount();
+    }
+
+    /**
+     * Visits the Ok values in order, skipping whole words of Errs at a time.
+     */
+    public void forEachOk(@NotNull LongConsumer action) {
+        for (long w = 0, words = words(size); w < words; w++) {
+            for (long word = okBits.get(w); word != 0; word &= word - 1) {
+                action.accept(slots.get(w << 6 | Long.numberOfTrailingZeros(word)));
+            }
+        }
+    }
+
+    /**
+     * Visits the error codes in order, skipping whole words of Oks at a time.
+     */
+    public void forEachErr(@NotNull IntConsumer action) {
+        for (long w = 0, words = words(size); w < words; w++) {
+            long base = w << 6;
+            for (long word = ~okBits.get(w); word != 0; word &= word - 1) {
+                long i = base | Long.numberOfTrailingZeros(word);
+                if (i >= size) {
+                    break;
+                }
+                action.accept((int) slots.get(i));
+            }
+        }
+    }
+
+    private static long words(long size) {
+        return (size + 63) >>> 6;
+    }
+
+    /**
+     * As many slots as the chunks of one array can hold, which also keeps the file length within a long.
+     */
+    static long maxCapacity(int chunkShift) {
+        return (long) Integer.MAX_VALUE << chunkShift;
+    }
+
+    /**
+     * Writes results into a file created by {@link #create(Path, long)}. A builder can only build once.
+     */
+    public static final class Builder {
+        private final MappedByteBuffer header;
+        private final Longs okBits;
+        private final Longs slots;
+        private final long capacity;
+        private long size;
+        /**
+         * The bitmap word being filled, written out once it is complete.
+         */
+        private long pending;
+        private boolean built;
+
+        private Builder(MappedByteBuffer header, Longs okBits, Longs slots, long capacity) {
+            this.header = header;
+            this.okBits = okBits;
+            this.slots = slots;
+            this.capacity = capacity;
+        }
+
+        public Builder addOk(long value) {
+            append(value);
+            pending |= 1L << size;
+            return advance();
+        }
+
+        public Builder addErr(int code) {
+            append(code);
+            return advance();
+        }
+
+        /**
+         * @throws IllegalArgumentException If result is an Err with a null error code, which a slot cannot hold.
+         */
+        public Builder add(@NotNull LongResult<Integer> result) {
+            return switch (result) {
+                case LongOk<Integer>(long value) -> addOk(value);
+                case LongErr<Integer>(Integer code) when code == null ->
+                        throw new IllegalArgumentException("A batch cannot hold an Err with a null error code");
+                case LongErr<Integer>(Integer code) -> addErr(code);
+            };
+        }
+
+        public long size() {
+            return size;
+        }
+
+        /**
+         * Records the size in the header and flushes the file, so it can be opened as soon as this returns.
+         * Until then, the file holds an empty batch.
+         *
+         * @return The batch, still backed by the same mapping.
+         */
+        public MappedResultBatch build() {
+            if (built) {
+                throw new IllegalStateException("This builder has already built its batch");
+            }
+            built = true;
+            if ((size & 63) != 0) {
+                okBits.set(size >>> 6, pending);
+            }
+            okBits.force();
+            slots.force();
+            header.putLong(SIZE_OFFSET, size);
+            header.force();
+            return new MappedResultBatch(okBits, slots, size);
+        }
+
+        private void append(long slot) {
+            if (built) {
+                throw new IllegalStateException("This builder has already built its batch");
+            }
+            if (size == capacity) {
+                throw new IllegalStateException("The batch is full, with a capacity of " + capacity);
+            }
+            slots.set(size, slot);
+        }
+
+        private Builder advance() {
+            if ((++size & 63) == 0) {
+                okBits.set((size >>> 6) - 1, pending);
+                pending = 0;
+            }
+            return this;
+        }
+    }
+
+    /**
+     * A run of little-endian longs in a file, mapped as one buffer per chunk.
+     */
+    private static final class Longs {
+        private final MappedByteBuffer[] chunks;
+        private final int shift;
+        private final int mask;
+
+        Longs(FileChannel channel, MapMode mode, long offset, long count, int shift) throws IOException {
+            this.shift = shift;
+            this.mask = (1 << shift) - 1;
+            this.chunks = new MappedByteBuffer[(int) ((count + mask) >>> shift)];
+            for (int c = 0; c < chunks.length; c++) {
+                long first = (long) c << shift;
+                long bytes = Math.min(1L << shift, count - first) << 3;
+                chunks[c] = channel.map(mode, offset + (first << 3), bytes);
+                chunks[c].order(ByteOrder.LITTLE_ENDIAN);
+            }
+        }
+
+        long get(long index) {
+            return chunks[(int) (index >>> shift)].getLong(((int) index & mask) << 3);
+        }
+
+        void set(long index, long value) {
+            chunks[(int) (index >>> shift)].putLong(((int) index & mask) << 3, value);
+        }
+
+        void force() {
+            for (var chunk : chunks) {
+                chunk.force();
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package dev.wscp.monadics.result;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Implementation of {@link Result#parallelTraverse(List, Function, ForkJoinPool)}.
+ *
+ * <p>The input is split into index ranges that run as fork/join tasks. Each task stops as soon as it reaches an
+ * index past the earliest Err seen so far, so an Err early in the input cancels most of the remaining work.
+ * Every index before the earliest Err is still evaluated, which is what makes the returned Err the first one
+ * by input index, regardless of scheduling.</p>
+ */
+final class ParallelTraversal<A, T, E> {
+    /**
+     * How many leaf tasks to aim for per worker thread, so that uneven work still balances through work stealing.
+     */
+    private static final int TASKS_PER_THREAD = 8;
+
+    private record Failure<T, E>(int index, Err<T, E> err) {}
+
+    private final List<A> items;
+    private final Function<? super A, ? extends Result<T, E>> action;
+    private final Object[] values;
+    private final int threshold;
+    private final AtomicReference<Failure<T, E>> failure = new AtomicReference<>();
+
+    private ParallelTraversal(List<A> items, Function<? super A, ? extends Result<T, E>> action, int parallelism) {
+        this.items = items;
+        this.action = action;
+        this.values = new Object[items.size()];
+        this.threshold = Math.max(1, items.size() / (parallelism * TASKS_PER_THREAD));
+    }
+
+    @SuppressWarnings("unchecked")
+    static <A, T, E> Result<List<T>, E> traverse(List<A> items, Function<? super A, ? extends Result<T, E>> action, ForkJoinPool pool) {
+        var traversal = new ParallelTraversal<>(items, action, pool.getParallelism());
+        pool.invoke(traversal.new Chunk(0, items.size()));
+        var first = traversal.failure.get();
+        if (first != null) {
+            return Traversals.recast(first.err);
+        }
+        return new Ok<>((List<T>) Arrays.asList(traversal.values));
+    }
+
+    /**
+     * @return The index of the earliest Err found so far, or {@link Integer#MAX_VALUE} if there is none.
+     */
+    private int failureIndex() {
+        var current = failure.get();
+        return current == null ? Integer.MAX_VALUE : current.index;
+    }
+
+    private void fail(int index, Err<T, E> err) {
+        var candidate = new Failure<>(index, err);
+        var current = failure.get();
+        while ((current == null || index < current.index) && !failure.compareAndSet(current, candidate)) {
+            current = failure.get();
+        }
+    }
+
+    private final class Chunk extends RecursiveAction {
+        private final int from;
+        private final int to;
+
+        Chunk(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (from > failureIndex()) {
+                return;
+            }
+            if (to - from > threshold) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new Chunk(from, middle), new Chunk(middle, to));
+                return;
+            }
+            for (int i = from; i < to && i < failureIndex(); i++) {
+                switch (action.apply(items.get(i))) {
+                    case Ok(T value) -> values[i] = value;
+                    case Err<T, E> err -> {
+                        fail(i, err);
+                        return;
+                    }
+                }
+            }
+        }
+    }
+}
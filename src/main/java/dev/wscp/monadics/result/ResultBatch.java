@@ -0,0 +1,263 @@
+package dev.wscp.monadics.result;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * An immutable batch of results, stored as columns instead of one {@link Ok} or {@link Err} object per element.
+ *
+ * <p>Element i holds its value or its error in slot i of a single array, and bit i of a bitmap says which of the two it is.
+ * A batch of n results costs one reference and one bit per element, instead of one reference plus one record each,
+ * and scanning it walks two dense arrays. Counting Oks and Errs is a popcount over the bitmap,
+ * and {@link #forEachOk(Consumer)} skips whole words of Errs at a time.</p>
+ *
+ * <p>{@link #get(int)} builds a Result on demand, for code that needs one at the boundary.</p>
+ *
+ * @param <T> The value type.
+ * @param <E> The error type.
+ */
+public final class ResultBatch<T, E> {
+    private final Object[] slots;
+    /**
+     * Bit i is set if element i is Ok. Never modified once the batch is built, so mapped batches share it.
+     */
+    private final long[] okBits;
+    private final int size;
+
+    private ResultBatch(Object[] slots, long[] okBits, int size) {
+        this.slots = slots;
+        this.okBits = okBits;
+        this.size = size;
+    }
+
+    public static <T, E> Builder<T, E> builder() {
+        return new Builder<>(16);
+    }
+
+    /**
+     * @param expectedSize How many results will be added. The builder grows past it if needed.
+     */
+    public static <T, E> Builder<T, E> builder(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size must not be negative, got " + expectedSize);
+        }
+        return new Builder<>(expectedSize);
+    }
+
+    public static <T, E> ResultBatch<T, E> fromList(@NotNull List<? extends Result<T, E>> results) {
+        var builder = new Builder<T, E>(results.size());
+        for (var result : results) {
+            builder.add(result);
+        }
+        return builder.build();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isOk(int index) {
+        Objects.checkIndex(index, size);
+        return (okBits[index >>> 6] & 1L << index) != 0;
+    }
+
+    /**
+     * @return Element index, as a new Result.
+     */
+    @SuppressWarnings("unchecked")
+    public Result<T, E> get(int index) {
+        return isOk(index) ? new Ok<>((T) slots[index]) : new Err<>((E) slots[index]);
+    }
+
+    public int okCount() {
+        int count = 0;
+        for (long word : okBits) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    public int errCount() {
+        return size - okCount();
+    }
+
+    /**
+     * @see Result#map(Function)
+     * @return A batch with every Ok value mapped. Errors are carried over as they are.
+     */
+    @SuppressWarnings("unchecked")
+    public <V> ResultBatch<V, E> map(@NotNull Function<? super T, ? extends V> action) {
+        var mapped = slots.clone();
+        for (int w = 0; w < okBits.length; w++) {
+            for (long word = okBits[w]; word != 0; word &= word - 1) {
+                int i = w << 6 | Long.numberOfTrailingZeros(word);
+                mapped[i] = action.apply((T) slots[i]);
+            }
+        }
+        return new ResultBatch<>(mapped, okBits, size);
+    }
+
+    /**
+     * @see Result#mapError(Function)
+     * @return A batch with every error mapped. Ok values are carried over as they are.
+     */
+    @SuppressWarnings("unchecked")
+    public <F> ResultBatch<T, F> mapError(@NotNull Function<? super E, ? extends F> action) {
+        var mapped = slots.clone();
+        for (int w = 0; w < okBits.length; w++) {
+            int base = w << 6;
+            for (long word = ~okBits[w]; word != 0; word &= word - 1) {
+                int i = base | Long.numberOfTrailingZeros(word);
+                if (i >= size) {
+                    break;
+                }
+                mapped[i] = action.apply((E) slots[i]);
+            }
+        }
+        return new ResultBatch<>(mapped, okBits, size);
+    }
+
+    /**
+     * Visits the Ok values in order, skipping Errs without looking at their slots.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEachOk(@NotNull Consumer<? super T> action) {
+        for (int w = 0; w < okBits.length; w++) {
+            for (long word = okBits[w]; word != 0; word &= word - 1) {
+                action.accept((T) slots[w << 6 | Long.numberOfTrailingZeros(word)]);
+            }
+        }
+    }
+
+    /**
+     * Visits the Ok values in order, along with their index in the batch.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEachOkIndexed(@NotNull ObjIntConsumer<? super T> action) {
+        for (int w = 0; w < okBits.length; w++) {
+            for (long word = okBits[w]; word != 0; word &= word - 1) {
+                int i = w << 6 | Long.numberOfTrailingZeros(word);
+                action.accept((T) slots[i], i);
+            }
+        }
+    }
+
+    /**
+     * @return The Ok values, in order.
+     */
+    public List<T> oks() {
+        var oks = new ArrayList<T>(okCount());
+        forEachOk(oks::add);
+        return Collections.unmodifiableList(oks);
+    }
+
+    /**
+     * @return The errors, in order.
+     */
+    @SuppressWarnings("unchecked")
+    public List<E> errors() {
+        var errors = new ArrayList<E>(errCount());
+        for (int i = 0; i < size; i++) {
+            if ((okBits[i >>> 6] & 1L << i) == 0) {
+                errors.add((E) slots[i]);
+            }
+        }
+        return Collections.unmodifiableList(errors);
+    }
+
+    /**
+     * @see Result#sequence(Iterable)
+     * @return Ok with every value if the batch holds no Err, otherwise the first Err.
+     */
+    @SuppressWarnings("unchecked")
+    public Result<List<T>, E> sequence() {
+        for (int w = 0; w < okBits.length; w++) {
+            long errs = ~okBits[w];
+            int first = w << 6 | Long.numberOfTrailingZeros(errs);
+            if (errs != 0 && first < size) {
+                return new Err<>((E) slots[first]);
+            }
+        }
+        return new Ok<>((List<T>) Collections.unmodifiableList(Arrays.asList(slots)));
+    }
+
+    /**
+     * @return Every element as a Result, in order.
+     */
+    public List<Result<T, E>> toList() {
+        var results = new ArrayList<Result<T, E>>(size);
+        for (int i = 0; i < size; i++) {
+            results.add(get(i));
+        }
+        return results;
+    }
+
+    /**
+     * Collects results into a {@link ResultBatch}. A builder can only build once.
+     */
+    public static final class Builder<T, E> {
+        private Object[] slots;
+        private long[] okBits;
+        private int size;
+
+        private Builder(int expectedSize) {
+            this.slots = new Object[expectedSize];
+            this.okBits = new long[words(expectedSize)];
+        }
+
+        public Builder<T, E> addOk(T value) {
+            int index = append(value);
+            okBits[index >>> 6] |= 1L << index;
+            return this;
+        }
+
+        public Builder<T, E> addErr(E error) {
+            append(error);
+            return this;
+        }
+
+        public Builder<T, E> add(@NotNull Result<T, E> result) {
+            return switch (result) {
+                case Ok(T value) -> addOk(value);
+                case Err(E error) -> addErr(error);
+            };
+        }
+
+        public ResultBatch<T, E> build() {
+            if (slots == null) {
+                throw new IllegalStateException("This builder has already built its batch");
+            }
+            var trimmed = size == slots.length ? slots : Arrays.copyOf(slots, size);
+            var trimmedBits = okBits.length == words(size) ? okBits : Arrays.copyOf(okBits, words(size));
+            var batch = new ResultBatch<T, E>(trimmed, trimmedBits, size);
+            slots = null;
+            okBits = null;
+            return batch;
+        }
+
+        private int append(Object slot) {
+            if (slots == null) {
+                throw new IllegalStateException("This builder has already built its batch");
+            }
+            if (size == slots.length) {
+                int capacity = Math.max(16, size + (size >> 1));
+                slots = Arrays.copyOf(slots, capacity);
+                okBits = Arrays.copyOf(okBits, words(capacity));
+            }
+            slots[size] = slot;
+            return size++;
+        }
+
+        private static int words(int size) {
+            return (size + 63) >>> 6;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package dev.wscp.monadics.result;
+
+import dev.wscp.monadics.option.Option;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+/**
+ * Single-pass {@link Collector}s over streams of {@link Result}s.
+ * Every collector here is safe to use with parallel streams, and keeps encounter order where it reports one.
+ */
+public final class ResultCollectors {
+    private ResultCollectors() {}
+
+    /**
+     * The values and errors of a stream of results, split in one pass.
+     *
+     * @param oks  The values of every Ok, in encounter order.
+     * @param errs The errors of every Err, in encounter order.
+     */
+    public record Partition<T, E>(List<T> oks, List<E> errs) {}
+
+    /**
+     * How many Ok and Err values a stream of results held.
+     */
+    public record Counts(long oks, long errs) {
+        public long total() {
+            return oks + errs;
+        }
+    }
+
+    /**
+     * Splits a stream of results into its values and its errors.
+     */
+    public static <T, E> Collector<Result<T, E>, ?, Partition<T, E>> partitioning() {
+        return Collector.of(
+                () -> new Partition<T, E>(new ArrayList<>(), new ArrayList<>()),
+                (partition, result) -> {
+                    switch (result) {
+                        case Ok(T value) -> partition.oks.add(value);
+                        case Err(E error) -> partition.errs.add(error);
+                    }
+                },
+                (left, right) -> {
+                    left.oks.addAll(right.oks);
+                    left.errs.addAll(right.errs);
+                    return left;
+                });
+    }
+
+    /**
+     * Collects a stream of results into a result of a list, like {@link Result#sequence(java.util.stream.Stream)}.
+     * Once an Err has been seen, later values are no longer stored. Collectors cannot stop a stream early,
+     * so use {@link Result#sequence(java.util.stream.Stream)} where that matters more than parallelism.
+     *
+     * @return A collector producing Ok with every value in encounter order, or the first Err in encounter order.
+     */
+    public static <T, E> Collector<Result<T, E>, ?, Result<List<T>, E>> toResultList() {
+        return Collector.of(
+                ListAccumulator<T, E>::new,
+                ListAccumulator::add,
+                ListAccumulator::combine,
+                ListAccumulator::finish);
+    }
+
+    /**
+     * @return A collector producing the first error in encounter order, or None if every result is Ok.
+     */
+    public static <T, E> Collector<Result<T, E>, ?, Option<E>> firstError() {
+        return Collector.of(
+                FirstError<T, E>::new,
+                FirstError::add,
+                FirstError::combine,
+                (first) -> first.err == null ? Option.none() : Option.someOfNullable(first.err.error()));
+    }
+
+    /**
+     * Counts Ok and Err values without keeping any of them.
+     */
+    public static Collector<Result<?, ?>, ?, Counts> counting() {
+        return Collector.of(
+                () -> new long[2],
+                (counts, result) -> counts[result.isOk() ? 0 : 1]++,
+                (left, right) -> {
+                    left[0] += right[0];
+                    left[1] += right[1];
+                    return left;
+                },
+                (counts) -> new Counts(counts[0], counts[1]));
+    }
+
+    /**
+     * Groups the errors of a stream of results by a classifier, and skips the values.
+     *
+     * @param classifier Maps each error to its group.
+     * @return A collector producing a map from each group to its errors, in encounter order.
+     */
+    public static <T, E, K> Collector<Result<T, E>, ?, Map<K, List<E>>> groupingErrors(@NotNull Function<? super E, ? extends K> classifier) {
+        return groupingErrors(classifier, Collectors.toList());
+    }
+
+    /**
+     * Groups the errors of a stream of results by a classifier, and reduces each group with a downstream collector.
+     *
+     * @param classifier Maps each error to its group.
+     * @param downstream Reduces the errors of each group.
+     */
+    public static <T, E, K, A, D> Collector<Result<T, E>, ?, Map<K, D>> groupingErrors(
+            @NotNull Function<? super E, ? extends K> classifier,
+            @NotNull Collector<? super E, A, D> downstream
+    ) {
+        var supplier = downstream.supplier();
+        var accumulator = downstream.accumulator();
+        var combiner = downstream.combiner();
+        var finisher = downstream.finisher();
+        return Collector.of(
+                HashMap<K, A>::new,
+                (groups, result) -> {
+                    if (result instanceof Err(E error)) {
+                        accumulator.accept(groups.computeIfAbsent(classifier.apply(error), (key) -> supplier.get()), error);
+                    }
+                },
+                (left, right) -> {
+                    right.forEach((key, group) -> left.merge(key, group, combiner));
+                    return left;
+                },
+                (groups) -> {
+                    var finished = new HashMap<K, D>(groups.size() * 2);
+                    groups.forEach((key, group) -> finished.put(key, finisher.apply(group)));
+                    return finished;
+                });
+    }
+
+    private static final class ListAccumulator<T, E> {
+        private final ArrayList<T> values = new ArrayList<>();
+        private Err<T, E> err;
+
+        void add(Result<T, E> result) {
+            if (err != null) {
+                return;
+            }
+            switch (result) {
+                case Ok(T value) -> values.add(value);
+                case Err<T, E> e -> err = e;
+            }
+        }
+
+        ListAccumulator<T, E> combine(ListAccumulator<T, E> right) {
+            if (err == null) {
+                if (right.err != null) {
+                    err = right.err;
+                } else {
+                    values.addAll(right.values);
+                }
+            }
+            return this;
+        }
+
+        Result<List<T>, E> finish() {
+            return err != null ? Traversals.recast(err) : new Ok<>(values);
+        }
+    }
+
+    private static final class FirstError<T, E> {
+        private Err<T, E> err;
+
+        void add(Result<T, E> result) {
+            if (err == null && result instanceof Err<T, E> e) {
+                err = e;
+            }
+        }
+
+        FirstError<T, E> combine(FirstError<T, E> right) {
+            if (err == null) {
+                err = right.err;
+            }
+            return this;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package dev.wscp.monadics.result;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Implementations of {@link Result#sequence} and {@link Result#traverse}.
+ *
+ * <p>The source is walked once, stopping at the first Err. The output list is presized when the size is known:
+ * from collections, arrays, and streams whose spliterator reports an exact size.
+ * Every path returns the list unmodifiable, wrapped rather than copied.</p>
+ */
+final class Traversals {
+    static final int DEFAULT_CAPACITY = 10;
+
+    private Traversals() {}
+
+    static <T, E> Result<List<T>, E> sequence(Iterable<? extends Result<T, E>> results) {
+        int capacity = results instanceof Collection<?> collection ? collection.size() : DEFAULT_CAPACITY;
+        return sequence(results.iterator(), capacity);
+    }
+
+    static <T, E> Result<List<T>, E> sequence(Result<T, E>[] results) {
+        var values = new ArrayList<T>(results.length);
+        for (var result : results) {
+            switch (result) {
+                case Ok(T value) -> values.add(value);
+                case Err<T, E> err -> {
+                    return recast(err);
+                }
+            }
+        }
+        return new Ok<>(Collections.unmodifiableList(values));
+    }
+
+    static <T, E> Result<List<T>, E> sequence(Stream<? extends Result<T, E>> results) {
+        var spliterator = results.spliterator();
+        return sequence(Spliterators.iterator(spliterator), capacity(spliterator));
+    }
+
+    static <T, E> Result<List<T>, E> sequence(Iterator<? extends Result<T, E>> results, int capacity) {
+        var values = new ArrayList<T>(capacity);
+        while (results.hasNext()) {
+            switch (results.next()) {
+                case Ok(T value) -> values.add(value);
+                case Err<T, E> err -> {
+                    return recast(err);
+                }
+            }
+        }
+        return new Ok<>(Collections.unmodifiableList(values));
+    }
+
+    static <A, T, E> Result<List<T>, E> traverse(Iterable<A> items, Function<? super A, ? extends Result<T, E>> action) {
+        int capacity = items instanceof Collection<?> collection ? collection.size() : DEFAULT_CAPACITY;
+        return traverse(items.iterator(), capacity, action);
+    }
+
+    static <A, T, E> Result<List<T>, E> traverse(A[] items, Function<? super A, ? extends Result<T, E>> action) {
+        var values = new ArrayList<T>(items.length);
+        for (var item : items) {
+            switch (action.apply(item)) {
+                case Ok(T value) -> values.add(value);
+                case Err<T, E> err -> {
+                    return recast(err);
+                }
+            }
+        }
+        return new Ok<>(Collections.unmodifiableList(values));
+    }
+
+    static <A, T, E> Result<List<T>, E> traverse(Stream<A> items, Function<? super A, ? extends Result<T, E>> action) {
+        var spliterator = items.spliterator();
+        return traverse(Spliterators.iterator(spliterator), capacity(spliterator), action);
+    }
+
+    static <A, T, E> Result<List<T>, E> traverse(Iterator<A> items, int capacity, Function<? super A, ? extends Result<T, E>> action) {
+        var values = new ArrayList<T>(capacity);
+        while (items.hasNext()) {
+            switch (action.apply(items.next())) {
+                case Ok(T value) -> values.add(value);
+                case Err<T, E> err -> {
+                    return recast(err);
+                }
+            }
+        }
+        return new Ok<>(Collections.unmodifiableList(values));
+    }
+
+    /**
+     * An Err holds no value, so it can be returned as is for any value type.
+     */
+    @SuppressWarnings("unchecked")
+    static <T, V, E> Err<V, E> recast(Err<T, E> err) {
+        return (Err<V, E>) err;
+    }
+
+    /**
+     * @return The exact number of elements left, if the source knows it and a list can hold that many.
+     */
+    static int capacity(Spliterator<?> spliterator) {
+        long size = spliterator.getExactSizeIfKnown();
+        return size >= 0 && size <= Integer.MAX_VALUE - 8 ? (int) size : DEFAULT_CAPACITY;
+    }
+}
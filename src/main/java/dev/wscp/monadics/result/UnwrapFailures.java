@@ -0,0 +1,34 @@
+package dev.wscp.monadics.result;
+
+import dev.wscp.monadics.jfr.MonadicsEvents;
+import dev.wscp.monadics.util.ExceptionPolicy;
+import dev.wscp.monadics.util.UnwrapException;
+
+/**
+ * The exceptions thrown by unwrap and unwrapError, shared by {@link Result} and its primitive specializations.
+ */
+final class UnwrapFailures {
+    private UnwrapFailures() {}
+
+    /**
+     * @param operation The failed operation, as reported to Flight Recorder.
+     * @param err       The error found instead of a value. If it is a Throwable, it is attached as suppressed.
+     */
+    static UnwrapException unwrap(String operation, Object err, ExceptionPolicy policy) {
+        MonadicsEvents.unwrapFailed(operation, err);
+        if (err instanceof Throwable e) {
+            var exc = new UnwrapException(() -> "Attempted to unwrap an exception.", policy);
+            exc.addSuppressed(e);
+            return exc;
+        }
+        return new UnwrapException(() -> "Attempted to unwrap an error value " + err, policy);
+    }
+
+    /**
+     * @param operation The failed operation, as reported to Flight Recorder.
+     */
+    static UnwrapException unwrapError(String operation, ExceptionPolicy policy) {
+        MonadicsEvents.unwrapFailed(operation, null);
+        return new UnwrapException(() -> "Attempted to unwrapErr an ok value ", policy);
+    }
+}
@@ -0,0 +1,56 @@
+package dev.wscp.monadics.util;
+
+/**
+ * Decides how much an {@link UnwrapException} or {@link ResultRethrowException} costs to create.
+ *
+ * <p>Filling in a stack trace walks the whole stack, which makes unwrapping an Err far more expensive than the branch
+ * it replaces. Where these exceptions are caught and handled as part of normal control flow, that trace is never read.
+ * The default policy for the whole JVM is read once at startup from the {@value #PROPERTY} system property,
+ * which accepts {@code full} or {@code stackless}, and defaults to {@code full}.
+ * Methods such as {@code Result.unwrapWith(ExceptionPolicy)} override it for a single call.</p>
+ *
+ * <p>Messages of exceptions created by this library are formatted lazily under either policy,
+ * so an exception that is never printed never formats the error value it carries.</p>
+ */
+public enum ExceptionPolicy {
+    /**
+     * Fill in stack traces as usual. The diagnostic mode, for when the failures themselves need debugging.
+     */
+    FULL,
+    /**
+     * Skip stack traces. {@link Throwable#getStackTrace()} returns an empty array.
+     */
+    STACKLESS;
+
+    /**
+     * The system property the default policy is read from.
+     */
+    public static final String PROPERTY = "dev.wscp.monadics.exceptions";
+
+    private static final ExceptionPolicy DEFAULT = parse(System.getProperty(PROPERTY));
+
+    /**
+     * @return The policy set through {@value #PROPERTY} at startup.
+     */
+    public static ExceptionPolicy defaultPolicy() {
+        return DEFAULT;
+    }
+
+    /**
+     * @return The policy named by value, ignoring case, or {@link #FULL} if value is null or names no policy.
+     */
+    static ExceptionPolicy parse(String value) {
+        if (value != null) {
+            for (var policy : values()) {
+                if (policy.name().equalsIgnoreCase(value.trim())) {
+                    return policy;
+                }
+            }
+        }
+        return FULL;
+    }
+
+    public boolean fillsStackTrace() {
+        return this == FULL;
+    }
+}
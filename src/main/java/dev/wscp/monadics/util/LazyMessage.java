@@ -0,0 +1,36 @@
+package dev.wscp.monadics.util;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.function.Supplier;
+
+/**
+ * An exception message formatted the first time it is asked for, shared by the exceptions of this package.
+ * Formatting at most once is not guaranteed under races, but every reader sees a complete message.
+ * Serializing it formats it, since the supplier cannot be serialized.
+ */
+final class LazyMessage implements Serializable {
+    private transient volatile Supplier<String> supplier;
+    private String formatted;
+
+    LazyMessage(Supplier<String> supplier) {
+        this.supplier = supplier;
+    }
+
+    String get() {
+        var pending = supplier;
+        if (pending != null) {
+            formatted = pending.get();
+            supplier = null;
+        }
+        return formatted;
+    }
+
+    @Serial
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        get();
+        out.defaultWriteObject();
+    }
+}
@@ -22,4 +22,8 @@ public class ResultBindingException extends ResultRethrowException {
     public ResultBindingException() {
         this(null, null, null);
     }
+
+    protected ResultBindingException(String message, Throwable cause, @Nullable Object originalErr, boolean writableStackTrace) {
+        super(message, cause, originalErr, writableStackTrace);
+    }
 }
@@ -3,6 +3,8 @@ package dev.wscp.monadics.util;
 
 import org.jetbrains.annotations.Nullable;
 
+import java.util.function.Supplier;
+
 /**
  * An exception that is returned as the alternative when a non-throwable error value is passed to Result.andThenRunCatching or Result.orElseRunCatching.
  * It wraps the original non-throwable error value, so we can transform the final value from Result<T, E> into a Result<V, Throwable>
@@ -10,6 +12,7 @@ import org.jetbrains.annotations.Nullable;
  */
 public class ResultRethrowException extends RuntimeException {
     public final @Nullable Object originalErr;
+    private LazyMessage lazyMessage;
 
     public ResultRethrowException(String message, Throwable cause, @Nullable Object originalErr) {
         super(message, cause);
@@ -21,14 +24,38 @@ public class ResultRethrowException extends RuntimeException {
     }
 
     public ResultRethrowException(String message) {
-        this(message, null, null);
+        this(message, null, (Object) null);
     }
 
     public ResultRethrowException(Throwable cause) {
-        this(null, cause, null);
+        this((String) null, cause, null);
     }
 
     public ResultRethrowException() {
-        this(null, null, null);
+        this((String) null, null, null);
+    }
+
+    /**
+     * Allows subclasses to skip filling in the stack trace, for exceptions that are only used for control flow.
+     */
+    protected ResultRethrowException(String message, Throwable cause, @Nullable Object originalErr, boolean writableStackTrace) {
+        super(message, cause, true, writableStackTrace);
+        this.originalErr = originalErr;
+    }
+
+    /**
+     * @param message     Formats the message the first time it is asked for.
+     * @param originalErr The wrapped error value.
+     * @param policy      Whether to fill in the stack trace.
+     */
+    public ResultRethrowException(Supplier<String> message, @Nullable Object originalErr, ExceptionPolicy policy) {
+        this(null, null, originalErr, policy.fillsStackTrace());
+        this.lazyMessage = new LazyMessage(message);
+    }
+
+    @Override
+    public String getMessage() {
+        var lazy = lazyMessage;
+        return lazy != null ? lazy.get() : super.getMessage();
     }
 }
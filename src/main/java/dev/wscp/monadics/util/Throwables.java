@@ -0,0 +1,19 @@
+package dev.wscp.monadics.util;
+
+/**
+ * Helpers for passing exceptions through code that cannot declare them.
+ */
+public final class Throwables {
+    private Throwables() {}
+
+    /**
+     * Throws any throwable, checked or not, without declaring it. The compiler treats X as unchecked here,
+     * so this is the same throw the original code would have done, minus the wrapping.
+     *
+     * @return Never returns. Declared so callers can write {@code throw sneakyThrow(t)} and keep flow analysis happy.
+     */
+    @SuppressWarnings("unchecked")
+    public static <X extends Throwable> RuntimeException sneakyThrow(Throwable throwable) throws X {
+        throw (X) throwable;
+    }
+}
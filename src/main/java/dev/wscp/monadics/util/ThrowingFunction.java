@@ -0,0 +1,25 @@
+package dev.wscp.monadics.util;
+
+import java.util.function.Function;
+
+/**
+ * A {@link Function} that may throw a checked exception.
+ *
+ * @param <A> The type of the input.
+ * @param <B> The type of the result.
+ * @param <X> The exception the function may throw.
+ * @see ThrowingSupplier
+ */
+@FunctionalInterface
+public interface ThrowingFunction<A, B, X extends Throwable> extends Function<A, B> {
+    B applyOrThrow(A value) throws X;
+
+    /**
+     * Rethrows any exception from {@link #applyOrThrow(Object)} as is, even a checked one.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    default B apply(A value) {
+        return ((ThrowingFunction<A, B, RuntimeException>) this).applyOrThrow(value);
+    }
+}
@@ -0,0 +1,21 @@
+package dev.wscp.monadics.util;
+
+/**
+ * A {@link Runnable} that may throw a checked exception.
+ *
+ * @param <X> The exception the action may throw.
+ * @see ThrowingSupplier
+ */
+@FunctionalInterface
+public interface ThrowingRunnable<X extends Throwable> extends Runnable {
+    void runOrThrow() throws X;
+
+    /**
+     * Rethrows any exception from {@link #runOrThrow()} as is, even a checked one.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    default void run() {
+        ((ThrowingRunnable<RuntimeException>) this).runOrThrow();
+    }
+}
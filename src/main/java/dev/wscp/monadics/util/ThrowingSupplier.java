@@ -0,0 +1,25 @@
+package dev.wscp.monadics.util;
+
+import java.util.function.Supplier;
+
+/**
+ * A {@link Supplier} that may throw a checked exception. Lambdas and method references that throw checked exceptions
+ * can be passed to the Result methods taking this interface directly, without a wrapping lambda.
+ *
+ * @param <T> The type of the supplied value.
+ * @param <X> The exception the supplier may throw.
+ */
+@FunctionalInterface
+public interface ThrowingSupplier<T, X extends Throwable> extends Supplier<T> {
+    T getOrThrow() throws X;
+
+    /**
+     * Rethrows any exception from {@link #getOrThrow()} as is, even a checked one.
+     * Generics are erased, so the exception type can be cast away without wrapping or catching anything.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    default T get() {
+        return ((ThrowingSupplier<T, RuntimeException>) this).getOrThrow();
+    }
+}
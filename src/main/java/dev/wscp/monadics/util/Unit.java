@@ -0,0 +1,13 @@
+package dev.wscp.monadics.util;
+
+/**
+ * A marker for results that carry no meaningful success value, in place of {@link Void} and null.
+ */
+public enum Unit {
+    INSTANCE;
+
+    @Override
+    public String toString() {
+        return "()";
+    }
+}
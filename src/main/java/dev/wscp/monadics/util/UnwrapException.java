@@ -1,21 +1,86 @@
 package dev.wscp.monadics.util;
 
 import java.util.NoSuchElementException;
+import java.util.function.Supplier;
 
+/**
+ * Thrown when unwrapping the wrong side of a Result or Option.
+ *
+ * <p>Subclasses that override {@link #fillInStackTrace()} should call the superclass version,
+ * or the stackless constructors lose their effect.</p>
+ */
+// The constructors only call Throwable's own fillInStackTrace, which runs no subclass code.
+@SuppressWarnings("this-escape")
 public class UnwrapException extends NoSuchElementException {
+    /**
+     * Whether {@link #fillInStackTrace()} may walk the stack. Still false while the superclass constructor runs,
+     * which is what lets the constructors below decide on the stack trace after the fact.
+     */
+    private final boolean fillsStackTrace;
+    private final LazyMessage lazyMessage;
+
     public UnwrapException(String message, Throwable cause) {
         super(message, cause);
+        this.fillsStackTrace = true;
+        this.lazyMessage = null;
+        super.fillInStackTrace();
     }
 
     public UnwrapException(String message) {
         super(message);
+        this.fillsStackTrace = true;
+        this.lazyMessage = null;
+        super.fillInStackTrace();
     }
 
     public UnwrapException(Throwable cause) {
         super(cause);
+        this.fillsStackTrace = true;
+        this.lazyMessage = null;
+        super.fillInStackTrace();
     }
 
     public UnwrapException() {
         super();
+        this.fillsStackTrace = true;
+        this.lazyMessage = null;
+        super.fillInStackTrace();
+    }
+
+    /**
+     * Allows subclasses to skip filling in the stack trace, for exceptions that are only used for control flow.
+     * Leaves the cause unset, like the other constructors without one.
+     */
+    protected UnwrapException(String message, boolean writableStackTrace) {
+        this(message, null, writableStackTrace);
+    }
+
+    /**
+     * Leaves the cause unset, like the other constructors without one.
+     *
+     * @param message Formats the message the first time it is asked for.
+     * @param policy  Whether to fill in the stack trace.
+     */
+    public UnwrapException(Supplier<String> message, ExceptionPolicy policy) {
+        this(null, new LazyMessage(message), policy.fillsStackTrace());
+    }
+
+    private UnwrapException(String message, LazyMessage lazyMessage, boolean writableStackTrace) {
+        super(message);
+        this.fillsStackTrace = writableStackTrace;
+        this.lazyMessage = lazyMessage;
+        if (writableStackTrace) {
+            super.fillInStackTrace();
+        }
+    }
+
+    @Override
+    public String getMessage() {
+        return lazyMessage != null ? lazyMessage.get() : super.getMessage();
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return fillsStackTrace ? super.fillInStackTrace() : this;
     }
 }
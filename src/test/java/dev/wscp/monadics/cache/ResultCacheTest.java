@@ -0,0 +1,225 @@
+package dev.wscp.monadics.cache;
+
+import dev.wscp.monadics.result.Result;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResultCacheTest {
+    @Test
+    void memoizesOkAndExpiresErrSeparately() {
+        var now = new AtomicLong();
+        var loads = new AtomicInteger();
+        var cache = ResultCache.<String, Integer, String>builder(key -> {
+                    loads.incrementAndGet();
+                    return key.startsWith("bad") ? Result.errOf(key) : Result.okOf(key.length());
+                })
+                .okTtl(Duration.ofSeconds(10))
+                .errTtl(Duration.ofSeconds(1))
+                .ticker(now::get)
+                .build();
+
+        assertEquals(Result.okOf(3), cache.get("abc"));
+        assertEquals(Result.okOf(3), cache.get("abc"));
+        assertEquals(Result.errOf("bad"), cache.get("bad"));
+        assertEquals(Result.errOf("bad"), cache.get("bad"));
+        assertEquals(2, loads.get());
+        assertEquals(Result.errOf("bad"), cache.getIfPresent("bad"));
+
+        now.addAndGet(Duration.ofSeconds(2).toNanos());
+        assertNull(cache.getIfPresent("bad"));
+        assertEquals(Result.errOf("bad"), cache.get("bad"));
+        assertEquals(Result.okOf(3), cache.get("abc"));
+        assertEquals(3, loads.get());
+
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertEquals(Result.okOf(3), cache.get("abc"));
+        assertEquals(4, loads.get());
+        assertNull(cache.getIfPresent("missing"));
+    }
+
+    @Test
+    void defaultsCacheOkForeverAndErrNotAtAll() {
+        var loads = new AtomicInteger();
+        var cache = ResultCache.<Integer, Integer, Integer>builder(key -> {
+            loads.incrementAndGet();
+            return key < 0 ? Result.errOf(key) : Result.okOf(key);
+        }).ticker(() -> -100).build();
+        cache.get(1);
+        cache.get(1);
+        cache.get(-1);
+        cache.get(-1);
+        assertEquals(3, loads.get());
+        assertEquals(1, cache.estimatedSize());
+
+        cache.invalidate(1);
+        cache.get(1);
+        assertEquals(4, loads.get());
+        cache.invalidateAll();
+        assertEquals(0, cache.estimatedSize());
+    }
+
+    @Test
+    void evictsOldestBeyondMaximumSize() {
+        var loads = new AtomicInteger();
+        var cache = ResultCache.<Integer, Integer, String>builder(key -> {
+            loads.incrementAndGet();
+            return Result.okOf(key);
+        }).maximumSize(3).build();
+        for (int i = 0; i < 5; i++) {
+            cache.get(i);
+        }
+        assertEquals(3, cache.estimatedSize());
+        assertNull(cache.getIfPresent(0));
+        assertNull(cache.getIfPresent(1));
+        assertEquals(Result.okOf(4), cache.getIfPresent(4));
+
+        for (int i = 0; i < 100; i++) {
+            cache.invalidate(4);
+            cache.get(4);
+        }
+        assertEquals(3, cache.estimatedSize());
+        assertEquals(Result.okOf(2), cache.getIfPresent(2));
+        assertEquals(Result.okOf(3), cache.getIfPresent(3));
+        assertEquals(5, loads.get() - 100);
+
+        cache.get(5);
+        assertEquals(3, cache.estimatedSize());
+        assertNull(cache.getIfPresent(2));
+    }
+
+    @Test
+    void neverEvictsALoadInProgress() throws InterruptedException {
+        var loads = new AtomicInteger();
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var cache = ResultCache.<String, Integer, String>builder(key -> {
+            loads.incrementAndGet();
+            if (key.equals("slow")) {
+                started.countDown();
+                assertDoesNotThrow(() -> release.await());
+            }
+            return Result.okOf(key.length());
+        }).maximumSize(1).build();
+
+        var slow = Thread.ofVirtual().start(() -> assertEquals(Result.okOf(4), cache.get("slow")));
+        started.await();
+        cache.get("a");
+        cache.get("bb");
+        var waiter = Thread.ofVirtual().start(() -> assertEquals(Result.okOf(4), cache.get("slow")));
+        release.countDown();
+        slow.join();
+        waiter.join();
+        assertEquals(3, loads.get());
+
+        cache.get("ccc");
+        cache.get("dddd");
+        assertEquals(1, cache.estimatedSize());
+        assertEquals(Result.okOf(4), cache.getIfPresent("dddd"));
+    }
+
+    @Test
+    void checkedLoaderExceptionsReachWaitersWrapped() throws InterruptedException {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var cache = ResultCache.<String, Integer, String>builder(key -> {
+            started.countDown();
+            assertDoesNotThrow(() -> release.await());
+            throw new UncheckedIOException(new IOException("disk"));
+        }).build();
+        var first = Thread.ofVirtual().start(() -> assertThrows(UncheckedIOException.class, () -> cache.get("key")));
+        started.await();
+        var waiter = Thread.ofVirtual().start(() -> {
+            var thrown = assertThrows(UncheckedIOException.class, () -> cache.get("key"));
+            assertEquals("disk", thrown.getCause().getMessage());
+        });
+        Thread.sleep(50);
+        release.countDown();
+        first.join();
+        waiter.join();
+    }
+
+    @Test
+    void singleFlightLoading() throws InterruptedException {
+        var loads = new AtomicInteger();
+        var release = new CountDownLatch(1);
+        var cache = ResultCache.<String, Integer, String>builder(key -> {
+            loads.incrementAndGet();
+            assertDoesNotThrow(() -> release.await());
+            return Result.okOf(key.length());
+        }).build();
+
+        var threads = new ArrayList<Thread>();
+        var results = new AtomicInteger();
+        for (int i = 0; i < 50; i++) {
+            threads.add(Thread.ofVirtual().start(() -> results.addAndGet(cache.get("key").unwrap())));
+        }
+        Thread.sleep(50);
+        release.countDown();
+        for (var thread : threads) {
+            thread.join();
+        }
+        assertEquals(1, loads.get());
+        assertEquals(150, results.get());
+    }
+
+    @Test
+    void loaderExceptionsReachEveryWaiter() throws InterruptedException {
+        var loads = new AtomicInteger();
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var cache = ResultCache.<String, Integer, String>builder(key -> {
+            if (loads.incrementAndGet() == 1) {
+                started.countDown();
+                assertDoesNotThrow(() -> release.await());
+                throw new IllegalStateException("failed");
+            }
+            return Result.okOf(1);
+        }).build();
+
+        var first = Thread.ofVirtual().start(() -> assertThrows(IllegalStateException.class, () -> cache.get("key")));
+        started.await();
+        var waiter = Thread.ofVirtual().start(() -> assertThrows(IllegalStateException.class, () -> cache.get("key")));
+        Thread.sleep(50);
+        release.countDown();
+        first.join();
+        waiter.join();
+        assertNull(cache.getIfPresent("key"));
+        assertEquals(Result.okOf(1), cache.get("key"));
+    }
+
+    @Test
+    void recursiveLoadsFailInsteadOfDeadlocking() {
+        var cache = new AtomicReference<ResultCache<Integer, Integer, String>>();
+        cache.set(ResultCache.<Integer, Integer, String>builder(key -> switch (key) {
+            case 0 -> cache.get().get(0);
+            case 1 -> cache.get().get(2);
+            case 2 -> cache.get().get(1);
+            default -> cache.get().get(key - 1).map(it -> it + 1);
+        }).build());
+
+        var thrown = assertThrows(IllegalStateException.class, () -> cache.get().get(0));
+        assertEquals("Recursive load of key 0", thrown.getMessage());
+        assertThrows(IllegalStateException.class, () -> cache.get().get(1));
+        assertEquals(0, cache.get().estimatedSize());
+        assertThrows(IllegalStateException.class, () -> cache.get().get(4));
+    }
+
+    @Test
+    void rejectsInvalidSettings() {
+        var builder = ResultCache.<String, Integer, String>builder(key -> Result.okOf(1));
+        assertThrows(IllegalArgumentException.class, () -> builder.maximumSize(0));
+        assertThrows(IllegalArgumentException.class, () -> builder.okTtl(Duration.ofSeconds(-1)));
+        var cache = builder.okTtl(Duration.ofSeconds(Long.MAX_VALUE)).errTtl(Duration.ZERO).build();
+        assertEquals(Result.okOf(1), cache.get("a"));
+    }
+}
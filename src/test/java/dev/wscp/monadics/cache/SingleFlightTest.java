@@ -0,0 +1,97 @@
+package dev.wscp.monadics.cache;
+
+import dev.wscp.monadics.result.Result;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+    private static <R> List<R> concurrently(int callers, CountDownLatch release, Supplier<R> call) throws InterruptedException {
+        var results = new ConcurrentLinkedQueue<R>();
+        var threads = new ArrayList<Thread>();
+        for (int i = 0; i < callers; i++) {
+            threads.add(Thread.ofVirtual().start(() -> results.add(call.get())));
+        }
+        // The leader parks on release inside its action and every other caller parks on the leader,
+        // so once all of them are waiting, none can arrive after the action has finished.
+        while (!threads.stream().allMatch(thread -> thread.getState() == Thread.State.WAITING)) {
+            Thread.yield();
+        }
+        release.countDown();
+        for (var thread : threads) {
+            thread.join();
+        }
+        return List.copyOf(results);
+    }
+
+    @Test
+    void concurrentCallersShareOneComputation() throws InterruptedException {
+        var flight = SingleFlight.<String, Integer, String>create(Throwable::getMessage);
+        var runs = new AtomicInteger();
+        var release = new CountDownLatch(1);
+        var results = concurrently(20, release, () -> flight.run("key", () -> {
+            runs.incrementAndGet();
+            assertDoesNotThrow(() -> release.await());
+            return Result.okOf(42);
+        }));
+        assertEquals(1, runs.get());
+        assertEquals(20, results.size());
+        assertTrue(results.stream().allMatch(Result.okOf(42)::equals));
+        assertEquals(0, flight.inFlight());
+
+        assertEquals(Result.okOf(7), flight.run("key", () -> Result.okOf(7)));
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void thrownExceptionsReachEveryWaiterAsErr() throws InterruptedException {
+        var flight = SingleFlight.<String, Integer>create();
+        var failure = new IllegalStateException("down");
+        var runs = new AtomicInteger();
+        var release = new CountDownLatch(1);
+        var results = concurrently(10, release, () -> flight.runCatching("key", () -> {
+            runs.incrementAndGet();
+            assertDoesNotThrow(() -> release.await());
+            throw failure;
+        }));
+        assertEquals(1, runs.get());
+        assertEquals(10, results.size());
+        assertTrue(results.stream().allMatch(Result.errOf(failure)::equals));
+    }
+
+    @Test
+    void differentKeysRunIndependently() {
+        var flight = SingleFlight.<Integer, Integer>create();
+        var outer = flight.runCatching(1, () -> {
+            assertEquals(1, flight.inFlight());
+            var inner = flight.runCatching(2, () -> 2).unwrap();
+            return inner + 1;
+        });
+        assertEquals(Result.okOf(3), outer);
+        assertEquals(0, flight.inFlight());
+    }
+
+    @Test
+    void failingErrorMappingIsRethrownToEveryone() throws InterruptedException {
+        var flight = SingleFlight.<String, Integer, String>create(t -> { throw new IllegalArgumentException("mapping"); });
+        var runs = new AtomicInteger();
+        var release = new CountDownLatch(1);
+        var thrown = concurrently(5, release, () -> assertThrows(IllegalArgumentException.class,
+                () -> flight.run("key", () -> {
+                    runs.incrementAndGet();
+                    assertDoesNotThrow(() -> release.await());
+                    throw new IllegalStateException();
+                })));
+        assertEquals(1, runs.get());
+        assertEquals(5, thrown.size());
+        assertEquals(1, thrown.stream().distinct().count());
+        assertEquals(Result.errOf("null action"), SingleFlight.<String, Integer, String>create(t -> "null action").run("key", () -> null));
+    }
+}
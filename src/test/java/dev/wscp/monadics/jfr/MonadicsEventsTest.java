@@ -0,0 +1,105 @@
+package dev.wscp.monadics.jfr;
+
+import dev.wscp.monadics.option.Option;
+import dev.wscp.monadics.result.DoubleResult;
+import dev.wscp.monadics.result.Err;
+import dev.wscp.monadics.result.IntResult;
+import dev.wscp.monadics.result.LongResult;
+import dev.wscp.monadics.result.Result;
+import dev.wscp.monadics.util.UnwrapException;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MonadicsEventsTest {
+    private static List<RecordedEvent> record(Runnable action) throws IOException {
+        var file = Files.createTempFile("monadics", ".jfr");
+        try (var recording = new Recording()) {
+            for (var name : List.of("ErrCreated", "UnwrapFailed", "BindEscape", "Catch")) {
+                recording.enable("dev.wscp.monadics." + name);
+            }
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static List<RecordedEvent> named(List<RecordedEvent> events, String name) {
+        return events.stream().filter(it -> it.getEventType().getName().equals("dev.wscp.monadics." + name)).toList();
+    }
+
+    @Test
+    void recordsErrorPaths() throws IOException {
+        var events = record(() -> {
+            assertThrows(UnwrapException.class, () -> Result.errOf(3).unwrap());
+            assertThrows(UnwrapException.class, () -> Option.none().unwrap());
+            Result.binding(String.class, () -> Result.<Integer, String>errOf("escaped").bind());
+            Result.runCatching(() -> 1 / (10 - 10));
+        });
+
+        assertTrue(events.stream().allMatch(it -> it.getInt("sampleRate") == 1 && it.getStackTrace() == null));
+        var unwraps = named(events, "UnwrapFailed");
+        assertEquals(List.of("Result.unwrap", "Option.unwrap"), unwraps.stream().map(it -> it.getString("operation")).toList());
+        assertEquals(Integer.class.getName(), unwraps.getFirst().getClass("errorClass").getName());
+        assertNull(unwraps.getLast().getClass("errorClass"));
+
+        assertEquals(1, named(events, "BindEscape").size());
+        var caught = named(events, "Catch");
+        assertEquals(1, caught.size());
+        assertEquals(ArithmeticException.class.getName(), caught.getFirst().getClass("errorClass").getName());
+    }
+
+    @Test
+    void disabledByDefault() throws IOException {
+        var file = Files.createTempFile("monadics", ".jfr");
+        try (var recording = new Recording()) {
+            recording.start();
+            assertThrows(UnwrapException.class, () -> Result.errOf(3).unwrap());
+            recording.stop();
+            recording.dump(file);
+            assertTrue(RecordingFile.readAllEvents(file).stream().noneMatch(it -> it.getEventType().getName().startsWith("dev.wscp.monadics.")));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void recordsErrsFromFactories() throws IOException {
+        assertTrue(MonadicsEvents.AVAILABLE);
+        var events = record(() -> {
+            Result.errOf("created");
+            Result.errOfNullable(null);
+            IntResult.errOf(3);
+            LongResult.errOfNullable(4L);
+            DoubleResult.errOf(new IllegalStateException());
+            new Err<Integer, String>("constructed");
+        });
+        var created = named(events, "ErrCreated");
+        assertEquals(5, created.size());
+        assertEquals(List.of(String.class.getName(), Integer.class.getName(), Long.class.getName(), IllegalStateException.class.getName()),
+                created.stream().filter(it -> it.getClass("errorClass") != null).map(it -> it.getClass("errorClass").getName()).toList());
+    }
+
+    @Test
+    void sampling() {
+        assertTrue(MonadicsEvents.sampled(1));
+        int hits = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (MonadicsEvents.sampled(100)) {
+                hits++;
+            }
+        }
+        assertTrue(hits > 30 && hits < 300, "hits: " + hits);
+    }
+}
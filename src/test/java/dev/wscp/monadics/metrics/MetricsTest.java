@@ -0,0 +1,162 @@
+package dev.wscp.monadics.metrics;
+
+import dev.wscp.monadics.result.Result;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.NotCompliantMBeanException;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsTest {
+    @AfterEach
+    void restoreSink() {
+        Metrics.setSink(Metrics.registry());
+    }
+
+    @Test
+    void timedRecordsOutcomes() {
+        var registry = new StageRegistry();
+        Metrics.setSink(registry);
+        assertEquals(Result.okOf(1), Result.timed("parse", () -> Result.<Integer, String>okOf(1)));
+        assertEquals(Result.errOf("bad"), Result.timed("parse", () -> Result.<Integer, String>errOf("bad")));
+        assertThrows(IllegalStateException.class, () -> Result.<Integer, String>timed("parse", () -> { throw new IllegalStateException(); }));
+
+        var stats = registry.stage("parse");
+        assertEquals("parse", stats.name());
+        assertEquals(1, stats.okCount());
+        assertEquals(2, stats.errCount());
+        assertEquals(2.0 / 3, stats.errorRate(), 1e-9);
+        assertEquals(3, stats.latency().count());
+        assertEquals(0, registry.stage("unused").errorRate());
+        assertEquals(2, registry.stages().size());
+    }
+
+    @Test
+    void nullResultsAreRejectedAndCountedAsErr() {
+        var registry = new StageRegistry();
+        Metrics.setSink(registry);
+        assertThrows(NullPointerException.class, () -> Result.<Integer, String>timed("null", () -> null));
+        assertEquals(0, registry.stage("null").okCount());
+        assertEquals(1, registry.stage("null").errCount());
+    }
+
+    @Test
+    void defaultSink() {
+        assertSame(Metrics.registry(), Metrics.sink());
+        Metrics.setSink(MetricsSink.NOOP);
+        Result.timed("ignored", () -> Result.<Integer, String>okOf(1));
+        assertTrue(Metrics.registry().stages().stream().noneMatch(it -> it.name().equals("ignored")));
+    }
+
+    @Test
+    void histogram() {
+        var histogram = new LatencyHistogram();
+        assertEquals(0, histogram.quantileNanos(0.5));
+        for (long nanos : new long[] {0, 1, 100, 1_000, 1_000_000, -5}) {
+            histogram.record(nanos);
+        }
+        assertEquals(6, histogram.count());
+        assertEquals(1_001_101, histogram.totalNanos());
+        assertEquals(0, histogram.quantileNanos(0));
+        assertEquals(127, histogram.quantileNanos(0.6));
+        assertEquals((1L << 20) - 1, histogram.quantileNanos(1));
+        assertEquals(2, histogram.snapshot()[0]);
+        assertEquals(LatencyHistogram.BUCKETS - 1, LatencyHistogram.bucketOf(Long.MAX_VALUE));
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.upperBound(LatencyHistogram.BUCKETS - 1));
+        assertThrows(IllegalArgumentException.class, () -> histogram.quantileNanos(1.5));
+        assertThrows(IllegalArgumentException.class, () -> histogram.quantileNanos(-0.5));
+    }
+
+    @Test
+    void countsAreExactUnderContention() throws InterruptedException {
+        var registry = new StageRegistry();
+        int threads = 64;
+        int perThread = 2_000;
+        var start = new CountDownLatch(1);
+        var workers = new ArrayList<Thread>();
+        for (int t = 0; t < threads; t++) {
+            var worker = Thread.ofPlatform().start(() -> {
+                assertDoesNotThrow(() -> start.await());
+                for (int i = 0; i < perThread; i++) {
+                    registry.record("hot", i % 4 != 0, i);
+                }
+            });
+            workers.add(worker);
+        }
+        start.countDown();
+        for (var worker : workers) {
+            worker.join();
+        }
+        var stats = registry.stage("hot");
+        assertEquals(threads * perThread * 3L / 4, stats.okCount());
+        assertEquals(threads * perThread / 4L, stats.errCount());
+        assertEquals((long) threads * perThread, stats.latency().count());
+    }
+
+    @Test
+    void jmxExport() throws Exception {
+        var server = MBeanServerFactory.newMBeanServer();
+        var registry = new StageRegistry();
+        registry.record("before", true, 10);
+        JmxExporter.export(registry, server);
+        registry.record("after \"quoted\"", false, 1_000);
+        registry.record("after \"quoted\"", true, 3_000);
+
+        var before = JmxExporter.objectName("before");
+        var after = JmxExporter.objectName("after \"quoted\"");
+        assertEquals(1L, server.getAttribute(before, "OkCount"));
+        assertEquals(1L, server.getAttribute(after, "ErrCount"));
+        assertEquals(0.5, server.getAttribute(after, "ErrorRate"));
+        assertEquals(2_000.0, server.getAttribute(after, "MeanNanos"));
+        assertEquals(1_023L, server.getAttribute(after, "P50Nanos"));
+        assertEquals(4_095L, server.getAttribute(after, "P99Nanos"));
+        assertEquals(4_095L, server.getAttribute(after, "P999Nanos"));
+        assertEquals("after \"quoted\"", server.getAttribute(after, "Name"));
+        registry.stage("empty");
+        assertEquals(0.0, server.getAttribute(JmxExporter.objectName("empty"), "MeanNanos"));
+
+        assertDoesNotThrow(() -> JmxExporter.export(registry, server));
+    }
+
+    @Test
+    void jmxExportDefault() throws Exception {
+        JmxExporter.exportDefault();
+        Result.timed("exported", () -> Result.<Integer, String>okOf(1));
+        var server = ManagementFactory.getPlatformMBeanServer();
+        assertTrue((Long) server.getAttribute(JmxExporter.objectName("exported"), "OkCount") >= 1);
+    }
+
+    private static MBeanServer rejecting(JMException failure) {
+        return (MBeanServer) Proxy.newProxyInstance(MBeanServer.class.getClassLoader(), new Class<?>[] {MBeanServer.class}, (proxy, method, args) -> {
+            if (method.getName().equals("registerMBean")) {
+                throw failure;
+            }
+            return false;
+        });
+    }
+
+    @Test
+    void jmxRegistrationFailures() {
+        var registry = new StageRegistry();
+        registry.stage("stage");
+        assertDoesNotThrow(() -> JmxExporter.export(registry, rejecting(new InstanceAlreadyExistsException())));
+        var thrown = assertThrows(IllegalStateException.class, () -> JmxExporter.export(registry, rejecting(new NotCompliantMBeanException())));
+        assertInstanceOf(NotCompliantMBeanException.class, thrown.getCause());
+
+        var seen = new ArrayList<String>();
+        registry.onStage(stats -> seen.add(stats.name()));
+        assertDoesNotThrow(() -> registry.record("new", true, 1));
+        assertEquals(1, registry.stage("new").okCount());
+        assertEquals(List.of("stage", "new"), seen);
+    }
+}
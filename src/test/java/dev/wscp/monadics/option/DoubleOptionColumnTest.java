@@ -0,0 +1,129 @@
+package dev.wscp.monadics.option;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DoubleOptionColumnTest {
+    /**
+     * The first 64 elements are all present, to take the dense paths. Past them, every third element is absent.
+     */
+    private static DoubleOptionColumn sample(int size) {
+        var builder = DoubleOptionColumn.builder(4);
+        for (int i = 0; i < size; i++) {
+            if (i >= 64 && i % 3 == 0) {
+                builder.addNone();
+            } else {
+                builder.add((i - 50) / 2.0);
+            }
+        }
+        return builder.build();
+    }
+
+    @Test
+    void access() {
+        var column = sample(150);
+        assertEquals(150, column.size());
+        assertEquals(64 + 58, column.count());
+        assertEquals(DoubleOption.someOf(-25.0), column.get(0));
+        assertEquals(DoubleOption.none(), column.get(66));
+        assertEquals(8.5, column.getOrDefault(67, 0));
+        assertEquals(-1.0, column.getOrDefault(66, -1));
+        assertThrows(IndexOutOfBoundsException.class, () -> column.get(150));
+    }
+
+    @Test
+    void mapSkipsAbsentElements() {
+        var column = sample(150);
+        var calls = new int[1];
+        var mapped = column.map(it -> {
+            calls[0]++;
+            return it * 2;
+        });
+        assertEquals(column.count(), calls[0]);
+        for (int i = 0; i < 150; i++) {
+            assertEquals(column.get(i).map(it -> it * 2), mapped.get(i));
+        }
+    }
+
+    @Test
+    void filterMakesElementsAbsent() {
+        var column = sample(150);
+        var even = column.filter(it -> it % 1 == 0);
+        for (int i = 0; i < 150; i++) {
+            var expected = column.get(i) instanceof DoubleSome(double value) && value % 1 == 0 ? column.get(i) : DoubleOption.none();
+            assertEquals(expected, even.get(i));
+        }
+        assertEquals(even.count(), (int) IntStream.range(0, 150).filter(even::isPresent).count());
+    }
+
+    @Test
+    void aggregates() {
+        var column = sample(150);
+        var values = new ArrayList<Double>();
+        column.forEach(values::add);
+        assertEquals(column.count(), values.size());
+        assertEquals(values.stream().mapToDouble(Double::doubleValue).sum(), column.sum());
+        assertEquals(DoubleOption.someOf(-25.0), column.min());
+        assertEquals(DoubleOption.someOf(49.5), column.max());
+        assertEquals(DoubleOption.someOf(0.5), column.filter(it -> it > 0).min());
+
+        var empty = DoubleOptionColumn.of(DoubleOption.none(), DoubleOption.none());
+        assertEquals(DoubleOption.none(), empty.min());
+        assertEquals(0.0, empty.sum());
+    }
+
+    @Test
+    void or() {
+        var column = sample(150);
+        var fallback = DoubleOptionColumn.builder(150);
+        for (int i = 0; i < 150; i++) {
+            fallback.add(-i);
+        }
+        var merged = column.filter(it -> it < 20).or(fallback.build());
+        assertEquals(150, merged.count());
+        assertEquals(-25.0, merged.getOrDefault(0, 0));
+        assertEquals(-90.0, merged.getOrDefault(90, 0));
+        assertEquals(-66.0, merged.getOrDefault(66, 0));
+
+        var sparse = DoubleOptionColumn.of(DoubleOption.none(), DoubleOption.someOf(2));
+        assertEquals(DoubleOption.none(), sparse.or(DoubleOptionColumn.of(DoubleOption.none(), DoubleOption.none())).get(0));
+        assertThrows(IllegalArgumentException.class, () -> sparse.or(column));
+    }
+
+    @Test
+    void filterGreaterThanMatchesFilter() {
+        var column = sample(150);
+        var above = column.filterGreaterThan(0.0);
+        var expected = column.filter(it -> it > 0.0);
+        for (int i = 0; i < 150; i++) {
+            assertEquals(expected.get(i), above.get(i));
+        }
+        assertEquals(expected.sum(), above.sum());
+    }
+
+    @Test
+    void xor() {
+        var column = sample(150);
+        var evens = column.filter(it -> it % 2 == 0);
+        var merged = column.xor(evens);
+        for (int i = 0; i < 150; i++) {
+            var expected = column.get(i).xor(evens.get(i));
+            assertEquals(expected, merged.get(i));
+        }
+        assertEquals(DoubleOptionColumn.of(DoubleOption.none()).xor(DoubleOptionColumn.of(DoubleOption.someOf(1.0))).get(0), DoubleOption.someOf(1.0));
+        assertThrows(IllegalArgumentException.class, () -> column.xor(DoubleOptionColumn.of()));
+    }
+
+    @Test
+    void buildsOnce() {
+        assertThrows(IllegalArgumentException.class, () -> DoubleOptionColumn.builder(-1));
+        var builder = DoubleOptionColumn.builder(0).add(DoubleOption.someOf(1));
+        assertEquals(DoubleOption.someOf(1), builder.build().get(0));
+        assertThrows(IllegalStateException.class, builder::build);
+        assertThrows(IllegalStateException.class, builder::addNone);
+    }
+}
@@ -0,0 +1,94 @@
+package dev.wscp.monadics.option;
+
+import dev.wscp.monadics.result.DoubleErr;
+import dev.wscp.monadics.result.DoubleResult;
+import dev.wscp.monadics.util.UnwrapException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.OptionalDouble;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DoubleOptionTest {
+
+    @Test
+    void testSomeAndNone() {
+        DoubleOption some = DoubleOption.someOf(3.0);
+        assertTrue(some.isSome());
+        assertEquals(3.0, some.unwrap());
+        assertEquals(3.0, some.unwrapOrDefault(4.0));
+
+        DoubleOption none = DoubleOption.none();
+        assertTrue(none.isNone());
+        assertSame(none, DoubleOption.none());
+        assertEquals(new DoubleNone(), none);
+        assertThrows(UnwrapException.class, none::unwrap);
+        assertEquals(4.0, none.unwrapOrDefault(4.0));
+    }
+
+    @Test
+    void testOptionalConversions() {
+        assertEquals(3.0, DoubleOption.fromOptional(OptionalDouble.of(3.0)).unwrap());
+        assertSame(DoubleOption.none(), DoubleOption.fromOptional(OptionalDouble.empty()));
+        assertEquals(OptionalDouble.of(3.0), DoubleOption.someOf(3.0).toOptional());
+        assertSame(OptionalDouble.empty(), DoubleOption.none().toOptional());
+        assertEquals(Option.someOf(3.0), DoubleOption.someOf(3.0).toOption());
+        assertSame(Option.none(), DoubleOption.none().toOption());
+    }
+
+    @Test
+    void testMap() {
+        assertEquals(4.0, DoubleOption.someOf(3.0).map(x -> x + 1.0).unwrap());
+        assertSame(DoubleOption.none(), DoubleOption.none().map(x -> x + 1.0));
+        assertEquals("3.0", DoubleOption.someOf(3.0).mapToObj(String::valueOf).unwrap());
+        assertTrue(DoubleOption.none().mapToObj(String::valueOf).isNone());
+        assertEquals(4.0, DoubleOption.someOf(3.0).mapDefault(x -> x + 1.0, 1.0).unwrap());
+        assertEquals(1.0, DoubleOption.none().mapDefault(x -> x + 1.0, 1.0).unwrap());
+    }
+
+    @Test
+    void testAndThen() {
+        assertEquals(4.0, DoubleOption.someOf(3.0).andThen(x -> DoubleOption.someOf(x + 1.0)).unwrap());
+        assertTrue(DoubleOption.none().andThen(DoubleOption::someOf).isNone());
+        assertEquals(3.0, DoubleOption.none().orElse(() -> DoubleOption.someOf(3.0)).unwrap());
+        assertEquals(3.0, DoubleOption.someOf(3.0).orElse(DoubleOption::none).unwrap());
+    }
+
+    @Test
+    void testOrAndXor() {
+        DoubleOption some = DoubleOption.someOf(3.0);
+        DoubleOption other = DoubleOption.someOf(4.0);
+        DoubleOption none = DoubleOption.none();
+
+        assertSame(some, some.or(other));
+        assertSame(other, none.or(other));
+        assertSame(other, some.and(other));
+        assertSame(none, none.and(other));
+        assertSame(some, some.xor(none));
+        assertSame(other, none.xor(other));
+        assertTrue(some.xor(other).isNone());
+        assertTrue(none.xor(none).isNone());
+    }
+
+    @Test
+    void testOkOr() {
+        DoubleErr<String> err = DoubleResult.errOf("missing");
+        assertEquals(3.0, DoubleOption.someOf(3.0).okOr(err).unwrap());
+        assertSame(err, DoubleOption.none().okOr(err));
+        assertEquals(3.0, DoubleOption.someOf(3.0).okOrElse(() -> "missing").unwrap());
+        assertEquals("missing", DoubleOption.none().okOrElse(() -> "missing").unwrapError());
+    }
+
+    @Test
+    void testToStream() {
+        assertArrayEquals(new double[] {3.0}, DoubleOption.someOf(3.0).toStream().toArray());
+        assertEquals(0, DoubleOption.none().toStream().count());
+    }
+
+    @Test
+    void testForEach() {
+        var options = List.of(DoubleOption.someOf(3.0), DoubleOption.none());
+        assertArrayEquals(new double[] {3.0}, options.stream().mapMultiToDouble(DoubleOption::forEach).toArray());
+    }
+}
@@ -0,0 +1,129 @@
+package dev.wscp.monadics.option;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntOptionColumnTest {
+    /**
+     * The first 64 elements are all present, to take the dense paths. Past them, every third element is absent.
+     */
+    private static IntOptionColumn sample(int size) {
+        var builder = IntOptionColumn.builder(4);
+        for (int i = 0; i < size; i++) {
+            if (i >= 64 && i % 3 == 0) {
+                builder.addNone();
+            } else {
+                builder.add(i - 50);
+            }
+        }
+        return builder.build();
+    }
+
+    @Test
+    void access() {
+        var column = sample(150);
+        assertEquals(150, column.size());
+        assertEquals(64 + 58, column.count());
+        assertEquals(IntOption.someOf(-50), column.get(0));
+        assertEquals(IntOption.none(), column.get(66));
+        assertEquals(17, column.getOrDefault(67, 0));
+        assertEquals(-1, column.getOrDefault(66, -1));
+        assertThrows(IndexOutOfBoundsException.class, () -> column.get(150));
+    }
+
+    @Test
+    void mapSkipsAbsentElements() {
+        var column = sample(150);
+        var calls = new int[1];
+        var mapped = column.map(it -> {
+            calls[0]++;
+            return it * 2;
+        });
+        assertEquals(column.count(), calls[0]);
+        for (int i = 0; i < 150; i++) {
+            assertEquals(column.get(i).map(it -> it * 2), mapped.get(i));
+        }
+    }
+
+    @Test
+    void filterMakesElementsAbsent() {
+        var column = sample(150);
+        var even = column.filter(it -> it % 2 == 0);
+        for (int i = 0; i < 150; i++) {
+            var expected = column.get(i) instanceof IntSome(int value) && value % 2 == 0 ? column.get(i) : IntOption.none();
+            assertEquals(expected, even.get(i));
+        }
+        assertEquals(even.count(), (int) IntStream.range(0, 150).filter(even::isPresent).count());
+    }
+
+    @Test
+    void aggregates() {
+        var column = sample(150);
+        var values = new ArrayList<Integer>();
+        column.forEach(values::add);
+        assertEquals(column.count(), values.size());
+        assertEquals(values.stream().mapToLong(Integer::longValue).sum(), column.sum());
+        assertEquals(IntOption.someOf(-50), column.min());
+        assertEquals(IntOption.someOf(99), column.max());
+        assertEquals(IntOption.someOf(1), column.filter(it -> it > 0).min());
+
+        var empty = IntOptionColumn.of(IntOption.none(), IntOption.none());
+        assertEquals(IntOption.none(), empty.min());
+        assertEquals(0, empty.sum());
+    }
+
+    @Test
+    void or() {
+        var column = sample(150);
+        var fallback = IntOptionColumn.builder(150);
+        for (int i = 0; i < 150; i++) {
+            fallback.add(-i);
+        }
+        var merged = column.filter(it -> it < 40).or(fallback.build());
+        assertEquals(150, merged.count());
+        assertEquals(-50, merged.getOrDefault(0, 0));
+        assertEquals(-90, merged.getOrDefault(90, 0));
+        assertEquals(-66, merged.getOrDefault(66, 0));
+
+        var sparse = IntOptionColumn.of(IntOption.none(), IntOption.someOf(2));
+        assertEquals(IntOption.none(), sparse.or(IntOptionColumn.of(IntOption.none(), IntOption.none())).get(0));
+        assertThrows(IllegalArgumentException.class, () -> sparse.or(column));
+    }
+
+    @Test
+    void filterGreaterThanMatchesFilter() {
+        var column = sample(150);
+        var above = column.filterGreaterThan(0);
+        var expected = column.filter(it -> it > 0);
+        for (int i = 0; i < 150; i++) {
+            assertEquals(expected.get(i), above.get(i));
+        }
+        assertEquals(expected.sum(), above.sum());
+    }
+
+    @Test
+    void xor() {
+        var column = sample(150);
+        var evens = column.filter(it -> it % 2 == 0);
+        var merged = column.xor(evens);
+        for (int i = 0; i < 150; i++) {
+            var expected = column.get(i).xor(evens.get(i));
+            assertEquals(expected, merged.get(i));
+        }
+        assertEquals(IntOptionColumn.of(IntOption.none()).xor(IntOptionColumn.of(IntOption.someOf(1))).get(0), IntOption.someOf(1));
+        assertThrows(IllegalArgumentException.class, () -> column.xor(IntOptionColumn.of()));
+    }
+
+    @Test
+    void buildsOnce() {
+        assertThrows(IllegalArgumentException.class, () -> IntOptionColumn.builder(-1));
+        var builder = IntOptionColumn.builder(0).add(IntOption.someOf(1));
+        assertEquals(IntOption.someOf(1), builder.build().get(0));
+        assertThrows(IllegalStateException.class, builder::build);
+        assertThrows(IllegalStateException.class, builder::addNone);
+    }
+}
@@ -0,0 +1,94 @@
+package dev.wscp.monadics.option;
+
+import dev.wscp.monadics.result.IntErr;
+import dev.wscp.monadics.result.IntResult;
+import dev.wscp.monadics.util.UnwrapException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.OptionalInt;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IntOptionTest {
+
+    @Test
+    void testSomeAndNone() {
+        IntOption some = IntOption.someOf(3);
+        assertTrue(some.isSome());
+        assertEquals(3, some.unwrap());
+        assertEquals(3, some.unwrapOrDefault(4));
+
+        IntOption none = IntOption.none();
+        assertTrue(none.isNone());
+        assertSame(none, IntOption.none());
+        assertEquals(new IntNone(), none);
+        assertThrows(UnwrapException.class, none::unwrap);
+        assertEquals(4, none.unwrapOrDefault(4));
+    }
+
+    @Test
+    void testOptionalConversions() {
+        assertEquals(3, IntOption.fromOptional(OptionalInt.of(3)).unwrap());
+        assertSame(IntOption.none(), IntOption.fromOptional(OptionalInt.empty()));
+        assertEquals(OptionalInt.of(3), IntOption.someOf(3).toOptional());
+        assertSame(OptionalInt.empty(), IntOption.none().toOptional());
+        assertEquals(Option.someOf(3), IntOption.someOf(3).toOption());
+        assertSame(Option.none(), IntOption.none().toOption());
+    }
+
+    @Test
+    void testMap() {
+        assertEquals(4, IntOption.someOf(3).map(x -> x + 1).unwrap());
+        assertSame(IntOption.none(), IntOption.none().map(x -> x + 1));
+        assertEquals("3", IntOption.someOf(3).mapToObj(String::valueOf).unwrap());
+        assertTrue(IntOption.none().mapToObj(String::valueOf).isNone());
+        assertEquals(4, IntOption.someOf(3).mapDefault(x -> x + 1, 1).unwrap());
+        assertEquals(1, IntOption.none().mapDefault(x -> x + 1, 1).unwrap());
+    }
+
+    @Test
+    void testAndThen() {
+        assertEquals(4, IntOption.someOf(3).andThen(x -> IntOption.someOf(x + 1)).unwrap());
+        assertTrue(IntOption.none().andThen(IntOption::someOf).isNone());
+        assertEquals(3, IntOption.none().orElse(() -> IntOption.someOf(3)).unwrap());
+        assertEquals(3, IntOption.someOf(3).orElse(IntOption::none).unwrap());
+    }
+
+    @Test
+    void testOrAndXor() {
+        IntOption some = IntOption.someOf(3);
+        IntOption other = IntOption.someOf(4);
+        IntOption none = IntOption.none();
+
+        assertSame(some, some.or(other));
+        assertSame(other, none.or(other));
+        assertSame(other, some.and(other));
+        assertSame(none, none.and(other));
+        assertSame(some, some.xor(none));
+        assertSame(other, none.xor(other));
+        assertTrue(some.xor(other).isNone());
+        assertTrue(none.xor(none).isNone());
+    }
+
+    @Test
+    void testOkOr() {
+        IntErr<String> err = IntResult.errOf("missing");
+        assertEquals(3, IntOption.someOf(3).okOr(err).unwrap());
+        assertSame(err, IntOption.none().okOr(err));
+        assertEquals(3, IntOption.someOf(3).okOrElse(() -> "missing").unwrap());
+        assertEquals("missing", IntOption.none().okOrElse(() -> "missing").unwrapError());
+    }
+
+    @Test
+    void testToStream() {
+        assertArrayEquals(new int[] {3}, IntOption.someOf(3).toStream().toArray());
+        assertEquals(0, IntOption.none().toStream().count());
+    }
+
+    @Test
+    void testForEach() {
+        var options = List.of(IntOption.someOf(3), IntOption.none());
+        assertArrayEquals(new int[] {3}, options.stream().mapMultiToInt(IntOption::forEach).toArray());
+    }
+}
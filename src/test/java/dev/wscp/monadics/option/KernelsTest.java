@@ -0,0 +1,47 @@
+package dev.wscp.monadics.option;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KernelsTest {
+    @Test
+    void fallsBackToScalar() {
+        assertSame(ColumnKernels.scalar(), Kernels.load(null, List.of()));
+        assertSame(ColumnKernels.scalar(), ColumnKernels.installed());
+    }
+
+    @Test
+    void propertyDisablesServiceLoading() {
+        Iterable<ColumnKernels> providers = () -> fail("should not be loaded");
+        assertSame(ColumnKernels.scalar(), Kernels.load("SCALAR", providers));
+    }
+
+    @Test
+    void usesTheFirstProvider() {
+        var provider = (ColumnKernels) Proxy.newProxyInstance(
+                getClass().getClassLoader(), new Class<?>[]{ColumnKernels.class}, (proxy, method, args) -> null);
+        assertSame(provider, Kernels.load("vector", List.of(provider)));
+    }
+
+    @Test
+    void providersThatFailToLoadAreIgnored() {
+        Iterable<ColumnKernels> broken = () -> new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public ColumnKernels next() {
+                throw new ServiceConfigurationError("jdk.incubator.vector not resolved", new NoClassDefFoundError());
+            }
+        };
+        assertSame(ColumnKernels.scalar(), Kernels.load(null, broken));
+    }
+}
@@ -0,0 +1,129 @@
+package dev.wscp.monadics.option;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongOptionColumnTest {
+    /**
+     * The first 64 elements are all present, to take the dense paths. Past them, every third element is absent.
+     */
+    private static LongOptionColumn sample(int size) {
+        var builder = LongOptionColumn.builder(4);
+        for (int i = 0; i < size; i++) {
+            if (i >= 64 && i % 3 == 0) {
+                builder.addNone();
+            } else {
+                builder.add(i - 50 + (long) Integer.MAX_VALUE);
+            }
+        }
+        return builder.build();
+    }
+
+    @Test
+    void access() {
+        var column = sample(150);
+        assertEquals(150, column.size());
+        assertEquals(64 + 58, column.count());
+        assertEquals(LongOption.someOf(-50 + (long) Integer.MAX_VALUE), column.get(0));
+        assertEquals(LongOption.none(), column.get(66));
+        assertEquals(17 + (long) Integer.MAX_VALUE, column.getOrDefault(67, 0));
+        assertEquals(-1, column.getOrDefault(66, -1));
+        assertThrows(IndexOutOfBoundsException.class, () -> column.get(150));
+    }
+
+    @Test
+    void mapSkipsAbsentElements() {
+        var column = sample(150);
+        var calls = new int[1];
+        var mapped = column.map(it -> {
+            calls[0]++;
+            return it * 2;
+        });
+        assertEquals(column.count(), calls[0]);
+        for (int i = 0; i < 150; i++) {
+            assertEquals(column.get(i).map(it -> it * 2), mapped.get(i));
+        }
+    }
+
+    @Test
+    void filterMakesElementsAbsent() {
+        var column = sample(150);
+        var even = column.filter(it -> it % 2 == 0);
+        for (int i = 0; i < 150; i++) {
+            var expected = column.get(i) instanceof LongSome(long value) && value % 2 == 0 ? column.get(i) : LongOption.none();
+            assertEquals(expected, even.get(i));
+        }
+        assertEquals(even.count(), (int) IntStream.range(0, 150).filter(even::isPresent).count());
+    }
+
+    @Test
+    void aggregates() {
+        var column = sample(150);
+        var values = new ArrayList<Long>();
+        column.forEach(values::add);
+        assertEquals(column.count(), values.size());
+        assertEquals(values.stream().mapToLong(Long::longValue).sum(), column.sum());
+        assertEquals(LongOption.someOf(-50 + (long) Integer.MAX_VALUE), column.min());
+        assertEquals(LongOption.someOf(99 + (long) Integer.MAX_VALUE), column.max());
+        assertEquals(LongOption.someOf(1 + (long) Integer.MAX_VALUE), column.filter(it -> it > Integer.MAX_VALUE).min());
+
+        var empty = LongOptionColumn.of(LongOption.none(), LongOption.none());
+        assertEquals(LongOption.none(), empty.min());
+        assertEquals(0, empty.sum());
+    }
+
+    @Test
+    void or() {
+        var column = sample(150);
+        var fallback = LongOptionColumn.builder(150);
+        for (int i = 0; i < 150; i++) {
+            fallback.add(-i);
+        }
+        var merged = column.filter(it -> it < 40 + (long) Integer.MAX_VALUE).or(fallback.build());
+        assertEquals(150, merged.count());
+        assertEquals(-50 + (long) Integer.MAX_VALUE, merged.getOrDefault(0, 0));
+        assertEquals(-90, merged.getOrDefault(90, 0));
+        assertEquals(-66, merged.getOrDefault(66, 0));
+
+        var sparse = LongOptionColumn.of(LongOption.none(), LongOption.someOf(2));
+        assertEquals(LongOption.none(), sparse.or(LongOptionColumn.of(LongOption.none(), LongOption.none())).get(0));
+        assertThrows(IllegalArgumentException.class, () -> sparse.or(column));
+    }
+
+    @Test
+    void filterGreaterThanMatchesFilter() {
+        var column = sample(150);
+        var above = column.filterGreaterThan((long) Integer.MAX_VALUE);
+        var expected = column.filter(it -> it > (long) Integer.MAX_VALUE);
+        for (int i = 0; i < 150; i++) {
+            assertEquals(expected.get(i), above.get(i));
+        }
+        assertEquals(expected.sum(), above.sum());
+    }
+
+    @Test
+    void xor() {
+        var column = sample(150);
+        var evens = column.filter(it -> it % 2 == 0);
+        var merged = column.xor(evens);
+        for (int i = 0; i < 150; i++) {
+            var expected = column.get(i).xor(evens.get(i));
+            assertEquals(expected, merged.get(i));
+        }
+        assertEquals(LongOptionColumn.of(LongOption.none()).xor(LongOptionColumn.of(LongOption.someOf(1L))).get(0), LongOption.someOf(1L));
+        assertThrows(IllegalArgumentException.class, () -> column.xor(LongOptionColumn.of()));
+    }
+
+    @Test
+    void buildsOnce() {
+        assertThrows(IllegalArgumentException.class, () -> LongOptionColumn.builder(-1));
+        var builder = LongOptionColumn.builder(0).add(LongOption.someOf(1));
+        assertEquals(LongOption.someOf(1), builder.build().get(0));
+        assertThrows(IllegalStateException.class, builder::build);
+        assertThrows(IllegalStateException.class, builder::addNone);
+    }
+}
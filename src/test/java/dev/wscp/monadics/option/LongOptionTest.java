@@ -0,0 +1,94 @@
+package dev.wscp.monadics.option;
+
+import dev.wscp.monadics.result.LongErr;
+import dev.wscp.monadics.result.LongResult;
+import dev.wscp.monadics.util.UnwrapException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LongOptionTest {
+
+    @Test
+    void testSomeAndNone() {
+        LongOption some = LongOption.someOf(3L);
+        assertTrue(some.isSome());
+        assertEquals(3L, some.unwrap());
+        assertEquals(3L, some.unwrapOrDefault(4L));
+
+        LongOption none = LongOption.none();
+        assertTrue(none.isNone());
+        assertSame(none, LongOption.none());
+        assertEquals(new LongNone(), none);
+        assertThrows(UnwrapException.class, none::unwrap);
+        assertEquals(4L, none.unwrapOrDefault(4L));
+    }
+
+    @Test
+    void testOptionalConversions() {
+        assertEquals(3L, LongOption.fromOptional(OptionalLong.of(3L)).unwrap());
+        assertSame(LongOption.none(), LongOption.fromOptional(OptionalLong.empty()));
+        assertEquals(OptionalLong.of(3L), LongOption.someOf(3L).toOptional());
+        assertSame(OptionalLong.empty(), LongOption.none().toOptional());
+        assertEquals(Option.someOf(3L), LongOption.someOf(3L).toOption());
+        assertSame(Option.none(), LongOption.none().toOption());
+    }
+
+    @Test
+    void testMap() {
+        assertEquals(4L, LongOption.someOf(3L).map(x -> x + 1L).unwrap());
+        assertSame(LongOption.none(), LongOption.none().map(x -> x + 1L));
+        assertEquals("3", LongOption.someOf(3L).mapToObj(String::valueOf).unwrap());
+        assertTrue(LongOption.none().mapToObj(String::valueOf).isNone());
+        assertEquals(4L, LongOption.someOf(3L).mapDefault(x -> x + 1L, 1L).unwrap());
+        assertEquals(1L, LongOption.none().mapDefault(x -> x + 1L, 1L).unwrap());
+    }
+
+    @Test
+    void testAndThen() {
+        assertEquals(4L, LongOption.someOf(3L).andThen(x -> LongOption.someOf(x + 1L)).unwrap());
+        assertTrue(LongOption.none().andThen(LongOption::someOf).isNone());
+        assertEquals(3L, LongOption.none().orElse(() -> LongOption.someOf(3L)).unwrap());
+        assertEquals(3L, LongOption.someOf(3L).orElse(LongOption::none).unwrap());
+    }
+
+    @Test
+    void testOrAndXor() {
+        LongOption some = LongOption.someOf(3L);
+        LongOption other = LongOption.someOf(4L);
+        LongOption none = LongOption.none();
+
+        assertSame(some, some.or(other));
+        assertSame(other, none.or(other));
+        assertSame(other, some.and(other));
+        assertSame(none, none.and(other));
+        assertSame(some, some.xor(none));
+        assertSame(other, none.xor(other));
+        assertTrue(some.xor(other).isNone());
+        assertTrue(none.xor(none).isNone());
+    }
+
+    @Test
+    void testOkOr() {
+        LongErr<String> err = LongResult.errOf("missing");
+        assertEquals(3L, LongOption.someOf(3L).okOr(err).unwrap());
+        assertSame(err, LongOption.none().okOr(err));
+        assertEquals(3L, LongOption.someOf(3L).okOrElse(() -> "missing").unwrap());
+        assertEquals("missing", LongOption.none().okOrElse(() -> "missing").unwrapError());
+    }
+
+    @Test
+    void testToStream() {
+        assertArrayEquals(new long[] {3L}, LongOption.someOf(3L).toStream().toArray());
+        assertEquals(0, LongOption.none().toStream().count());
+    }
+
+    @Test
+    void testForEach() {
+        var options = List.of(LongOption.someOf(3L), LongOption.none());
+        assertArrayEquals(new long[] {3L}, options.stream().mapMultiToLong(LongOption::forEach).toArray());
+    }
+}
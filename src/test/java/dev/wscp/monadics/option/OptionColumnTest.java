@@ -0,0 +1,77 @@
+package dev.wscp.monadics.option;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OptionColumnTest {
+    private static OptionColumn<String> sample(int size) {
+        var builder = OptionColumn.<String>builder(4);
+        for (int i = 0; i < size; i++) {
+            if (i % 3 == 0) {
+                builder.addNone();
+            } else {
+                builder.add("v" + i);
+            }
+        }
+        return builder.build();
+    }
+
+    @Test
+    void access() {
+        var column = sample(100);
+        assertEquals(100, column.size());
+        assertEquals(66, column.count());
+        assertEquals(Option.none(), column.get(0));
+        assertEquals(Option.someOf("v1"), column.get(1));
+        assertFalse(column.isPresent(99));
+        assertThrows(IndexOutOfBoundsException.class, () -> column.get(100));
+    }
+
+    @Test
+    void mapAndFilter() {
+        var column = sample(100);
+        var lengths = column.map(String::length);
+        var filtered = column.filter(it -> it.length() > 2);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(column.get(i).map(String::length), lengths.get(i));
+            assertEquals(column.get(i).andThen(it -> it.length() > 2 ? Option.someOf(it) : Option.none()), filtered.get(i));
+        }
+    }
+
+    @Test
+    void minAndForEach() {
+        var column = sample(100);
+        assertEquals(Option.someOf("v1"), column.min(Comparator.naturalOrder()));
+        assertEquals(Option.someOf("v98"), column.min(Comparator.reverseOrder()));
+        assertEquals(Option.none(), OptionColumn.<String>of(Option.none()).min(Comparator.naturalOrder()));
+
+        var seen = new ArrayList<String>();
+        column.forEach(seen::add);
+        assertEquals(66, seen.size());
+        assertEquals("v1", seen.getFirst());
+    }
+
+    @Test
+    void or() {
+        var left = OptionColumn.of(Option.someOf("a"), Option.none(), Option.none());
+        var right = OptionColumn.of(Option.someOf("x"), Option.someOf("y"), Option.none());
+        var merged = left.or(right);
+        assertEquals(List.of(Option.someOf("a"), Option.someOf("y"), Option.none()), List.of(merged.get(0), merged.get(1), merged.get(2)));
+        assertEquals(2, merged.count());
+        assertThrows(IllegalArgumentException.class, () -> left.or(sample(4)));
+    }
+
+    @Test
+    void buildsOnce() {
+        assertThrows(IllegalArgumentException.class, () -> OptionColumn.builder(-1));
+        var builder = OptionColumn.<String>builder(0).add(Option.someOf("a"));
+        assertEquals(Option.someOf("a"), builder.build().get(0));
+        assertThrows(IllegalStateException.class, builder::build);
+        assertThrows(IllegalStateException.class, builder::addNone);
+    }
+}
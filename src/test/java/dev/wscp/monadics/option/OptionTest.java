@@ -2,10 +2,15 @@ package dev.wscp.monadics.option;
 
 import dev.wscp.monadics.result.Err;
 import dev.wscp.monadics.result.Result;
+import dev.wscp.monadics.util.ExceptionPolicy;
 import dev.wscp.monadics.util.UnwrapException;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -23,6 +28,20 @@ public class OptionTest {
         Option<String> option = Option.none();
         assertInstanceOf(None.class, option);
         assertThrows(UnwrapException.class, option::unwrap);
+        var stackless = assertThrows(UnwrapException.class, () -> option.unwrapWith(ExceptionPolicy.STACKLESS));
+        assertEquals(0, stackless.getStackTrace().length);
+        assertEquals("Unwrapped a none value!", stackless.getMessage());
+        assertEquals("a", Option.someOf("a").unwrapWith(ExceptionPolicy.STACKLESS));
+    }
+
+    @Test
+    void testNoneIsShared() {
+        Option<String> first = Option.none();
+        Option<Integer> second = Option.someOfNullable(null);
+        assertSame(first, second);
+        assertSame(first, Option.fromOptional(Optional.empty()));
+        assertSame(first, Option.<Integer>none().map(x -> x * 2));
+        assertEquals(new None<>(), first);
     }
 
     @Test
@@ -123,6 +142,13 @@ public class OptionTest {
         assertEquals(5, result2.unwrap());
     }
 
+    @Test
+    void testXorBothSome() {
+        Option<Integer> option1 = Option.someOf(5);
+        Option<Integer> option2 = Option.someOf(6);
+        assertTrue(option1.xor(option2).isNone());
+    }
+
     @Test
     void testXorNone() {
         Option<Integer> option1 = Option.none();
@@ -194,4 +220,56 @@ public class OptionTest {
         Option<Integer> mappedNoneOption = noneOption.mapDefault(x -> x * 2, 10);
         assertEquals(10, mappedNoneOption.unwrap());
     }
+
+    @Test
+    void testSequence() {
+        List<Option<Integer>> somes = List.of(Option.someOf(1), Option.someOf(2));
+        List<Option<Integer>> withNone = List.of(Option.someOf(1), Option.none(), Option.someOf(3));
+
+        assertEquals(List.of(1, 2), Option.sequence(somes).unwrap());
+        assertTrue(Option.sequence(withNone).isNone());
+        assertEquals(List.of(1, 2), Option.sequence(Option.someOf(1), Option.someOf(2)).unwrap());
+        assertTrue(Option.sequence(Option.someOf(1), Option.<Integer>none()).isNone());
+        assertEquals(List.of(), Option.<Integer>sequence().unwrap());
+        assertEquals(List.of(1, 2), Option.sequence(somes.iterator()).unwrap());
+        assertTrue(Option.sequence(withNone.stream()).isNone());
+
+        Iterable<Option<Integer>> iterable = somes::iterator;
+        assertEquals(List.of(1, 2), Option.sequence(iterable).unwrap());
+        assertThrows(UnsupportedOperationException.class, () -> Option.sequence(somes).unwrap().add(3));
+        assertThrows(UnsupportedOperationException.class, () -> Option.sequence(somes.stream()).unwrap().add(3));
+    }
+
+    @Test
+    void testTraverse() {
+        Function<String, Option<Integer>> length = (it) -> it.isEmpty() ? Option.none() : Option.someOf(it.length());
+        List<String> good = List.of("a", "bb");
+        List<String> bad = List.of("a", "", "ccc");
+
+        assertEquals(List.of(1, 2), Option.traverse(good, length).unwrap());
+        assertTrue(Option.traverse(bad, length).isNone());
+        assertEquals(List.of(1, 2), Option.traverse(good.toArray(String[]::new), length).unwrap());
+        assertTrue(Option.traverse(bad.toArray(String[]::new), length).isNone());
+        assertEquals(List.of(1, 2), Option.traverse(good.iterator(), length).unwrap());
+        assertTrue(Option.traverse(bad.stream(), length).isNone());
+    }
+
+    @Test
+    void testParallelTraverse() {
+        var items = IntStream.range(0, 50_000).boxed().toList();
+        var pool = new ForkJoinPool(4);
+        try {
+            assertEquals(items, Option.parallelTraverse(items, Option::someOf, pool).unwrap());
+            assertTrue(Option.parallelTraverse(items, (Integer it) -> it == 40_000 ? Option.<Integer>none() : Option.someOf(it), pool).isNone());
+        } finally {
+            pool.shutdown();
+        }
+        assertTrue(Option.parallelTraverse(items, (Integer it) -> Option.<Integer>none()).isNone());
+    }
+
+    @Test
+    void testForEach() {
+        List<Option<String>> options = List.of(Option.someOf("a"), Option.none(), Option.someOf("b"));
+        assertEquals(List.of("a", "b"), options.stream().<String>mapMulti(Option::forEach).toList());
+    }
 }
@@ -0,0 +1,219 @@
+package dev.wscp.monadics.parse;
+
+import dev.wscp.monadics.parse.ParseError.Code;
+import dev.wscp.monadics.result.DoubleResult;
+import dev.wscp.monadics.result.IntResult;
+import dev.wscp.monadics.result.LongResult;
+import dev.wscp.monadics.result.Result;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParsersTest {
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    private static ByteBuffer direct(String text) {
+        var buffer = ByteBuffer.allocateDirect(text.length() + 2);
+        buffer.put((byte) '[').put(bytes(text)).put((byte) ']').flip();
+        return buffer.position(1).limit(text.length() + 1);
+    }
+
+    private static ParseError error(Code code, int offset) {
+        return new ParseError(code, offset);
+    }
+
+    @Test
+    void parseInt() {
+        assertEquals(IntResult.okOf(42), Parsers.parseInt("42"));
+        assertEquals(IntResult.okOf(-7), Parsers.parseInt("-7"));
+        assertEquals(IntResult.okOf(7), Parsers.parseInt("+7"));
+        assertEquals(IntResult.okOf(Integer.MAX_VALUE), Parsers.parseInt("2147483647"));
+        assertEquals(IntResult.okOf(Integer.MIN_VALUE), Parsers.parseInt("-2147483648"));
+        assertEquals(IntResult.okOf(123), Parsers.parseInt("a123b", 1, 4));
+
+        assertEquals(IntResult.errOf(error(Code.EMPTY, 0)), Parsers.parseInt(""));
+        assertEquals(IntResult.errOf(error(Code.UNEXPECTED_END, 1)), Parsers.parseInt("-"));
+        assertEquals(IntResult.errOf(error(Code.INVALID_CHARACTER, 2)), Parsers.parseInt("12x4"));
+        assertEquals(IntResult.errOf(error(Code.INVALID_CHARACTER, 0)), Parsers.parseInt(" 1"));
+        assertEquals(IntResult.errOf(error(Code.OUT_OF_RANGE, 9)), Parsers.parseInt("2147483648"));
+        assertEquals(IntResult.errOf(error(Code.OUT_OF_RANGE, 11)), Parsers.parseInt("-21474836480"));
+        assertThrows(IndexOutOfBoundsException.class, () -> Parsers.parseInt("1", 0, 2));
+    }
+
+    @Test
+    void parseIntFromBytes() {
+        assertEquals(IntResult.okOf(-2147483648), Parsers.parseInt(bytes("-2147483648"), 0, 11));
+        assertEquals(IntResult.okOf(7), Parsers.parseInt(bytes("x+7"), 1, 3));
+        assertEquals(IntResult.okOf(55), Parsers.parseInt(ByteBuffer.wrap(bytes("1551"), 1, 2)));
+        assertEquals(IntResult.okOf(99), Parsers.parseInt(direct("99")));
+
+        assertEquals(IntResult.errOf(error(Code.EMPTY, 0)), Parsers.parseInt(bytes("1"), 1, 1));
+        assertEquals(IntResult.errOf(error(Code.UNEXPECTED_END, 1)), Parsers.parseInt(bytes("+"), 0, 1));
+        assertEquals(IntResult.errOf(error(Code.INVALID_CHARACTER, 1)), Parsers.parseInt(bytes("1é2"), 0, 3));
+        assertEquals(IntResult.errOf(error(Code.OUT_OF_RANGE, 9)), Parsers.parseInt(bytes("99999999999"), 0, 11));
+        assertEquals(IntResult.errOf(error(Code.INVALID_CHARACTER, 1)), Parsers.parseInt(direct("9.")));
+    }
+
+    @Test
+    void parseLong() {
+        assertEquals(LongResult.okOf(Long.MAX_VALUE), Parsers.parseLong("9223372036854775807"));
+        assertEquals(LongResult.okOf(Long.MIN_VALUE), Parsers.parseLong("-9223372036854775808"));
+        assertEquals(LongResult.okOf(5), Parsers.parseLong("+5"));
+        assertEquals(LongResult.errOf(error(Code.EMPTY, 0)), Parsers.parseLong(""));
+        assertEquals(LongResult.errOf(error(Code.UNEXPECTED_END, 1)), Parsers.parseLong("-"));
+        assertEquals(LongResult.errOf(error(Code.INVALID_CHARACTER, 1)), Parsers.parseLong("1_000"));
+        assertEquals(LongResult.errOf(error(Code.OUT_OF_RANGE, 18)), Parsers.parseLong("9223372036854775808"));
+
+        assertEquals(LongResult.okOf(Long.MIN_VALUE), Parsers.parseLong(bytes("-9223372036854775808"), 0, 20));
+        assertEquals(LongResult.okOf(12), Parsers.parseLong(ByteBuffer.wrap(bytes("+12"))));
+        assertEquals(LongResult.okOf(-3), Parsers.parseLong(direct("-3")));
+        assertEquals(LongResult.errOf(error(Code.EMPTY, 0)), Parsers.parseLong(bytes(""), 0, 0));
+        assertEquals(LongResult.errOf(error(Code.UNEXPECTED_END, 1)), Parsers.parseLong(bytes("-"), 0, 1));
+        assertEquals(LongResult.errOf(error(Code.INVALID_CHARACTER, 2)), Parsers.parseLong(bytes("12a"), 0, 3));
+        assertEquals(LongResult.errOf(error(Code.OUT_OF_RANGE, 18)), Parsers.parseLong(bytes("99999999999999999999"), 0, 20));
+    }
+
+    @Test
+    void parseDouble() {
+        assertEquals(DoubleResult.okOf(-1.5), Parsers.parseDouble("-1.5"));
+        assertEquals(DoubleResult.okOf(0.25), Parsers.parseDouble(".25"));
+        assertEquals(DoubleResult.okOf(3.0), Parsers.parseDouble("+3."));
+        assertEquals(DoubleResult.okOf(6.02e23), Parsers.parseDouble("6.02E+23"));
+        assertEquals(DoubleResult.okOf(1e-5), Parsers.parseDouble("1e-5"));
+        assertEquals(DoubleResult.okOf(Double.POSITIVE_INFINITY), Parsers.parseDouble("1e999"));
+        assertEquals(DoubleResult.okOf(Double.NaN), Parsers.parseDouble("NaN"));
+        assertEquals(DoubleResult.okOf(Double.POSITIVE_INFINITY), Parsers.parseDouble("Infinity"));
+        assertEquals(DoubleResult.okOf(Double.NEGATIVE_INFINITY), Parsers.parseDouble("-Infinity"));
+        assertEquals(DoubleResult.okOf(2.5), Parsers.parseDouble("x2.5x", 1, 4));
+
+        assertEquals(DoubleResult.errOf(error(Code.EMPTY, 0)), Parsers.parseDouble(""));
+        assertEquals(DoubleResult.errOf(error(Code.UNEXPECTED_END, 1)), Parsers.parseDouble("-"));
+        assertEquals(DoubleResult.errOf(error(Code.INVALID_CHARACTER, 1)), Parsers.parseDouble("-NaN"));
+        assertEquals(DoubleResult.errOf(error(Code.INVALID_CHARACTER, 0)), Parsers.parseDouble("Inf"));
+        assertEquals(DoubleResult.errOf(error(Code.INVALID_CHARACTER, 1)), Parsers.parseDouble(".e1"));
+        assertEquals(DoubleResult.errOf(error(Code.UNEXPECTED_END, 2)), Parsers.parseDouble("1e"));
+        assertEquals(DoubleResult.errOf(error(Code.INVALID_CHARACTER, 3)), Parsers.parseDouble("1e+x"));
+        assertEquals(DoubleResult.errOf(error(Code.INVALID_CHARACTER, 3)), Parsers.parseDouble("1.5d"));
+        assertEquals(DoubleResult.errOf(error(Code.INVALID_CHARACTER, 1)), Parsers.parseDouble("0x1p3"));
+
+        assertEquals(DoubleResult.okOf(1.25), Parsers.parseDouble(bytes("[1.25]"), 1, 5));
+        assertEquals(DoubleResult.okOf(-8.5), Parsers.parseDouble(direct("-8.5")));
+        assertEquals(DoubleResult.errOf(error(Code.INVALID_CHARACTER, 1)), Parsers.parseDouble(direct("1,5")));
+    }
+
+    @Test
+    void parseBoolean() {
+        assertEquals(Result.okOf(true), Parsers.parseBoolean("true"));
+        assertEquals(Result.okOf(false), Parsers.parseBoolean("FALSE"));
+        assertEquals(Result.okOf(true), Parsers.parseBoolean("xTrue", 1, 5));
+        assertEquals(Result.errOf(error(Code.EMPTY, 0)), Parsers.parseBoolean(""));
+        assertEquals(Result.errOf(error(Code.UNEXPECTED_END, 2)), Parsers.parseBoolean("tr"));
+        assertEquals(Result.errOf(error(Code.INVALID_CHARACTER, 0)), Parsers.parseBoolean("yes"));
+        assertEquals(Result.errOf(error(Code.INVALID_CHARACTER, 4)), Parsers.parseBoolean("trues"));
+        assertEquals(Result.okOf(false), Parsers.parseBoolean(bytes("false"), 0, 5));
+        assertEquals(Result.okOf(true), Parsers.parseBoolean(direct("TRUE")));
+    }
+
+    @Test
+    void parseUuid() {
+        var text = "123e4567-e89b-12d3-a456-426614174000";
+        var uuid = UUID.fromString(text);
+        assertEquals(Result.okOf(uuid), Parsers.parseUuid(text));
+        assertEquals(Result.okOf(uuid), Parsers.parseUuid(text.toUpperCase()));
+        assertEquals(Result.okOf(uuid), Parsers.parseUuid("{" + text + "}", 1, 37));
+        assertEquals(Result.okOf(uuid), Parsers.parseUuid(bytes(text), 0, 36));
+        assertEquals(Result.okOf(uuid), Parsers.parseUuid(direct(text)));
+
+        assertEquals(Result.errOf(error(Code.EMPTY, 0)), Parsers.parseUuid(""));
+        assertEquals(Result.errOf(error(Code.UNEXPECTED_END, 10)), Parsers.parseUuid(text.substring(0, 10)));
+        assertEquals(Result.errOf(error(Code.INVALID_CHARACTER, 8)), Parsers.parseUuid(text.replace('-', '_')));
+        assertEquals(Result.errOf(error(Code.INVALID_CHARACTER, 3)), Parsers.parseUuid(text.replace('e', 'g')));
+        assertEquals(Result.errOf(error(Code.INVALID_CHARACTER, 0)), Parsers.parseUuid("１" + text.substring(1)));
+        assertEquals(Result.errOf(error(Code.INVALID_CHARACTER, 36)), Parsers.parseUuid(text + "0"));
+    }
+
+    @Test
+    void parseInstant() {
+        assertEquals(Result.okOf(Instant.parse("2024-02-29T13:45:30Z")), Parsers.parseInstant("2024-02-29T13:45:30Z"));
+        assertEquals(Result.okOf(Instant.parse("1969-12-31T23:59:59.5Z")), Parsers.parseInstant("1969-12-31T23:59:59.5Z"));
+        assertEquals(Result.okOf(Instant.parse("0001-01-01T00:00:00.123456789Z")), Parsers.parseInstant("0001-01-01T00:00:00.123456789Z"));
+        assertEquals(Result.okOf(Instant.parse("2024-03-01T11:45:30Z")), Parsers.parseInstant("2024-03-01T13:45:30+02:00"));
+        assertEquals(Result.okOf(Instant.parse("2000-01-01T05:30:00Z")), Parsers.parseInstant("2000-01-01T00:00:00-05:30"));
+        assertEquals(Result.okOf(Instant.EPOCH), Parsers.parseInstant("\"1970-01-01T00:00:00Z\"", 1, 21));
+        assertEquals(Result.okOf(Instant.EPOCH), Parsers.parseInstant(bytes("1970-01-01T00:00:00Z"), 0, 20));
+        assertEquals(Result.okOf(Instant.EPOCH), Parsers.parseInstant(direct("1970-01-01T00:00:00Z")));
+
+        assertEquals(Result.errOf(error(Code.EMPTY, 0)), Parsers.parseInstant(""));
+        assertEquals(Result.errOf(error(Code.UNEXPECTED_END, 7)), Parsers.parseInstant("2024-02"));
+        assertEquals(Result.errOf(error(Code.UNEXPECTED_END, 19)), Parsers.parseInstant("2024-02-29T13:45:30"));
+        assertEquals(Result.errOf(error(Code.UNEXPECTED_END, 20)), Parsers.parseInstant("2024-02-29T13:45:30."));
+        assertEquals(Result.errOf(error(Code.UNEXPECTED_END, 22)), Parsers.parseInstant("2024-02-29T13:45:30+02"));
+        assertEquals(Result.errOf(error(Code.INVALID_CHARACTER, 10)), Parsers.parseInstant("2024-02-29 13:45:30Z"));
+        assertEquals(Result.errOf(error(Code.INVALID_CHARACTER, 3)), Parsers.parseInstant("202x-02-29T13:45:30Z"));
+        assertEquals(Result.errOf(error(Code.INVALID_CHARACTER, 19)), Parsers.parseInstant("2024-02-29T13:45:30X"));
+        assertEquals(Result.errOf(error(Code.INVALID_CHARACTER, 20)), Parsers.parseInstant("2024-02-29T13:45:30ZZ"));
+        assertEquals(Result.errOf(error(Code.INVALID_CHARACTER, 29)), Parsers.parseInstant("2024-02-29T13:45:30.1234567890Z"));
+        assertEquals(Result.errOf(error(Code.OUT_OF_RANGE, 8)), Parsers.parseInstant("2023-02-29T13:45:30Z"));
+        assertEquals(Result.errOf(error(Code.OUT_OF_RANGE, 8)), Parsers.parseInstant("2023-04-31T13:45:30Z"));
+        assertEquals(Result.errOf(error(Code.OUT_OF_RANGE, 5)), Parsers.parseInstant("2023-13-01T13:45:30Z"));
+        assertEquals(Result.errOf(error(Code.OUT_OF_RANGE, 17)), Parsers.parseInstant("2023-12-01T23:59:60Z"));
+        assertEquals(Result.errOf(error(Code.OUT_OF_RANGE, 20)), Parsers.parseInstant("2023-12-01T23:59:59+19:00"));
+        assertEquals(Result.errOf(error(Code.OUT_OF_RANGE, 23)), Parsers.parseInstant("2023-12-01T23:59:59+18:30"));
+        assertEquals(Result.okOf(Instant.parse("2023-12-01T05:59:59Z")), Parsers.parseInstant("2023-12-01T23:59:59+18:00"));
+        assertEquals(Result.okOf(Instant.parse("2023-12-02T17:59:59Z")), Parsers.parseInstant("2023-12-01T23:59:59-18:00"));
+        assertEquals(Result.okOf(Instant.parse("1900-03-01T00:00:00Z")), Parsers.parseInstant("1900-03-01T00:00:00Z"));
+        assertEquals(Result.errOf(error(Code.OUT_OF_RANGE, 8)), Parsers.parseInstant("1900-02-29T00:00:00Z"));
+    }
+
+    /**
+     * Text that fails the test if a parser copies a range of it instead of reading it in place.
+     */
+    private static CharSequence unsliceable(String text) {
+        return new CharSequence() {
+            public int length() {
+                return text.length();
+            }
+
+            public char charAt(int index) {
+                return text.charAt(index);
+            }
+
+            public CharSequence subSequence(int start, int end) {
+                return fail("Copied " + text.substring(start, end));
+            }
+        };
+    }
+
+    @Test
+    void parsesRangesInPlace() {
+        assertEquals(Result.okOf(true), Parsers.parseBoolean(unsliceable("[true]"), 1, 5));
+        assertEquals(Result.errOf(error(Code.INVALID_CHARACTER, 1)), Parsers.parseBoolean(unsliceable("[fx]"), 1, 3));
+        var uuid = "123e4567-e89b-12d3-a456-426614174000";
+        assertEquals(Result.okOf(UUID.fromString(uuid)), Parsers.parseUuid(unsliceable("id=" + uuid + ";"), 3, 39));
+        assertEquals(Result.errOf(error(Code.INVALID_CHARACTER, 36)), Parsers.parseUuid(unsliceable("id=" + uuid + ";"), 3, 40));
+        assertEquals(Result.okOf(Instant.EPOCH), Parsers.parseInstant(unsliceable("at 1970-01-01T01:00:00+01:00!"), 3, 28));
+        assertEquals(Result.errOf(error(Code.UNEXPECTED_END, 19)), Parsers.parseInstant(unsliceable("at 1970-01-01T01:00:00+01:00!"), 3, 22));
+        assertEquals(Result.okOf(Instant.EPOCH), Parsers.parseInstant(unsliceable("at 1970-01-01T00:00:00.000Z"), 3, 27));
+        assertEquals(DoubleResult.errOf(error(Code.INVALID_CHARACTER, 3)), Parsers.parseDouble(unsliceable("[[1.5d]]"), 2, 6));
+        assertEquals(DoubleResult.errOf(error(Code.UNEXPECTED_END, 2)), Parsers.parseDouble(unsliceable("[[1e]]"), 2, 4));
+        assertEquals(DoubleResult.okOf(Double.NEGATIVE_INFINITY), Parsers.parseDouble(unsliceable("[-Infinity]"), 1, 10));
+        assertEquals(DoubleResult.okOf(Double.NaN), Parsers.parseDouble(unsliceable("NaNs"), 0, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> Parsers.parseInstant("1970", 2, 5));
+    }
+
+    @Test
+    void asciiViewSlices() {
+        var view = new AsciiView(ByteBuffer.wrap(bytes("abcdef")), 1, 5);
+        assertEquals(4, view.length());
+        assertEquals('b', view.charAt(0));
+        assertEquals("cd", view.subSequence(1, 3).toString());
+        assertEquals(Result.okOf(true), Parsers.parseBoolean(new AsciiView(ByteBuffer.wrap(bytes("xtrue")), 0, 5), 1, 5));
+    }
+}
@@ -0,0 +1,188 @@
+package dev.wscp.monadics.resilience;
+
+import dev.wscp.monadics.result.Result;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private CircuitBreaker<String> breaker() {
+        return CircuitBreaker.builder("open")
+                .windowSize(8)
+                .minimumCalls(4)
+                .errorRate(0.5)
+                .openDuration(Duration.ofSeconds(1))
+                .probes(2)
+                .ticker(now::get)
+                .build();
+    }
+
+    private Result<Integer, String> ok() {
+        calls.incrementAndGet();
+        return Result.okOf(1);
+    }
+
+    private Result<Integer, String> err() {
+        calls.incrementAndGet();
+        return Result.errOf("down");
+    }
+
+    @Test
+    void staysClosedBelowThreshold() {
+        var breaker = breaker();
+        for (int i = 0; i < 30; i++) {
+            breaker.call(i % 3 == 2 ? this::err : this::ok);
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        assertEquals(0.375, breaker.errorRate(), 0.001);
+        assertEquals(30, calls.get());
+    }
+
+    @Test
+    void waitsForMinimumCalls() {
+        var breaker = breaker();
+        assertEquals(0, breaker.errorRate());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(Result.errOf("down"), breaker.call(this::err));
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        breaker.call(this::err);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+    }
+
+    @Test
+    void opensAndRejectsWithoutCalling() {
+        var breaker = breaker();
+        for (int i = 0; i < 4; i++) {
+            breaker.call(i % 2 == 0 ? this::ok : this::err);
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        var first = breaker.call(this::ok);
+        var second = breaker.<String>call(() -> Result.okOf("unused"));
+        assertEquals(Result.errOf("open"), first);
+        assertSame(first, second);
+        assertEquals(4, calls.get());
+    }
+
+    @Test
+    void successfulProbesClose() {
+        var breaker = breaker();
+        for (int i = 0; i < 4; i++) {
+            breaker.call(this::err);
+        }
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertEquals(Result.okOf(1), breaker.call(this::ok));
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+        assertEquals(Result.okOf(1), breaker.call(this::ok));
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        assertEquals(0, breaker.errorRate());
+        for (int i = 0; i < 3; i++) {
+            breaker.call(this::err);
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void failedProbeReopens() {
+        var breaker = breaker();
+        for (int i = 0; i < 4; i++) {
+            breaker.call(this::err);
+        }
+        now.addAndGet(Duration.ofSeconds(2).toNanos());
+        assertEquals(Result.errOf("down"), breaker.call(this::err));
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertEquals(Result.errOf("open"), breaker.call(this::ok));
+
+        now.addAndGet(Duration.ofSeconds(2).toNanos());
+        assertThrows(IllegalStateException.class, () -> breaker.call(() -> { throw new IllegalStateException(); }));
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+    }
+
+    @Test
+    void limitsProbesInFlight() {
+        var breaker = breaker();
+        for (int i = 0; i < 4; i++) {
+            breaker.call(this::err);
+        }
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        var third = new AtomicReference<Result<Integer, String>>();
+        breaker.call(() -> breaker.call(() -> {
+            third.set(breaker.call(this::ok));
+            return ok();
+        }));
+        assertEquals(Result.errOf("open"), third.get());
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void thrownExceptionsAreNotCountedWhileClosed() {
+        var breaker = breaker();
+        for (int i = 0; i < 5; i++) {
+            assertThrows(IllegalStateException.class, () -> breaker.call(() -> { throw new IllegalStateException(); }));
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        assertEquals(0, breaker.errorRate());
+    }
+
+    @Test
+    void countsStayExactUnderContention() throws InterruptedException {
+        var breaker = CircuitBreaker.builder("open").windowSize(256).minimumCalls(256).errorRate(1).processors(8).build();
+        var phase = new CyclicBarrier(8);
+        var threads = new ArrayList<Thread>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    breaker.call(i % 4 == 0 ? this::err : this::ok);
+                }
+                assertDoesNotThrow(() -> phase.await());
+                for (int i = 0; i < 256; i++) {
+                    breaker.call(this::ok);
+                }
+            }));
+        }
+        for (var thread : threads) {
+            thread.join();
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        assertEquals(0, breaker.errorRate());
+        assertEquals(8 * 10_256, calls.get());
+    }
+
+    @Test
+    void opensOverEveryStripe() throws InterruptedException {
+        var breaker = CircuitBreaker.builder("open").windowSize(64).minimumCalls(64).processors(4).ticker(now::get).build();
+        for (int t = 0; t < 8; t++) {
+            Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < 8; i++) {
+                    breaker.call(i % 2 == 1 ? this::err : this::ok);
+                }
+            }).join();
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertEquals(0.5, breaker.errorRate());
+    }
+
+    @Test
+    void rejectsInvalidSettings() {
+        var builder = CircuitBreaker.builder(1);
+        assertThrows(IllegalArgumentException.class, () -> builder.windowSize(0));
+        assertThrows(IllegalArgumentException.class, () -> builder.windowSize(Integer.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> builder.minimumCalls(-1));
+        assertThrows(IllegalArgumentException.class, () -> builder.probes(0));
+        assertThrows(IllegalArgumentException.class, () -> builder.errorRate(0));
+        assertThrows(IllegalArgumentException.class, () -> builder.errorRate(1.5));
+        assertThrows(IllegalArgumentException.class, () -> builder.openDuration(Duration.ofSeconds(-1)));
+        assertEquals(CircuitBreaker.State.CLOSED, builder.build().state());
+        assertEquals(CircuitBreaker.State.CLOSED, builder.windowSize(1).build().state());
+    }
+}
@@ -0,0 +1,130 @@
+package dev.wscp.monadics.result;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncResultTest {
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(2);
+
+    @AfterAll
+    static void shutdown() {
+        EXECUTOR.shutdownNow();
+    }
+
+    @Test
+    void runCatchingAsync() {
+        assertEquals(Result.okOf(3), AsyncResult.runCatchingAsync(() -> 3, EXECUTOR).join());
+
+        var failure = new IllegalStateException("boom");
+        var result = AsyncResult.runCatchingAsync(() -> { throw failure; }, EXECUTOR).join();
+        assertEquals(Result.errOf(failure), result);
+    }
+
+    @Test
+    void mapAndThen() {
+        var result = AsyncResult.supplyAsync(() -> Result.<Integer, String>okOf(2), EXECUTOR, Throwable::getMessage)
+                .map(it -> it * 10)
+                .andThen(it -> it > 10 ? Result.okOf(it + 1) : Result.errOf("small"))
+                .join();
+        assertEquals(Result.okOf(21), result);
+
+        var err = AsyncResult.completed(Result.<Integer, String>okOf(1), EXECUTOR, Throwable::getMessage)
+                .andThen(it -> Result.<Integer, String>errOf("small"))
+                .map(it -> it * 10)
+                .join();
+        assertEquals(Result.errOf("small"), err);
+    }
+
+    @Test
+    void thrownExceptionsBecomeErr() {
+        var result = AsyncResult.completed(Result.<Integer, String>okOf(1), EXECUTOR, Throwable::getMessage)
+                .<Integer>map(it -> { throw new IllegalArgumentException("bad " + it); })
+                .map(it -> it + 1)
+                .join();
+        assertEquals(Result.errOf("bad 1"), result);
+    }
+
+    @Test
+    void mapErrorComposesExceptionHandler() {
+        var result = AsyncResult.completed(Result.<Integer, String>errOf("abc"), EXECUTOR, Throwable::getMessage)
+                .mapError(String::length)
+                .<Integer>map(it -> { throw new IllegalStateException("four"); })
+                .join();
+        assertEquals(Result.errOf(3), result);
+
+        var thrown = AsyncResult.completed(Result.<Integer, String>okOf(1), EXECUTOR, Throwable::getMessage)
+                .mapError(String::length)
+                .<Integer>map(it -> { throw new IllegalStateException("four"); })
+                .join();
+        assertEquals(Result.errOf(4), thrown);
+    }
+
+    @Test
+    void orElse() {
+        var recovered = AsyncResult.completed(Result.<Integer, String>errOf("abc"), EXECUTOR, Throwable::getMessage)
+                .orElse(it -> Result.okOf(it.length()))
+                .join();
+        assertEquals(Result.okOf(3), recovered);
+
+        var changed = AsyncResult.completed(Result.<Integer, String>errOf("abc"), EXECUTOR, Throwable::getMessage)
+                .orElse(it -> Result.<Integer, Integer>errOf(it.length()), (t) -> -1)
+                .<Integer>map(it -> { throw new IllegalStateException(); })
+                .join();
+        assertEquals(Result.errOf(3), changed);
+    }
+
+    @Test
+    void andThenAsync() {
+        var start = AsyncResult.completed(Result.<Integer, String>okOf(2), EXECUTOR, Throwable::getMessage);
+        var result = start
+                .andThenAsync(it -> AsyncResult.supplyAsync(() -> Result.okOf(it * 3), EXECUTOR, Throwable::getMessage))
+                .join();
+        assertEquals(Result.okOf(6), result);
+
+        var err = AsyncResult.completed(Result.<Integer, String>errOf("no"), EXECUTOR, Throwable::getMessage)
+                .andThenAsync(it -> fail("should not run"))
+                .join();
+        assertEquals(Result.errOf("no"), err);
+
+        var thrown = start.<Integer>andThenAsync(it -> { throw new IllegalStateException("thrown"); }).join();
+        assertEquals(Result.errOf("thrown"), thrown);
+    }
+
+    @Test
+    void fromFuture() {
+        var failure = new IllegalStateException("failed");
+        assertEquals(Result.okOf("a"), AsyncResult.fromFuture(CompletableFuture.completedFuture("a"), EXECUTOR).join());
+        assertEquals(Result.errOf(failure), AsyncResult.fromFuture(CompletableFuture.failedFuture(failure), EXECUTOR).join());
+
+        var unwrapped = AsyncResult.fromFuture(CompletableFuture.supplyAsync(() -> { throw failure; }, EXECUTOR), EXECUTOR).join();
+        assertEquals(Result.errOf(failure), unwrapped);
+
+        var results = AsyncResult.fromResultFuture(CompletableFuture.<Result<String, String>>failedFuture(failure), EXECUTOR, Throwable::getMessage);
+        assertEquals(Result.errOf("failed"), results.join());
+    }
+
+    @Test
+    void stagesSeeFailuresOfTheUnderlyingFuture() {
+        var future = new CompletableFuture<Result<Integer, String>>();
+        var result = AsyncResult.fromResultFuture(future, EXECUTOR, Throwable::getMessage)
+                .withExecutor(Runnable::run)
+                .map(it -> it + 1);
+        future.completeExceptionally(new IllegalStateException("late"));
+        assertEquals(Result.errOf("late"), result.join());
+        assertTrue(result.toCompletableFuture().isDone());
+    }
+
+    @Test
+    void bind() {
+        var first = AsyncResult.runCatchingAsync(() -> 1, EXECUTOR).mapError(Throwable::getMessage);
+        var second = AsyncResult.completed(Result.<Integer, String>errOf("second"), EXECUTOR, Throwable::getMessage);
+        assertEquals(Result.okOf(1), Result.binding(String.class, first::bind));
+        assertEquals(Result.errOf("second"), Result.binding(String.class, () -> first.bind() + second.bind()));
+    }
+}
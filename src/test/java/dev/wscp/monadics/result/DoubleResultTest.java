@@ -0,0 +1,116 @@
+package dev.wscp.monadics.result;
+
+import dev.wscp.monadics.util.UnwrapException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DoubleResultTest {
+    @Test
+    void unwrap() {
+        DoubleResult<String> ok = DoubleResult.okOf(3.0);
+        assertEquals(3.0, ok.unwrap());
+        assertTrue(ok.isOk());
+        assertThrows(UnwrapException.class, ok::unwrapError);
+        assertNull(ok.unwrapErrorOrNull());
+
+        DoubleResult<String> err = DoubleResult.errOf("bad");
+        assertTrue(err.isErr());
+        assertThrows(UnwrapException.class, err::unwrap);
+        assertEquals("bad", err.unwrapError());
+        assertEquals("bad", err.unwrapErrorOrNull());
+        assertEquals(4.0, err.unwrapOrDefault(4.0));
+        assertEquals(3.0, ok.unwrapOrDefault(4.0));
+        assertThrows(NullPointerException.class, () -> DoubleResult.errOf(null));
+        assertNull(DoubleResult.errOfNullable(null).error());
+    }
+
+    @Test
+    void unwrapAttachesExceptionErrors() {
+        var cause = new IllegalStateException("bad");
+        var thrown = assertThrows(UnwrapException.class, DoubleResult.errOf(cause)::unwrap);
+        assertSame(cause, thrown.getSuppressed()[0]);
+        assertNull(thrown.getCause());
+        assertEquals(0, assertThrows(UnwrapException.class, DoubleResult.errOf("bad")::unwrap).getSuppressed().length);
+    }
+
+    @Test
+    void map() {
+        DoubleResult<String> ok = DoubleResult.okOf(3.0);
+        assertEquals(DoubleResult.okOf(4.0), ok.map(it -> it + 1.0));
+        assertEquals(IntResult.okOf(4), ok.mapToInt(it -> (int) it + 1));
+        assertEquals(LongResult.okOf(4L), ok.mapToLong(it -> (long) it + 1L));
+        assertEquals(Result.okOf("3.0"), ok.mapToObj(String::valueOf));
+
+        DoubleResult<String> err = DoubleResult.errOf("bad");
+        assertSame(err, err.map(it -> it + 1.0));
+        assertEquals("bad", err.mapToObj(String::valueOf).unwrapError());
+        assertEquals("bad", err.mapToInt(it -> (int) it).unwrapError());
+        assertEquals("bad", err.mapToLong(it -> (long) it).unwrapError());
+    }
+
+    @Test
+    void mapError() {
+        DoubleResult<String> ok = DoubleResult.okOf(3.0);
+        assertSame(ok, ok.mapError(String::length));
+        assertEquals(3, DoubleResult.errOf("bad").mapError(String::length).unwrapError());
+    }
+
+    @Test
+    void andThen() {
+        DoubleResult<String> ok = DoubleResult.okOf(3.0);
+        assertEquals(4.0, ok.andThen(it -> DoubleResult.okOf(it + 1.0)).unwrap());
+        assertEquals("bad", ok.andThen(it -> DoubleResult.errOf("bad")).unwrapError());
+
+        DoubleResult<String> err = DoubleResult.errOf("bad");
+        assertSame(err, err.andThen(it -> DoubleResult.okOf(it)));
+    }
+
+    @Test
+    void orElse() {
+        DoubleResult<String> err = DoubleResult.errOf("bad");
+        assertEquals(3.0, err.orElse(it -> DoubleResult.okOf(3.0)).unwrap());
+
+        DoubleResult<String> ok = DoubleResult.okOf(3.0);
+        assertSame(ok, ok.orElse(it -> DoubleResult.errOf(4)));
+    }
+
+    @Test
+    void binding() {
+        DoubleResult<String> ok = DoubleResult.okOf(3.0);
+        DoubleResult<String> err = DoubleResult.errOf("bad");
+        Result<String, String> boxed = Result.okOf("x");
+
+        assertEquals(4.0, DoubleResult.binding(String.class, () -> ok.bind() + boxed.bind().length()).unwrap());
+        assertEquals("bad", DoubleResult.binding(String.class, () -> ok.bind() + err.bind()).unwrapError());
+        assertEquals("bad", Result.binding(String.class, () -> boxed.bind() + err.bind()).unwrapError());
+    }
+
+    @Test
+    void conversions() {
+        DoubleResult<String> ok = DoubleResult.okOf(3.0);
+        DoubleResult<String> err = DoubleResult.errOf("bad");
+
+        assertEquals(Result.okOf(3.0), ok.toResult());
+        assertEquals(Result.errOf("bad"), err.toResult());
+        assertEquals(ok, DoubleResult.fromResult(ok.toResult()));
+        assertEquals(err, DoubleResult.fromResult(err.toResult()));
+        assertThrows(NullPointerException.class, () -> DoubleResult.fromResult(Result.okOfNullable(null)));
+        assertEquals(3.0, ok.ok().unwrap());
+        assertTrue(err.ok().isNone());
+    }
+
+    @Test
+    void toStream() {
+        assertArrayEquals(new double[] {3.0}, DoubleResult.okOf(3.0).toStream().toArray());
+        assertEquals(0, DoubleResult.errOf("bad").toStream().count());
+    }
+
+    @Test
+    void forEach() {
+        var results = List.of(DoubleResult.<String>okOf(3.0), DoubleResult.<String>errOf("bad"));
+        assertArrayEquals(new double[] {3.0}, results.stream().mapMultiToDouble(DoubleResult::forEach).toArray());
+    }
+}
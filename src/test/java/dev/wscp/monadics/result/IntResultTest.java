@@ -0,0 +1,116 @@
+package dev.wscp.monadics.result;
+
+import dev.wscp.monadics.util.UnwrapException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntResultTest {
+    @Test
+    void unwrap() {
+        IntResult<String> ok = IntResult.okOf(3);
+        assertEquals(3, ok.unwrap());
+        assertTrue(ok.isOk());
+        assertThrows(UnwrapException.class, ok::unwrapError);
+        assertNull(ok.unwrapErrorOrNull());
+
+        IntResult<String> err = IntResult.errOf("bad");
+        assertTrue(err.isErr());
+        assertThrows(UnwrapException.class, err::unwrap);
+        assertEquals("bad", err.unwrapError());
+        assertEquals("bad", err.unwrapErrorOrNull());
+        assertEquals(4, err.unwrapOrDefault(4));
+        assertEquals(3, ok.unwrapOrDefault(4));
+        assertThrows(NullPointerException.class, () -> IntResult.errOf(null));
+        assertNull(IntResult.errOfNullable(null).error());
+    }
+
+    @Test
+    void unwrapAttachesExceptionErrors() {
+        var cause = new IllegalStateException("bad");
+        var thrown = assertThrows(UnwrapException.class, IntResult.errOf(cause)::unwrap);
+        assertSame(cause, thrown.getSuppressed()[0]);
+        assertNull(thrown.getCause());
+        assertEquals(0, assertThrows(UnwrapException.class, IntResult.errOf("bad")::unwrap).getSuppressed().length);
+    }
+
+    @Test
+    void map() {
+        IntResult<String> ok = IntResult.okOf(3);
+        assertEquals(IntResult.okOf(4), ok.map(it -> it + 1));
+        assertEquals(LongResult.okOf(4L), ok.mapToLong(it -> it + 1L));
+        assertEquals(DoubleResult.okOf(4.0), ok.mapToDouble(it -> it + 1.0));
+        assertEquals(Result.okOf("3"), ok.mapToObj(String::valueOf));
+
+        IntResult<String> err = IntResult.errOf("bad");
+        assertSame(err, err.map(it -> it + 1));
+        assertEquals("bad", err.mapToObj(String::valueOf).unwrapError());
+        assertEquals("bad", err.mapToLong(it -> it).unwrapError());
+        assertEquals("bad", err.mapToDouble(it -> it).unwrapError());
+    }
+
+    @Test
+    void mapError() {
+        IntResult<String> ok = IntResult.okOf(3);
+        assertSame(ok, ok.mapError(String::length));
+        assertEquals(3, IntResult.errOf("bad").mapError(String::length).unwrapError());
+    }
+
+    @Test
+    void andThen() {
+        IntResult<String> ok = IntResult.okOf(3);
+        assertEquals(4, ok.andThen(it -> IntResult.okOf(it + 1)).unwrap());
+        assertEquals("bad", ok.andThen(it -> IntResult.errOf("bad")).unwrapError());
+
+        IntResult<String> err = IntResult.errOf("bad");
+        assertSame(err, err.andThen(it -> IntResult.okOf(it)));
+    }
+
+    @Test
+    void orElse() {
+        IntResult<String> err = IntResult.errOf("bad");
+        assertEquals(3, err.orElse(it -> IntResult.okOf(3)).unwrap());
+
+        IntResult<String> ok = IntResult.okOf(3);
+        assertSame(ok, ok.orElse(it -> IntResult.errOf(4)));
+    }
+
+    @Test
+    void binding() {
+        IntResult<String> ok = IntResult.okOf(3);
+        IntResult<String> err = IntResult.errOf("bad");
+        Result<String, String> boxed = Result.okOf("x");
+
+        assertEquals(4, IntResult.binding(String.class, () -> ok.bind() + boxed.bind().length()).unwrap());
+        assertEquals("bad", IntResult.binding(String.class, () -> ok.bind() + err.bind()).unwrapError());
+        assertEquals("bad", Result.binding(String.class, () -> boxed.bind() + err.bind()).unwrapError());
+    }
+
+    @Test
+    void conversions() {
+        IntResult<String> ok = IntResult.okOf(3);
+        IntResult<String> err = IntResult.errOf("bad");
+
+        assertEquals(Result.okOf(3), ok.toResult());
+        assertEquals(Result.errOf("bad"), err.toResult());
+        assertEquals(ok, IntResult.fromResult(ok.toResult()));
+        assertEquals(err, IntResult.fromResult(err.toResult()));
+        assertThrows(NullPointerException.class, () -> IntResult.fromResult(Result.okOfNullable(null)));
+        assertEquals(3, ok.ok().unwrap());
+        assertTrue(err.ok().isNone());
+    }
+
+    @Test
+    void toStream() {
+        assertArrayEquals(new int[] {3}, IntResult.okOf(3).toStream().toArray());
+        assertEquals(0, IntResult.errOf("bad").toStream().count());
+    }
+
+    @Test
+    void forEach() {
+        var results = List.of(IntResult.<String>okOf(3), IntResult.<String>errOf("bad"));
+        assertArrayEquals(new int[] {3}, results.stream().mapMultiToInt(IntResult::forEach).toArray());
+    }
+}
@@ -0,0 +1,116 @@
+package dev.wscp.monadics.result;
+
+import dev.wscp.monadics.util.UnwrapException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongResultTest {
+    @Test
+    void unwrap() {
+        LongResult<String> ok = LongResult.okOf(3L);
+        assertEquals(3L, ok.unwrap());
+        assertTrue(ok.isOk());
+        assertThrows(UnwrapException.class, ok::unwrapError);
+        assertNull(ok.unwrapErrorOrNull());
+
+        LongResult<String> err = LongResult.errOf("bad");
+        assertTrue(err.isErr());
+        assertThrows(UnwrapException.class, err::unwrap);
+        assertEquals("bad", err.unwrapError());
+        assertEquals("bad", err.unwrapErrorOrNull());
+        assertEquals(4L, err.unwrapOrDefault(4L));
+        assertEquals(3L, ok.unwrapOrDefault(4L));
+        assertThrows(NullPointerException.class, () -> LongResult.errOf(null));
+        assertNull(LongResult.errOfNullable(null).error());
+    }
+
+    @Test
+    void unwrapAttachesExceptionErrors() {
+        var cause = new IllegalStateException("bad");
+        var thrown = assertThrows(UnwrapException.class, LongResult.errOf(cause)::unwrap);
+        assertSame(cause, thrown.getSuppressed()[0]);
+        assertNull(thrown.getCause());
+        assertEquals(0, assertThrows(UnwrapException.class, LongResult.errOf("bad")::unwrap).getSuppressed().length);
+    }
+
+    @Test
+    void map() {
+        LongResult<String> ok = LongResult.okOf(3L);
+        assertEquals(LongResult.okOf(4L), ok.map(it -> it + 1L));
+        assertEquals(IntResult.okOf(4), ok.mapToInt(it -> (int) it + 1));
+        assertEquals(DoubleResult.okOf(4.0), ok.mapToDouble(it -> it + 1.0));
+        assertEquals(Result.okOf("3"), ok.mapToObj(String::valueOf));
+
+        LongResult<String> err = LongResult.errOf("bad");
+        assertSame(err, err.map(it -> it + 1L));
+        assertEquals("bad", err.mapToObj(String::valueOf).unwrapError());
+        assertEquals("bad", err.mapToInt(it -> (int) it).unwrapError());
+        assertEquals("bad", err.mapToDouble(it -> it).unwrapError());
+    }
+
+    @Test
+    void mapError() {
+        LongResult<String> ok = LongResult.okOf(3L);
+        assertSame(ok, ok.mapError(String::length));
+        assertEquals(3, LongResult.errOf("bad").mapError(String::length).unwrapError());
+    }
+
+    @Test
+    void andThen() {
+        LongResult<String> ok = LongResult.okOf(3L);
+        assertEquals(4L, ok.andThen(it -> LongResult.okOf(it + 1L)).unwrap());
+        assertEquals("bad", ok.andThen(it -> LongResult.errOf("bad")).unwrapError());
+
+        LongResult<String> err = LongResult.errOf("bad");
+        assertSame(err, err.andThen(it -> LongResult.okOf(it)));
+    }
+
+    @Test
+    void orElse() {
+        LongResult<String> err = LongResult.errOf("bad");
+        assertEquals(3L, err.orElse(it -> LongResult.okOf(3L)).unwrap());
+
+        LongResult<String> ok = LongResult.okOf(3L);
+        assertSame(ok, ok.orElse(it -> LongResult.errOf(4)));
+    }
+
+    @Test
+    void binding() {
+        LongResult<String> ok = LongResult.okOf(3L);
+        LongResult<String> err = LongResult.errOf("bad");
+        Result<String, String> boxed = Result.okOf("x");
+
+        assertEquals(4L, LongResult.binding(String.class, () -> ok.bind() + boxed.bind().length()).unwrap());
+        assertEquals("bad", LongResult.binding(String.class, () -> ok.bind() + err.bind()).unwrapError());
+        assertEquals("bad", Result.binding(String.class, () -> boxed.bind() + err.bind()).unwrapError());
+    }
+
+    @Test
+    void conversions() {
+        LongResult<String> ok = LongResult.okOf(3L);
+        LongResult<String> err = LongResult.errOf("bad");
+
+        assertEquals(Result.okOf(3L), ok.toResult());
+        assertEquals(Result.errOf("bad"), err.toResult());
+        assertEquals(ok, LongResult.fromResult(ok.toResult()));
+        assertEquals(err, LongResult.fromResult(err.toResult()));
+        assertThrows(NullPointerException.class, () -> LongResult.fromResult(Result.okOfNullable(null)));
+        assertEquals(3L, ok.ok().unwrap());
+        assertTrue(err.ok().isNone());
+    }
+
+    @Test
+    void toStream() {
+        assertArrayEquals(new long[] {3L}, LongResult.okOf(3L).toStream().toArray());
+        assertEquals(0, LongResult.errOf("bad").toStream().count());
+    }
+
+    @Test
+    void forEach() {
+        var results = List.of(LongResult.<String>okOf(3L), LongResult.<String>errOf("bad"));
+        assertArrayEquals(new long[] {3L}, results.stream().mapMultiToLong(LongResult::forEach).toArray());
+    }
+}
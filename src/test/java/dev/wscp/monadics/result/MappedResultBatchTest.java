@@ -0,0 +1,129 @@
+package dev.wscp.monadics.result;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedResultBatchTest {
+    @TempDir
+    Path dir;
+
+    /**
+     * Every third element is an Err with a negative code. Chunks of 8 longs make the batch span many mappings.
+     */
+    private MappedResultBatch write(Path file, int size) throws IOException {
+        var builder = MappedResultBatch.create(file, size + 10, 3);
+        for (int i = 0; i < size; i++) {
+            if (i % 3 == 2) {
+                builder.addErr(-i);
+            } else {
+                builder.addOk(i * 1_000_000_000L);
+            }
+        }
+        assertEquals(size, builder.size());
+        return builder.build();
+    }
+
+    @Test
+    void countsAndAccess() throws IOException {
+        var batch = write(dir.resolve("batch"), 150);
+        assertEquals(150, batch.size());
+        assertEquals(100, batch.okCount());
+        assertEquals(50, batch.errCount());
+        assertTrue(batch.isOk(0));
+        assertFalse(batch.isOk(149));
+        assertEquals(LongResult.okOf(64_000_000_000L), batch.get(64));
+        assertEquals(LongResult.errOf(-65), batch.get(65));
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.get(150));
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.isOk(-1));
+    }
+
+    @Test
+    void reopensWithoutTheWriter() throws IOException {
+        var file = dir.resolve("batch");
+        var written = write(file, 200);
+        for (int shift : new int[]{3, 27}) {
+            var reopened = MappedResultBatch.open(file, shift);
+            assertEquals(200, reopened.size());
+            for (int i = 0; i < 200; i++) {
+                assertEquals(written.get(i), reopened.get(i));
+            }
+        }
+        assertEquals(200, MappedResultBatch.open(file).size());
+    }
+
+    @Test
+    void forEachOkAndErr() throws IOException {
+        var batch = write(dir.resolve("batch"), 130);
+        var oks = new ArrayList<Long>();
+        var errs = new ArrayList<Integer>();
+        batch.forEachOk(oks::add);
+        batch.forEachErr(errs::add);
+        assertEquals(87, oks.size());
+        assertEquals(List.of(0L, 1_000_000_000L, 3_000_000_000L), oks.subList(0, 3));
+        assertEquals(43, errs.size());
+        assertEquals(List.of(-2, -5, -8), errs.subList(0, 3));
+        assertEquals(-128, errs.get(errs.size() - 1));
+    }
+
+    @Test
+    void fullWordsAndEmptyBatches() throws IOException {
+        var builder = MappedResultBatch.create(dir.resolve("full"), 128);
+        for (int i = 0; i < 128; i++) {
+            builder.add(i < 64 ? LongResult.okOf(i) : LongResult.errOf(i));
+        }
+        var batch = builder.build();
+        assertEquals(64, batch.okCount());
+        assertEquals(LongResult.okOf(63), batch.get(63));
+        assertEquals(LongResult.errOf(64), batch.get(64));
+
+        var empty = MappedResultBatch.create(dir.resolve("empty"), 0).build();
+        assertEquals(0, empty.size());
+        assertEquals(0, MappedResultBatch.open(dir.resolve("empty")).okCount());
+    }
+
+    @Test
+    void anUnbuiltBatchReopensEmpty() throws IOException {
+        var file = dir.resolve("batch");
+        MappedResultBatch.create(file, 100).addOk(1).addErr(2);
+        assertEquals(0, MappedResultBatch.open(file).size());
+    }
+
+    @Test
+    void builderLimits() throws IOException {
+        assertThrows(IllegalArgumentException.class, () -> MappedResultBatch.create(dir.resolve("negative"), -1));
+        assertThrows(IllegalArgumentException.class, () -> MappedResultBatch.create(dir.resolve("huge"), 1L << 58));
+        assertThrows(IllegalArgumentException.class, () -> MappedResultBatch.create(dir.resolve("huge"), MappedResultBatch.maxCapacity(27) + 1));
+        assertThrows(IllegalArgumentException.class, () -> MappedResultBatch.create(dir.resolve("huge"), MappedResultBatch.maxCapacity(3) + 1, 3));
+        var builder = MappedResultBatch.create(dir.resolve("batch"), 1);
+        assertThrows(IllegalArgumentException.class, () -> builder.add(LongResult.errOfNullable(null)));
+        assertEquals(0, builder.size());
+        builder.addOk(1);
+        assertThrows(IllegalStateException.class, () -> builder.addErr(2));
+        builder.build();
+        assertThrows(IllegalStateException.class, builder::build);
+        assertThrows(IllegalStateException.class, () -> builder.addOk(3));
+    }
+
+    @Test
+    void rejectsFilesThatAreNotBatches() throws IOException {
+        var tooShort = Files.write(dir.resolve("short"), new byte[8]);
+        assertThrows(IOException.class, () -> MappedResultBatch.open(tooShort));
+        var garbage = Files.write(dir.resolve("garbage"), new byte[64]);
+        assertThrows(IOException.class, () -> MappedResultBatch.open(garbage));
+
+        var truncated = dir.resolve("truncated");
+        write(truncated, 100);
+        var bytes = Files.readAllBytes(truncated);
+        Files.write(truncated, Arrays.copyOf(bytes, bytes.length - 8));
+        assertThrows(IOException.class, () -> MappedResultBatch.open(truncated));
+    }
+}
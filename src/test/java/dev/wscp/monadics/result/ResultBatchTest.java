@@ -0,0 +1,101 @@
+package dev.wscp.monadics.result;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResultBatchTest {
+    /**
+     * Every third element is an Err, so the batch spans several bitmap words with Errs scattered through them.
+     */
+    private static ResultBatch<Integer, String> sample(int size) {
+        var builder = ResultBatch.<Integer, String>builder(4);
+        for (int i = 0; i < size; i++) {
+            if (i % 3 == 2) {
+                builder.addErr("e" + i);
+            } else {
+                builder.addOk(i);
+            }
+        }
+        return builder.build();
+    }
+
+    @Test
+    void countsAndAccess() {
+        var batch = sample(150);
+        assertEquals(150, batch.size());
+        assertEquals(100, batch.okCount());
+        assertEquals(50, batch.errCount());
+        assertTrue(batch.isOk(0));
+        assertFalse(batch.isOk(149));
+        assertEquals(Result.okOf(64), batch.get(64));
+        assertEquals(Result.errOf("e65"), batch.get(65));
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.get(150));
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.isOk(-1));
+    }
+
+    @Test
+    void mapAndMapError() {
+        var batch = sample(130);
+        var mapped = batch.map(it -> it * 2);
+        var errorsMapped = batch.mapError(String::length);
+        for (int i = 0; i < 130; i++) {
+            assertEquals(batch.get(i).map(it -> it * 2), mapped.get(i));
+            assertEquals(batch.get(i).mapError(String::length), errorsMapped.get(i));
+        }
+        assertEquals(Result.okOf(0), batch.get(0));
+    }
+
+    @Test
+    void forEachOkSkipsErrs() {
+        var batch = sample(200);
+        var seen = new ArrayList<Integer>();
+        batch.forEachOkIndexed((value, index) -> {
+            assertEquals(value, index);
+            seen.add(value);
+        });
+        assertEquals(batch.oks(), seen);
+        assertEquals(batch.okCount(), seen.size());
+        var sum = new int[1];
+        batch.forEachOk(value -> sum[0] += value);
+        assertEquals(seen.stream().mapToInt(Integer::intValue).sum(), sum[0]);
+        assertEquals(66, batch.errCount());
+        assertEquals(batch.errCount(), batch.errors().size());
+    }
+
+    @Test
+    void listConversions() {
+        List<Result<Integer, String>> results = List.of(Result.okOf(1), Result.errOf("bad"), Result.okOf(3));
+        var batch = ResultBatch.fromList(results);
+        assertEquals(results, batch.toList());
+        assertEquals(List.of(1, 3), batch.oks());
+        assertEquals(List.of("bad"), batch.errors());
+        assertEquals(Result.errOf("bad"), batch.sequence());
+
+        var allOk = ResultBatch.fromList(List.of(Result.<Integer, String>okOf(1), Result.okOf(2)));
+        assertEquals(Result.okOf(List.of(1, 2)), allOk.sequence());
+        assertEquals(Result.okOf(List.of()), ResultBatch.<Integer, String>builder().build().sequence());
+    }
+
+    @Test
+    void sequenceFindsErrsPastTheFirstWord() {
+        var builder = ResultBatch.<Integer, String>builder();
+        for (int i = 0; i < 100; i++) {
+            builder.add(i == 70 ? Result.errOf("late") : Result.okOf(i));
+        }
+        assertEquals(Result.errOf("late"), builder.build().sequence());
+    }
+
+    @Test
+    void buildsOnce() {
+        assertThrows(IllegalArgumentException.class, () -> ResultBatch.builder(-1));
+        var builder = ResultBatch.<Integer, String>builder(0).addOk(null);
+        var batch = builder.build();
+        assertEquals(Result.okOfNullable(null), batch.get(0));
+        assertThrows(IllegalStateException.class, builder::build);
+        assertThrows(IllegalStateException.class, () -> builder.addOk(1));
+    }
+}
@@ -0,0 +1,75 @@
+package dev.wscp.monadics.result;
+
+import dev.wscp.monadics.option.Option;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResultCollectorsTest {
+    /**
+     * Multiples of 10 are errors, everything else is Ok.
+     */
+    private static Stream<Result<Integer, String>> results(boolean parallel) {
+        var stream = IntStream.range(1, 10_000)
+                .<Result<Integer, String>>mapToObj((it) -> it % 10 == 0 ? Result.<Integer, String>errOf("e" + it) : Result.<Integer, String>okOf(it));
+        return parallel ? stream.parallel() : stream;
+    }
+
+    @Test
+    void partitioning() {
+        for (boolean parallel : List.of(false, true)) {
+            var partition = results(parallel).collect(ResultCollectors.partitioning());
+            assertEquals(9_000, partition.oks().size());
+            assertEquals(999, partition.errs().size());
+            assertEquals(List.of(1, 2, 3), partition.oks().subList(0, 3));
+            assertEquals(List.of("e10", "e20"), partition.errs().subList(0, 2));
+        }
+    }
+
+    @Test
+    void toResultList() {
+        for (boolean parallel : List.of(false, true)) {
+            assertEquals("e10", results(parallel).collect(ResultCollectors.toResultList()).unwrapError());
+
+            var oks = IntStream.range(0, 10_000).mapToObj(Result::<Integer, String>okOf);
+            var collected = (parallel ? oks.parallel() : oks).collect(ResultCollectors.toResultList());
+            assertEquals(IntStream.range(0, 10_000).boxed().toList(), collected.unwrap());
+        }
+    }
+
+    @Test
+    void firstError() {
+        for (boolean parallel : List.of(false, true)) {
+            assertEquals(Option.someOf("e10"), results(parallel).collect(ResultCollectors.firstError()));
+        }
+        assertEquals(Option.none(), Stream.of(Result.<Integer, String>okOf(1)).collect(ResultCollectors.firstError()));
+    }
+
+    @Test
+    void counting() {
+        for (boolean parallel : List.of(false, true)) {
+            var counts = results(parallel).collect(ResultCollectors.counting());
+            assertEquals(new ResultCollectors.Counts(9_000, 999), counts);
+            assertEquals(9_999, counts.total());
+        }
+    }
+
+    @Test
+    void groupingErrors() {
+        for (boolean parallel : List.of(false, true)) {
+            Map<Integer, List<String>> byLength = results(parallel).collect(ResultCollectors.groupingErrors(String::length));
+            assertEquals(List.of(3, 4, 5), byLength.keySet().stream().sorted().toList());
+            assertEquals(9, byLength.get(3).size());
+            assertEquals(List.of("e100", "e110"), byLength.get(4).subList(0, 2));
+
+            Map<Integer, Long> counted = results(parallel).collect(ResultCollectors.groupingErrors(String::length, Collectors.counting()));
+            assertEquals(Map.of(3, 9L, 4, 90L, 5, 900L), counted);
+        }
+    }
+}
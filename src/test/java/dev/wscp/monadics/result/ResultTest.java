@@ -2,11 +2,31 @@ package dev.wscp.monadics.result;
 
 import dev.wscp.monadics.option.None;
 import dev.wscp.monadics.option.Some;
+import dev.wscp.monadics.util.ExceptionPolicy;
+import dev.wscp.monadics.util.ResultBindingException;
+import dev.wscp.monadics.util.ThrowingFunction;
+import dev.wscp.monadics.util.ThrowingRunnable;
+import dev.wscp.monadics.util.ThrowingSupplier;
 import dev.wscp.monadics.util.UnwrapException;
+import dev.wscp.monadics.util.Unit;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -25,6 +45,21 @@ class ResultTest {
         assertThrows(UnwrapException.class, res3::unwrap);
     }
 
+    @Test
+    void unwrapWithPolicy() {
+        Result<String, Integer> err = Result.errOf(3);
+        var stackless = assertThrows(UnwrapException.class, () -> err.unwrapWith(ExceptionPolicy.STACKLESS));
+        assertEquals(0, stackless.getStackTrace().length);
+        assertEquals("Attempted to unwrap an error value 3", stackless.getMessage());
+        var full = assertThrows(UnwrapException.class, () -> err.unwrapWith(ExceptionPolicy.FULL));
+        assertNotEquals(0, full.getStackTrace().length);
+        assertEquals("e", Result.okOf("e").unwrapWith(ExceptionPolicy.STACKLESS));
+
+        var okError = assertThrows(UnwrapException.class, () -> Result.okOf("e").unwrapErrorWith(ExceptionPolicy.STACKLESS));
+        assertEquals(0, okError.getStackTrace().length);
+        assertEquals(3, err.unwrapErrorWith(ExceptionPolicy.STACKLESS));
+    }
+
     @Test
     void unwrapErr() {
         Result<String, Integer> res1 = Result.okOf("e");
@@ -104,12 +139,71 @@ class ResultTest {
         assertNull(Result.<Integer, Object>errOfNullable(null).error());
     }
 
+    @Test
+    void flyweights() {
+        assertSame(Result.okOfBoolean(true), Result.okOfBoolean(true));
+        assertEquals(Result.okOf(false), Result.okOfBoolean(false));
+        assertSame(Result.okOfInt(-128), Result.okOfInt(-128));
+        assertSame(Result.okOfInt(127), Result.okOfInt(127));
+        assertEquals(Result.okOf(128), Result.okOfInt(128));
+        assertSame(Result.okUnit(), Result.okUnit());
+        assertEquals(Unit.INSTANCE, Result.okUnit().unwrap());
+        assertEquals("()", Unit.INSTANCE.toString());
+
+        Result<String, TimeUnit> err = Result.errOfEnum(TimeUnit.SECONDS);
+        assertSame(err, Result.errOfEnum(TimeUnit.SECONDS));
+        assertEquals(Result.errOf(TimeUnit.SECONDS), err);
+        assertNotEquals(err, Result.errOfEnum(TimeUnit.DAYS));
+        assertThrows(NullPointerException.class, () -> Result.errOfEnum(null));
+        assertTrue(switch (err) {
+            case Err(TimeUnit unit) -> unit == TimeUnit.SECONDS;
+            case Ok<String, TimeUnit> ok -> false;
+        });
+    }
+
     @Test
     void runCatching() {
         assertEquals(new Ok<>(""), Result.runCatching(() -> ""));
         assertEquals(ArithmeticException.class, Result.runCatching(() -> 1 / (10 - 10)).unwrapError().getClass());
     }
 
+    private static String readChecked(String value) throws IOException {
+        if (value.isEmpty()) {
+            throw new IOException("empty");
+        }
+        return value;
+    }
+
+    @Test
+    void tryCatching() {
+        assertEquals(Result.okOf("a"), Result.tryCatching(() -> readChecked("a")));
+        assertInstanceOf(IOException.class, Result.tryCatching(() -> readChecked("")).unwrapError());
+
+        var counter = new AtomicInteger();
+        assertSame(Result.okUnit(), Result.tryCatching(() -> { counter.incrementAndGet(); }));
+        assertEquals(1, counter.get());
+        assertSame(Result.okUnit(), Result.tryCatching(() -> { readChecked("a"); }));
+        assertInstanceOf(IOException.class, Result.tryCatching(() -> { readChecked(""); }).unwrapError());
+
+        Result<String, IOException> typed = Result.tryCatching(IOException.class, () -> readChecked(""));
+        assertEquals("empty", typed.unwrapError().getMessage());
+        assertEquals("a", Result.tryCatching(IOException.class, () -> readChecked("a")).unwrap());
+        assertThrows(ArithmeticException.class, () -> Result.tryCatching(IOException.class, () -> 1 / (10 - 10)));
+    }
+
+    @Test
+    void throwingInterfacesRethrowUnchanged() {
+        ThrowingSupplier<String, IOException> supplier = () -> readChecked("");
+        ThrowingFunction<String, String, IOException> function = ResultTest::readChecked;
+        ThrowingRunnable<IOException> runnable = () -> readChecked("");
+        assertThrows(IOException.class, supplier::get);
+        assertThrows(IOException.class, () -> function.apply(""));
+        assertThrows(IOException.class, runnable::run);
+        assertEquals("a", function.apply("a"));
+        assertEquals("a", ((ThrowingSupplier<String, IOException>) () -> readChecked("a")).get());
+        assertDoesNotThrow(((ThrowingRunnable<IOException>) () -> readChecked("a"))::run);
+    }
+
     @Test
     void unwrapOrDefault() {
         assertEquals(10, Result.okOf(10).unwrapOrDefault(3));
@@ -161,6 +255,23 @@ class ResultTest {
         assertEquals(2, Result.errOf(2).orElseRunCatching(Throwable.class, (it) -> it.toString().length() / 0).unwrapOrDefault(2));
     }
 
+    @Test
+    void tryCatchingChains() {
+        var read = Result.<String, String>okOf("a").andThenTryCatching(ResultTest::readChecked);
+        assertEquals("a", read.unwrap());
+        var failed = Result.<String, String>okOf("").andThenTryCatching(ResultTest::readChecked, IllegalStateException::new);
+        assertInstanceOf(IOException.class, failed.unwrapError());
+
+        Result<String, IOException> recovered = Result.<String, String>errOf("b").orElseTryCatching(IOException.class, ResultTest::readChecked);
+        assertEquals("b", recovered.unwrap());
+        Result<String, IOException> stillFailed = Result.<String, String>errOf("").orElseTryCatching(IOException.class, ResultTest::readChecked);
+        assertEquals("empty", stillFailed.unwrapError().getMessage());
+        var ok = Result.<String, String>okOf("c");
+        assertSame(ok, ok.orElseTryCatching(IOException.class, ResultTest::readChecked));
+        assertThrows(ArithmeticException.class, () -> Result.<Integer, Integer>errOf(0).orElseTryCatching(IOException.class, (Integer it) -> 1 / it));
+        assertThrows(ClassCastException.class, () -> Result.<Integer, Integer>errOf(0).orElseRunCatching(IOException.class, (Integer it) -> 1 / it));
+    }
+
     @Test
     void swap() {
         Result<Integer, ?> res1 = Result.okOf(3);
@@ -193,6 +304,57 @@ class ResultTest {
         assertEquals("4", res2.unwrap());
     }
 
+    @Test
+    void nestedBinding() {
+        Result<String, Integer> bad = Result.errOf(3);
+        Result<String, Integer> good = Result.okOf("2");
+
+        Result<String, Integer> res = Result.binding(Integer.class, () -> {
+            var inner = Result.binding(Integer.class, bad::bind);
+            assertEquals(3, inner.unwrapError());
+            return good.bind() + inner.orElse((it) -> Result.okOf(it.toString())).bind();
+        });
+        assertEquals("23", res.unwrap());
+
+        Result<String, Integer> outer = Result.binding(Integer.class, () -> {
+            Result.binding(Integer.class, good::bind).bind();
+            return bad.bind();
+        });
+        assertEquals(3, outer.unwrapError());
+    }
+
+    @Test
+    void bindingEscapeIsStackless() {
+        Result<String, Integer> res = Result.errOf(3);
+        var first = assertThrows(ResultBindingException.class, res::bind);
+        var second = assertThrows(ResultBindingException.class, res::bind);
+
+        assertNotSame(first, second);
+        assertEquals(0, first.getStackTrace().length);
+        assertEquals(3, first.originalErr);
+        var suppressed = new IllegalStateException();
+        first.addSuppressed(suppressed);
+        assertArrayEquals(new Throwable[]{suppressed}, first.getSuppressed());
+        assertEquals(4, Result.binding(Integer.class, () -> Result.<String, Integer>errOf(4).bind()).unwrapError());
+    }
+
+    @Test
+    void bindingAcrossThreads() {
+        Result<Integer, Integer> parallel = Result.binding(Integer.class, () -> IntStream.range(0, 10_000)
+                .parallel()
+                .map(i -> i % 1000 == 999 ? Result.<Integer, Integer>errOf(i).bind() : i)
+                .sum());
+        assertEquals(999, parallel.unwrapError() % 1000);
+    }
+
+    @Test
+    void bindingRethrownException() {
+        Result<String, Integer> res = Result.binding(Integer.class, () -> {
+            throw new ResultBindingException("Manual escape.", null, 5);
+        });
+        assertEquals(5, res.unwrapError());
+    }
+
     @Test
     void toStream() {
         Result<String, Integer> res1 = Result.okOf("3");
@@ -212,4 +374,261 @@ class ResultTest {
             }).orElse((it) -> new Ok<>(it.toString())).unwrap();
         });
     }
-}
\ No newline at end of file
+
+    @Test
+    void sequence() {
+        List<Result<Integer, String>> oks = List.of(Result.okOf(1), Result.okOf(2), Result.okOf(3));
+        Result<Integer, String> bad = Result.errOf("bad");
+        List<Result<Integer, String>> mixed = List.of(Result.okOf(1), bad, Result.errOf("worse"));
+
+        assertEquals(List.of(1, 2, 3), Result.sequence(oks).unwrap());
+        assertSame(bad, Result.sequence(mixed));
+        assertEquals(List.of(1, 2, 3), Result.sequence(Result.<Integer, String>okOf(1), Result.okOf(2), Result.okOf(3)).unwrap());
+        assertSame(bad, Result.sequence(Result.okOf(1), bad, Result.errOf("worse")));
+        assertEquals(List.of(), Result.<Integer, String>sequence().unwrap());
+        assertEquals(List.of(1, 2, 3), Result.sequence(oks.iterator()).unwrap());
+        assertSame(bad, Result.sequence(mixed.iterator()));
+        assertEquals(List.of(), Result.sequence(List.<Result<Integer, String>>of()).unwrap());
+
+        Iterable<Result<Integer, String>> iterable = oks::iterator;
+        assertEquals(List.of(1, 2, 3), Result.sequence(iterable).unwrap());
+
+        var pulled = new AtomicInteger();
+        var stream = Stream.of(Result.<Integer, String>okOf(1), bad, Result.<Integer, String>okOf(3)).peek(it -> pulled.incrementAndGet());
+        assertSame(bad, Result.sequence(stream));
+        assertEquals(2, pulled.get());
+        assertEquals(List.of(1, 2, 3), Result.sequence(oks.stream()).unwrap());
+        assertThrows(UnsupportedOperationException.class, () -> Result.sequence(oks).unwrap().add(4));
+        assertThrows(UnsupportedOperationException.class, () -> Result.sequence(oks.stream()).unwrap().add(4));
+        assertThrows(UnsupportedOperationException.class, () -> Result.traverse(List.of("1"), Result::<String, String>okOf).unwrap().add(""));
+    }
+
+    @Test
+    void presizesFromExactlySizedSources() {
+        assertEquals(3, Traversals.capacity(List.of(1, 2, 3).spliterator()));
+        assertEquals(Traversals.DEFAULT_CAPACITY, Traversals.capacity(Stream.of(1, 2, 3).filter(it -> it > 1).spliterator()));
+        assertEquals(Traversals.DEFAULT_CAPACITY, Traversals.capacity(Stream.iterate(1, it -> it + 1).spliterator()));
+        assertEquals(Traversals.DEFAULT_CAPACITY, Traversals.capacity(LongStream.range(0, Long.MAX_VALUE).boxed().spliterator()));
+    }
+
+    @Test
+    void traverse() {
+        Function<String, Result<Integer, String>> parse = (it) -> it.chars().allMatch(Character::isDigit)
+                ? Result.okOf(Integer.parseInt(it))
+                : Result.errOf(it);
+        List<String> good = List.of("1", "22", "333");
+        List<String> bad = List.of("1", "x", "y");
+
+        assertEquals(List.of(1, 22, 333), Result.traverse(good, parse).unwrap());
+        assertEquals("x", Result.traverse(bad, parse).unwrapError());
+        assertEquals(List.of(1, 22, 333), Result.traverse(good.toArray(String[]::new), parse).unwrap());
+        assertEquals("x", Result.traverse(bad.toArray(String[]::new), parse).unwrapError());
+        assertEquals(List.of(1, 22, 333), Result.traverse(good.iterator(), parse).unwrap());
+        assertEquals(List.of(1, 22, 333), Result.traverse(good.stream(), parse).unwrap());
+
+        var calls = new AtomicInteger();
+        assertEquals("x", Result.traverse(bad.stream(), (String it) -> {
+            calls.incrementAndGet();
+            return parse.apply(it);
+        }).unwrapError());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void parallelTraverse() {
+        var items = IntStream.range(0, 100_000).boxed().toList();
+        var pool = new ForkJoinPool(4);
+        try {
+            var doubled = Result.parallelTraverse(items, (Integer it) -> Result.<Integer, Integer>okOf(it * 2), pool);
+            assertEquals(items.stream().map(it -> it * 2).toList(), doubled.unwrap());
+
+            for (int attempt = 0; attempt < 20; attempt++) {
+                var failed = Result.parallelTraverse(items, (Integer it) -> it % 7_919 == 7_918 ? Result.<Integer, Integer>errOf(it) : Result.okOf(it), pool);
+                assertEquals(7_918, failed.unwrapError());
+            }
+
+            assertEquals(List.of(), Result.parallelTraverse(List.<Integer>of(), (Integer it) -> Result.<Integer, Integer>okOf(it), pool).unwrap());
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(0, Result.parallelTraverse(items, (Integer it) -> Result.<Integer, Integer>errOf(it)).unwrapError());
+    }
+
+    @Test
+    void forEach() {
+        List<Result<Integer, String>> results = List.of(Result.okOf(1), Result.errOf("bad"), Result.okOf(2));
+        assertEquals(List.of(1, 2), results.stream().<Integer>mapMulti(Result::forEach).toList());
+        assertEquals(List.of("bad"), results.stream().<String>mapMulti(Result::forEachError).toList());
+    }
+
+    private static Supplier<Result<Integer, String>> sleeping(long millis, Result<Integer, String> result, CountDownLatch interrupted) {
+        return () -> {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                return Result.errOf("interrupted");
+            }
+            return result;
+        };
+    }
+
+    @Test
+    void allOf() {
+        var never = new CountDownLatch(1);
+        var values = Result.allOf(List.of(
+                sleeping(30, Result.okOf(1), never),
+                sleeping(0, Result.okOf(2), never),
+                sleeping(10, Result.okOf(3), never)));
+        assertEquals(List.of(1, 2, 3), values.unwrap());
+        assertEquals(List.of(), Result.<Integer, String>allOf(List.of()).unwrap());
+
+        var interrupted = new CountDownLatch(1);
+        var failed = Result.allOf(List.of(sleeping(60_000, Result.okOf(1), interrupted), sleeping(0, Result.errOf("bad"), never)));
+        assertEquals("bad", failed.unwrapError());
+        assertDoesNotThrow(() -> assertTrue(interrupted.await(10, TimeUnit.SECONDS)));
+
+        var timedOut = Result.allOf(List.of(sleeping(60_000, Result.okOf(1), new CountDownLatch(1))), Duration.ofMillis(20), () -> "timeout");
+        assertEquals("timeout", timedOut.unwrapError());
+
+        assertThrows(IllegalStateException.class, () -> Result.<Integer, String>allOf(List.of(() -> { throw new IllegalStateException(); })));
+    }
+
+    @Test
+    void firstOk() {
+        var never = new CountDownLatch(1);
+        var interrupted = new CountDownLatch(1);
+        var first = Result.firstOk(List.of(
+                sleeping(60_000, Result.okOf(1), interrupted),
+                sleeping(0, Result.errOf("bad"), never),
+                sleeping(10, Result.okOf(3), never)));
+        assertEquals(3, first.unwrap());
+        assertDoesNotThrow(() -> assertTrue(interrupted.await(10, TimeUnit.SECONDS)));
+
+        var failed = Result.firstOk(List.of(sleeping(20, Result.errOf("a"), never), sleeping(0, Result.errOf("b"), never)));
+        assertEquals(List.of("a", "b"), failed.unwrapError());
+        assertEquals(List.of(), Result.<Integer, String>firstOk(List.of()).unwrapError());
+
+        var timedOut = Result.firstOk(List.of(sleeping(60_000, Result.okOf(1), new CountDownLatch(1)), sleeping(0, Result.errOf("b"), never)), Duration.ofMillis(50), () -> "timeout");
+        assertEquals(List.of("b", "timeout"), timedOut.unwrapError());
+    }
+
+    @Test
+    void firstOkRacesOnPastThrowingTasks() {
+        var never = new CountDownLatch(1);
+        Supplier<Result<Integer, String>> throwing = () -> { throw new IllegalStateException("first"); };
+        Supplier<Result<Integer, String>> returningNull = () -> null;
+        assertEquals(2, Result.firstOk(List.of(throwing, returningNull, sleeping(20, Result.okOf(2), never))).unwrap());
+
+        var first = new IllegalStateException("first");
+        var later = new UnsupportedOperationException("later");
+        Supplier<Result<Integer, String>> throwingFirst = () -> { throw first; };
+        Supplier<Result<Integer, String>> throwingLater = () -> sleeping(20, Result.okOf(0), never).get().map(it -> { throw later; });
+        var failed = assertThrows(CompletionException.class, () -> Result.firstOk(List.of(throwingFirst, sleeping(20, Result.errOf("b"), never), throwingLater)));
+        assertEquals("2 tasks threw", failed.getMessage());
+        assertSame(first, failed.getCause());
+        assertArrayEquals(new Throwable[] {later}, failed.getSuppressed());
+        assertEquals(0, first.getSuppressed().length);
+        assertEquals(0, later.getSuppressed().length);
+        assertSame(first, assertThrows(IllegalStateException.class, () -> Result.firstOk(List.of(throwingFirst, sleeping(20, Result.errOf("b"), never)))));
+        assertThrows(AssertionError.class, () -> Result.<Integer, String>firstOk(List.of(() -> { throw new AssertionError(); })));
+    }
+
+    @Test
+    void fanOutRejectsNullResultsAndSaturatesHugeTimeouts() {
+        var npe = assertThrows(NullPointerException.class, () -> Result.<Integer, String>allOf(List.of(() -> null)));
+        assertTrue(npe.getMessage().contains("Task 0"));
+        var never = new CountDownLatch(1);
+        var values = Result.allOf(List.of(sleeping(0, Result.okOf(1), never)), Duration.ofSeconds(Long.MAX_VALUE), () -> "timeout");
+        assertEquals(List.of(1), values.unwrap());
+        assertEquals(1, Result.firstOk(List.of(sleeping(0, Result.okOf(1), never)), Duration.ofDays(365 * 1000), () -> "timeout").unwrap());
+        assertEquals(List.of("timeout"), Result.firstOk(List.of(sleeping(60_000, Result.okOf(1), new CountDownLatch(1))), Duration.ofSeconds(-1), () -> "timeout").unwrapError());
+    }
+
+    /**
+     * Only succeeds if every task sharing the latch is running at the same time.
+     */
+    private static Supplier<Result<Integer, String>> meeting(CountDownLatch latch, int value) {
+        return () -> {
+            latch.countDown();
+            try {
+                return latch.await(10, TimeUnit.SECONDS) ? Result.okOf(value) : Result.errOf("ran alone");
+            } catch (InterruptedException e) {
+                return Result.errOf("interrupted");
+            }
+        };
+    }
+
+    @Test
+    void bindingScopeJoinsForksThatIgnoreInterrupts() {
+        var finished = new AtomicInteger();
+        var started = new CountDownLatch(1);
+        var failed = Result.bindingScope(String.class, scope -> {
+            scope.fork(() -> {
+                started.countDown();
+                for (int i = 0; i < 5; i++) {
+                    try {
+                        Thread.sleep(10);
+                    } catch (InterruptedException ignored) {
+                        // Keeps going, as code that swallows interrupts would.
+                    }
+                }
+                finished.incrementAndGet();
+                return Result.okOf(1);
+            });
+            assertDoesNotThrow(() -> started.await());
+            return scope.fork(() -> Result.<Integer, String>errOf("bad")).bind();
+        });
+        assertEquals("bad", failed.unwrapError());
+        assertEquals(1, finished.get());
+    }
+
+    @Test
+    void bindingScopeRejectsForksAfterExit() {
+        var escaped = new AtomicReference<BindingScope<String>>();
+        Result.bindingScope(String.class, scope -> {
+            escaped.set(scope);
+            return 1;
+        });
+        assertThrows(IllegalStateException.class, () -> escaped.get().fork(() -> Result.okOf(1)));
+    }
+
+    @Test
+    void bindingScope() {
+        var never = new CountDownLatch(1);
+        var bothRunning = new CountDownLatch(2);
+        var sum = Result.bindingScope(String.class, scope -> {
+            var first = scope.fork(meeting(bothRunning, 1));
+            var second = scope.fork(meeting(bothRunning, 2));
+            return first.bind() + second.bind() + Result.<Integer, String>okOf(3).bind();
+        });
+        assertEquals(6, sum.unwrap());
+
+        var interrupted = new CountDownLatch(1);
+        var failed = Result.bindingScope(String.class, scope -> {
+            var slow = scope.fork(sleeping(60_000, Result.okOf(1), interrupted));
+            var bad = scope.fork(sleeping(10, Result.errOf("bad"), never));
+            return slow.bind() + bad.bind();
+        });
+        assertEquals("bad", failed.unwrapError());
+        assertDoesNotThrow(() -> assertTrue(interrupted.await(10, TimeUnit.SECONDS)));
+
+        var unbound = Result.bindingScope(String.class, scope -> {
+            var bad = scope.fork(sleeping(0, Result.errOf("unbound"), never));
+            assertDoesNotThrow(() -> Thread.sleep(50));
+            assertTrue(bad.isDone());
+            var late = scope.fork(sleeping(0, Result.okOf(1), never));
+            assertTrue(late.isDone());
+            return 1;
+        });
+        assertEquals("unbound", unbound.unwrapError());
+
+        var plain = Result.bindingScope(String.class, scope -> Result.<Integer, String>errOf("plain").bind());
+        assertEquals("plain", plain.unwrapError());
+
+        assertThrows(IllegalStateException.class, () -> Result.bindingScope(String.class, scope -> {
+            var thrown = scope.<Integer>fork(() -> { throw new IllegalStateException(); });
+            return thrown.bind();
+        }));
+    }
+}
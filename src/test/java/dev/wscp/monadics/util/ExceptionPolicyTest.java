@@ -0,0 +1,92 @@
+package dev.wscp.monadics.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExceptionPolicyTest {
+    @Test
+    void parse() {
+        assertEquals(ExceptionPolicy.FULL, ExceptionPolicy.parse(null));
+        assertEquals(ExceptionPolicy.FULL, ExceptionPolicy.parse("unknown"));
+        assertEquals(ExceptionPolicy.STACKLESS, ExceptionPolicy.parse(" Stackless "));
+        assertEquals(ExceptionPolicy.FULL, ExceptionPolicy.parse("full"));
+        assertEquals(ExceptionPolicy.FULL, ExceptionPolicy.defaultPolicy());
+    }
+
+    @Test
+    void stacklessUnwrapException() {
+        var stackless = new UnwrapException(() -> "stackless", ExceptionPolicy.STACKLESS);
+        assertEquals(0, stackless.getStackTrace().length);
+        assertSame(stackless, stackless.fillInStackTrace());
+        assertEquals(0, stackless.getStackTrace().length);
+
+        var full = new UnwrapException(() -> "full", ExceptionPolicy.FULL);
+        assertNotEquals(0, full.getStackTrace().length);
+        assertEquals(ExceptionPolicyTest.class.getName(), full.getStackTrace()[0].getClassName());
+        assertNotEquals(0, new UnwrapException("eager").getStackTrace().length);
+    }
+
+    @Test
+    void stacklessSubclass() {
+        class Escape extends UnwrapException {
+            Escape(boolean writableStackTrace) {
+                super("escape", writableStackTrace);
+            }
+        }
+        var stackless = new Escape(false);
+        assertEquals(0, stackless.getStackTrace().length);
+        assertEquals("escape", stackless.getMessage());
+        assertNull(stackless.getCause());
+        assertNotEquals(0, new Escape(true).getStackTrace().length);
+    }
+
+    @Test
+    void lazyMessages() {
+        var formatted = new AtomicInteger();
+        var exception = new UnwrapException(() -> "formatted " + formatted.incrementAndGet(), ExceptionPolicy.STACKLESS);
+        assertEquals(0, formatted.get());
+        assertEquals("formatted 1", exception.getMessage());
+        assertEquals("formatted 1", exception.getMessage());
+        assertEquals(UnwrapException.class.getName() + ": formatted 1", exception.toString());
+        assertEquals("eager", new UnwrapException("eager").getMessage());
+
+        var rethrow = new ResultRethrowException(() -> "wrapped " + formatted.incrementAndGet(), 3, ExceptionPolicy.STACKLESS);
+        assertEquals(1, formatted.get());
+        assertEquals(0, rethrow.getStackTrace().length);
+        assertEquals(3, rethrow.originalErr);
+        assertEquals("wrapped 2", rethrow.getMessage());
+        assertEquals("wrapped 2", rethrow.getMessage());
+        assertEquals("eager", new ResultRethrowException("eager").getMessage());
+    }
+
+    @Test
+    void causeCanStillBeInitialised() {
+        var cause = new IllegalStateException("cause");
+        assertSame(cause, new UnwrapException("eager").initCause(cause).getCause());
+        assertSame(cause, new UnwrapException().initCause(cause).getCause());
+        assertSame(cause, new UnwrapException(() -> "lazy", ExceptionPolicy.STACKLESS).initCause(cause).getCause());
+        var withCause = new UnwrapException("eager", cause);
+        assertThrows(IllegalStateException.class, () -> withCause.initCause(cause));
+        assertSame(cause, new UnwrapException(cause).getCause());
+        assertNotEquals(0, new UnwrapException(cause).getStackTrace().length);
+    }
+
+    @Test
+    void lazyMessagesSurviveSerialization() throws Exception {
+        var exception = new UnwrapException(() -> "serialized", ExceptionPolicy.STACKLESS);
+        var bytes = new ByteArrayOutputStream();
+        try (var out = new ObjectOutputStream(bytes)) {
+            out.writeObject(exception);
+        }
+        try (var in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertEquals("serialized", ((UnwrapException) in.readObject()).getMessage());
+        }
+    }
+}